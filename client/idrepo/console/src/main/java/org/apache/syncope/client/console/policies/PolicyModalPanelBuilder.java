@@ -193,6 +193,24 @@ public class PolicyModalPanelBuilder<T extends PolicyTO> extends AbstractModalPa
                             new PropertyModel<>(policyTO, "fetchAroundProvisioning"),
                             false));
 
+                    fields.add(new AjaxCheckBoxPanel(
+                            "field",
+                            "skipFetchBefore",
+                            new PropertyModel<>(policyTO, "skipFetchBefore"),
+                            false));
+
+                    fields.add(new AjaxCheckBoxPanel(
+                            "field",
+                            "deferFetchAfter",
+                            new PropertyModel<>(policyTO, "deferFetchAfter"),
+                            false));
+
+                    fields.add(new AjaxCheckBoxPanel(
+                            "field",
+                            "coalesceUpdates",
+                            new PropertyModel<>(policyTO, "coalesceUpdates"),
+                            false));
+
                     fields.add(new AjaxCheckBoxPanel(
                             "field",
                             "updateDelta",
@@ -55,9 +55,17 @@ public interface SRARouteService extends JAXRSService {
 
     /**
      * Returns a list of all existing routes.
+     * The {@code ETag} response header value is computed on the basis of the returned routes, hence it only changes
+     * when any route is created, updated or deleted.
      *
      * @return paged list of existing routes matching the given query
      */
+    @ApiResponses(
+            @ApiResponse(responseCode = "200",
+                    description = "List of existing routes", headers =
+                    @Header(name = HttpHeaders.ETAG, schema =
+                            @Schema(type = "string"),
+                            description = "Opaque identifier for the latest state of routes")))
     @GET
     @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     List<SRARouteTO> list();
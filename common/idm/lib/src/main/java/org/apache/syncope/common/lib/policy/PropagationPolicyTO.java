@@ -30,6 +30,12 @@ public class PropagationPolicyTO extends PolicyTO {
 
     private boolean fetchAroundProvisioning = true;
 
+    private boolean skipFetchBefore = false;
+
+    private boolean deferFetchAfter = false;
+
+    private boolean coalesceUpdates = false;
+
     private boolean updateDelta = false;
 
     private BackOffStrategy backOffStrategy = BackOffStrategy.FIXED;
@@ -55,6 +61,30 @@ public class PropagationPolicyTO extends PolicyTO {
         this.fetchAroundProvisioning = fetchAroundProvisioning;
     }
 
+    public boolean isSkipFetchBefore() {
+        return skipFetchBefore;
+    }
+
+    public void setSkipFetchBefore(final boolean skipFetchBefore) {
+        this.skipFetchBefore = skipFetchBefore;
+    }
+
+    public boolean isDeferFetchAfter() {
+        return deferFetchAfter;
+    }
+
+    public void setDeferFetchAfter(final boolean deferFetchAfter) {
+        this.deferFetchAfter = deferFetchAfter;
+    }
+
+    public boolean isCoalesceUpdates() {
+        return coalesceUpdates;
+    }
+
+    public void setCoalesceUpdates(final boolean coalesceUpdates) {
+        this.coalesceUpdates = coalesceUpdates;
+    }
+
     public boolean isUpdateDelta() {
         return updateDelta;
     }
@@ -43,6 +43,10 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
 
     private long totalCount;
 
+    private String cursor;
+
+    private boolean hasNext;
+
     public URI getPrev() {
         return prev;
     }
@@ -89,6 +93,22 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         this.totalCount = totalCount;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(final String cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(final boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -98,6 +118,8 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
                 append(page).
                 append(size).
                 append(totalCount).
+                append(cursor).
+                append(hasNext).
                 build();
     }
 
@@ -121,6 +143,8 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
                 append(page, other.page).
                 append(size, other.size).
                 append(totalCount, other.totalCount).
+                append(cursor, other.cursor).
+                append(hasNext, other.hasNext).
                 build();
     }
 }
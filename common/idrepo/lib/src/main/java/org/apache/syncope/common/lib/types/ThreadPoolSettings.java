@@ -30,6 +30,10 @@ public class ThreadPoolSettings implements Serializable {
 
     private int poolSize = Integer.MAX_VALUE;
 
+    private boolean orderedByKey;
+
+    private int maxInFlight = Integer.MAX_VALUE;
+
     public int getPoolSize() {
         return poolSize;
     }
@@ -38,10 +42,34 @@ public class ThreadPoolSettings implements Serializable {
         this.poolSize = poolSize;
     }
 
+    /**
+     * @return whether items sharing the same key (connector object UID or entity key) are handled in order
+     */
+    public boolean isOrderedByKey() {
+        return orderedByKey;
+    }
+
+    public void setOrderedByKey(final boolean orderedByKey) {
+        this.orderedByKey = orderedByKey;
+    }
+
+    /**
+     * @return maximum number of items submitted but not yet handled; further submissions wait for capacity
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
                 append(poolSize).
+                append(orderedByKey).
+                append(maxInFlight).
                 build();
     }
 
@@ -59,6 +87,8 @@ public class ThreadPoolSettings implements Serializable {
         final ThreadPoolSettings other = (ThreadPoolSettings) obj;
         return new EqualsBuilder().
                 append(poolSize, other.poolSize).
+                append(orderedByKey, other.orderedByKey).
+                append(maxInFlight, other.maxInFlight).
                 build();
     }
 
@@ -66,6 +96,8 @@ public class ThreadPoolSettings implements Serializable {
     public String toString() {
         return new ToStringBuilder(this, ToStringStyle.SIMPLE_STYLE).
                 append(poolSize).
+                append(orderedByKey).
+                append(maxInFlight).
                 build();
     }
 }
@@ -83,6 +83,16 @@ public final class RESTHeaders {
      */
     public static final MediaType TEXT_CSV_TYPE = new MediaType("text", "csv");
 
+    /**
+     * Mediatype for newline-delimited JSON, not defined in {@link jakarta.ws.rs.core.MediaType}.
+     */
+    public static final String APPLICATION_X_NDJSON = "application/x-ndjson";
+
+    /**
+     * Mediatype for newline-delimited JSON, not defined in {@link jakarta.ws.rs.core.MediaType}.
+     */
+    public static final MediaType APPLICATION_X_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+
     /**
      * Mediatype for multipart/mixed, not defined in {@link jakarta.ws.rs.core.MediaType}.
      */
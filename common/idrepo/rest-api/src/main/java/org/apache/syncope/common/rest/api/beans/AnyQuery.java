@@ -60,6 +60,16 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder cursor(final String cursor) {
+            getInstance().setCursor(cursor);
+            return this;
+        }
+
+        public Builder count(final boolean count) {
+            getInstance().setCount(count);
+            return this;
+        }
     }
 
     private String realm;
@@ -70,6 +80,10 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private String cursor;
+
+    private Boolean count;
+
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
             + "primarily meant for containing Users, Groups and Any Objects", schema =
             @Schema(implementation = String.class, defaultValue = SyncopeConstants.ROOT_REALM, externalDocs =
@@ -127,6 +141,33 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    @Parameter(name = JAXRSService.PARAM_CURSOR, description = "opaque token, as returned by a previous search, "
+            + "to get the results following those already received; results are sorted by key and both page and "
+            + "orderby are ignored: specify an empty value to start from the beginning", schema =
+            @Schema(implementation = String.class))
+    public String getCursor() {
+        return cursor;
+    }
+
+    @QueryParam(JAXRSService.PARAM_CURSOR)
+    public void setCursor(final String cursor) {
+        this.cursor = cursor;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_COUNT, description = "whether the total number of matching entities shall "
+            + "be computed; if false, the total count is reported as -1 and only whether a next page is available "
+            + "is returned, which is faster on large data sets", schema =
+            @Schema(implementation = Boolean.class))
+    public Boolean getCount() {
+        return Optional.ofNullable(count).orElse(Boolean.TRUE);
+    }
+
+    @QueryParam(JAXRSService.PARAM_COUNT)
+    @DefaultValue("true")
+    public void setCount(final Boolean count) {
+        this.count = count;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -144,6 +185,8 @@ public class AnyQuery extends AbstractQuery {
                 append(realm, other.realm).
                 append(details, other.details).
                 append(fiql, other.fiql).
+                append(cursor, other.cursor).
+                append(count, other.count).
                 build();
     }
 
@@ -154,6 +197,8 @@ public class AnyQuery extends AbstractQuery {
                 append(realm).
                 append(details).
                 append(fiql).
+                append(cursor).
+                append(count).
                 build();
     }
 }
@@ -133,4 +133,15 @@ public interface AuditService extends JAXRSService {
     @Path("auditEvents")
     @Consumes({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     void create(@NotNull AuditEventTO auditEvent);
+
+    /**
+     * Persist the given audit events, all at once: events are accepted only if the caller is allowed to create each
+     * of them.
+     *
+     * @param auditEvents audit events to persist.
+     */
+    @POST
+    @Path("auditEvents/bulk")
+    @Consumes({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    void bulkCreate(@NotNull List<AuditEventTO> auditEvents);
 }
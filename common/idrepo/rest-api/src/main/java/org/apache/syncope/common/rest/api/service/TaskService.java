@@ -148,6 +148,8 @@ public interface TaskService extends ExecutableService {
     /**
      * Deletes all the propagation tasks whose latest execution is matching the given conditions.
      * At least one matching condition must be specified.
+     * When either {@link RESTHeaders#APPLICATION_X_NDJSON} or {@link RESTHeaders#TEXT_CSV} is explicitly requested,
+     * deleted propagation tasks are streamed back while purging, rather than collected into a single list.
      *
      * @param since match all executions started afterwards
      * @param statuses execution status(es) to match
@@ -159,7 +161,8 @@ public interface TaskService extends ExecutableService {
         @ApiResponse(responseCode = "412", description = "At least one matching condition must be specified") })
     @DELETE
     @Path("PROPAGATION/purge")
-    @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML,
+        RESTHeaders.APPLICATION_X_NDJSON, RESTHeaders.TEXT_CSV })
     Response purgePropagations(
             @QueryParam("since") OffsetDateTime since,
             @QueryParam("statuses") List<ExecStatus> statuses,
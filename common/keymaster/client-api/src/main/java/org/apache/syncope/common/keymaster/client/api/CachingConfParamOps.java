@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.api;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * {@link ConfParamOps} decorator caching what is read from the delegate for the configured time to live.
+ * Cached values are invalidated by {@link #set(String, String, Object)} and {@link #remove(String, String)}, by
+ * {@link ConfParamChangeEvent} and by explicit calls to {@link #invalidate(String, String)}, which are meant for
+ * changes made elsewhere.
+ */
+public class CachingConfParamOps implements ConfParamOps, ApplicationListener<ConfParamChangeEvent> {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ConfParamOps.class);
+
+    protected record ValueKey(String domain, String key, Class<?> reference) {
+
+    }
+
+    protected record Cached<V>(V value, long expiresAt) {
+
+        boolean isValid(final long now) {
+            return now < expiresAt;
+        }
+    }
+
+    protected static Object copy(final Object value) {
+        if (value instanceof Object[] array) {
+            return array.clone();
+        }
+        if (value instanceof Date date) {
+            return new Date(date.getTime());
+        }
+        return value;
+    }
+
+    protected final ConfParamOps delegate;
+
+    protected final long ttl;
+
+    protected final Map<ValueKey, Cached<Object>> values = new ConcurrentHashMap<>();
+
+    protected final Map<String, Cached<Map<String, Object>>> lists = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented upon each invalidation, to avoid caching values read while an invalidation was in progress.
+     */
+    protected final AtomicLong generation = new AtomicLong();
+
+    protected final AtomicLong hits = new AtomicLong();
+
+    protected final AtomicLong misses = new AtomicLong();
+
+    public CachingConfParamOps(final ConfParamOps delegate, final Duration ttl) {
+        this.delegate = delegate;
+        this.ttl = ttl.toMillis();
+    }
+
+    public ConfParamOps getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Map<String, Object> list(final String domain) {
+        long now = System.currentTimeMillis();
+
+        Cached<Map<String, Object>> cached = lists.get(domain);
+        if (cached != null && cached.isValid(now)) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+
+            long gen = generation.get();
+            cached = new Cached<>(delegate.list(domain), now + ttl);
+            if (gen == generation.get()) {
+                lists.put(domain, cached);
+            }
+        }
+
+        return new TreeMap<>(cached.value());
+    }
+
+    @Override
+    public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
+        long now = System.currentTimeMillis();
+
+        ValueKey valueKey = new ValueKey(domain, key, reference);
+        Cached<Object> cached = values.get(valueKey);
+        if (cached != null && cached.isValid(now)) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+
+            long gen = generation.get();
+            cached = new Cached<>(delegate.get(domain, key, null, reference), now + ttl);
+            if (gen == generation.get()) {
+                values.put(valueKey, cached);
+            }
+        }
+
+        return Optional.ofNullable(reference.cast(copy(cached.value()))).orElse(defaultValue);
+    }
+
+    @Override
+    public <T> void set(final String domain, final String key, final T value) {
+        try {
+            delegate.set(domain, key, value);
+        } finally {
+            invalidate(domain, key);
+        }
+    }
+
+    @Override
+    public void remove(final String domain, final String key) {
+        try {
+            delegate.remove(domain, key);
+        } finally {
+            invalidate(domain, key);
+        }
+    }
+
+    /**
+     * Invalidates the cached values for the given domain and key.
+     *
+     * @param domain domain, or {@code null} to match any domain
+     * @param key key, or {@code null} to match any key
+     */
+    public void invalidate(final String domain, final String key) {
+        LOG.debug("Invalidating cached values for domain {} and key {}", domain, key);
+
+        generation.incrementAndGet();
+        values.keySet().removeIf(valueKey -> (domain == null || domain.equals(valueKey.domain()))
+                && (key == null || key.equals(valueKey.key())));
+        if (domain == null) {
+            lists.clear();
+        } else {
+            lists.remove(domain);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidate(null, null);
+    }
+
+    @Override
+    public void onApplicationEvent(final ConfParamChangeEvent event) {
+        invalidate(event.getDomain(), event.getKey());
+    }
+
+    public Map<String, Object> getStatistics() {
+        return Map.of(
+                "hits", hits.get(),
+                "misses", misses.get(),
+                "values", values.size(),
+                "lists", lists.size(),
+                "ttl", Duration.ofMillis(ttl).toString());
+    }
+
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.common.keymaster.client.api;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties("keymaster")
@@ -35,6 +36,8 @@ public class KeymasterProperties {
 
     private boolean enableAutoRegistration = true;
 
+    private Duration confParamCacheTtl = Duration.ofSeconds(60);
+
     public String getAddress() {
         return address;
     }
@@ -82,4 +85,12 @@ public class KeymasterProperties {
     public void setEnableAutoRegistration(final boolean enableAutoRegistration) {
         this.enableAutoRegistration = enableAutoRegistration;
     }
+
+    public Duration getConfParamCacheTtl() {
+        return confParamCacheTtl;
+    }
+
+    public void setConfParamCacheTtl(final Duration confParamCacheTtl) {
+        this.confParamCacheTtl = confParamCacheTtl;
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.zookeeper;
+
+import java.time.Duration;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.CuratorCache;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * {@link CachingConfParamOps} for {@link ZookeeperConfParamOps}, watching the configuration tree to invalidate
+ * cached values as soon as they are changed by any other node.
+ */
+public class ZookeeperCachingConfParamOps extends CachingConfParamOps implements InitializingBean, DisposableBean {
+
+    protected final CuratorFramework client;
+
+    protected CuratorCache cache;
+
+    public ZookeeperCachingConfParamOps(
+            final ZookeeperConfParamOps delegate,
+            final CuratorFramework client,
+            final Duration ttl) {
+
+        super(delegate, ttl);
+        this.client = client;
+    }
+
+    protected void invalidate(final ChildData data) {
+        if (data == null) {
+            return;
+        }
+
+        // path is either /conf, /conf/{domain} or /conf/{domain}/{key}
+        String[] parts = StringUtils.split(
+                StringUtils.removeStart(data.getPath(), ZookeeperConfParamOps.CONF_PATH), '/');
+        switch (parts.length) {
+            case 0 ->
+                invalidateAll();
+
+            case 1 ->
+                invalidate(parts[0], null);
+
+            default ->
+                invalidate(parts[0], parts[1]);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (client.checkExists().forPath(ZookeeperConfParamOps.CONF_PATH) == null) {
+            client.create().creatingParentContainersIfNeeded().forPath(ZookeeperConfParamOps.CONF_PATH);
+        }
+
+        cache = CuratorCache.build(client, ZookeeperConfParamOps.CONF_PATH);
+        cache.listenable().addListener((type, oldData, newData) -> {
+            LOG.debug("Event {} received for {}", type, newData == null ? oldData : newData);
+
+            invalidate(oldData);
+            invalidate(newData);
+        });
+        cache.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (cache != null) {
+            cache.close();
+        }
+    }
+}
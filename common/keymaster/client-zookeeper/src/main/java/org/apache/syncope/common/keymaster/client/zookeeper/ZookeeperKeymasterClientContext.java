@@ -111,8 +111,11 @@ public class ZookeeperKeymasterClientContext {
 
     @Conditional(ZookeeperCondition.class)
     @Bean
-    public ConfParamOps selfConfParamOps(final CuratorFramework client) {
-        return new ZookeeperConfParamOps(client);
+    public ConfParamOps selfConfParamOps(final CuratorFramework client, final KeymasterProperties props) {
+        ZookeeperConfParamOps confParamOps = new ZookeeperConfParamOps(client);
+        return props.getConfParamCacheTtl().isPositive()
+                ? new ZookeeperCachingConfParamOps(confParamOps, client, props.getConfParamCacheTtl())
+                : confParamOps;
     }
 
     @Conditional(ZookeeperCondition.class)
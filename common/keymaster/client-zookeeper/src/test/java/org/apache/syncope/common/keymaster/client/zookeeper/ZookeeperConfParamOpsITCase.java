@@ -18,8 +18,10 @@
  */
 package org.apache.syncope.common.keymaster.client.zookeeper;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -28,6 +30,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.curator.framework.CuratorFramework;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +45,9 @@ public class ZookeeperConfParamOpsITCase {
     @Autowired
     private ConfParamOps confParamOps;
 
+    @Autowired
+    private CuratorFramework client;
+
     @Test
     public void list() {
         Map<String, Object> confParams = confParamOps.list(DOMAIN);
@@ -119,4 +126,22 @@ public class ZookeeperConfParamOpsITCase {
         assertNull(confParamOps.get(DOMAIN, key, null, String.class));
         assertEquals("defaultValue", confParamOps.get(DOMAIN, key, "defaultValue", String.class));
     }
+
+    @Test
+    public void cacheInvalidation() {
+        assertInstanceOf(ZookeeperCachingConfParamOps.class, confParamOps);
+
+        String key = UUID.randomUUID().toString();
+        assertNull(confParamOps.get(DOMAIN, key, null, String.class));
+
+        // change made without going through the cache, as if by another node
+        ZookeeperConfParamOps other = new ZookeeperConfParamOps(client);
+        other.set(DOMAIN, key, "value");
+        await().atMost(10, TimeUnit.SECONDS).pollInterval(100, TimeUnit.MILLISECONDS).
+                until(() -> "value".equals(confParamOps.get(DOMAIN, key, null, String.class)));
+
+        other.remove(DOMAIN, key);
+        await().atMost(10, TimeUnit.SECONDS).pollInterval(100, TimeUnit.MILLISECONDS).
+                until(() -> confParamOps.get(DOMAIN, key, null, String.class) == null);
+    }
 }
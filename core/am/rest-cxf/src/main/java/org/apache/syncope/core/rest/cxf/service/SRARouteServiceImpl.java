@@ -18,14 +18,20 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.RuntimeDelegate;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.SRARouteService;
 import org.apache.syncope.core.logic.SRARouteLogic;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
 @Service
 public class SRARouteServiceImpl extends AbstractService implements SRARouteService {
@@ -38,7 +44,16 @@ public class SRARouteServiceImpl extends AbstractService implements SRARouteServ
 
     @Override
     public List<SRARouteTO> list() {
-        return logic.list();
+        List<SRARouteTO> routes = logic.list();
+
+        // content-based ETag, allowing SRA to tell whether anything has changed since last fetch
+        EntityTag etag = new EntityTag(DigestUtils.md5DigestAsHex(
+                POJOHelper.serialize(routes).getBytes(StandardCharsets.UTF_8)));
+        messageContext.getHttpServletResponse().setHeader(
+                HttpHeaders.ETAG,
+                RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).toString(etag));
+
+        return routes;
     }
 
     @Override
@@ -21,7 +21,9 @@ package org.apache.syncope.core.logic;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyCR;
@@ -32,13 +34,18 @@ import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.logic.api.LogicActions;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.search.LookAheadPageRequest;
+import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.springframework.data.domain.Page;
@@ -215,12 +222,58 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
 
     public abstract TO read(String key);
 
+    /**
+     * Searches the given realm for entities matching the given condition.
+     *
+     * @param searchCond search condition
+     * @param pageable page request
+     * @param realm base realm
+     * @param recursive whether to search the given realm and all its descendants, or the given realm only
+     * @param details whether to include details in the returned entities
+     * @param count whether to count all matching entities; when {@code false}, the returned page reports {@code -1}
+     * as total number of elements, and {@link Page#hasNext()} is computed by fetching one more element than requested
+     * @return matching entities
+     */
     public abstract Page<TO> search(
             SearchCond searchCond,
             Pageable pageable,
             String realm,
             boolean recursive,
-            boolean details);
+            boolean details,
+            boolean count);
+
+    protected <A extends Any<?>> Page<TO> doSearch(
+            final AnySearchDAO searchDAO,
+            final Realm base,
+            final boolean recursive,
+            final Set<String> authRealms,
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final boolean count,
+            final AnyTypeKind kind,
+            final Function<List<A>, List<TO>> converter) {
+
+        if (count) {
+            long total = searchDAO.count(base, recursive, authRealms, searchCond, kind);
+
+            List<A> matching = searchDAO.search(base, recursive, authRealms, searchCond, pageable, kind);
+            return new SyncopePage<>(converter.apply(matching), pageable, total);
+        }
+
+        if (pageable.isUnpaged()) {
+            List<A> matching = searchDAO.search(base, recursive, authRealms, searchCond, pageable, kind);
+            return new SyncopePage<>(converter.apply(matching), pageable, false);
+        }
+
+        // fetch one more element than requested, to find out whether a next page is available
+        List<A> matching = searchDAO.search(
+                base, recursive, authRealms, searchCond, LookAheadPageRequest.of(pageable), kind);
+        boolean hasNext = matching.size() > pageable.getPageSize();
+        return new SyncopePage<>(
+                converter.apply(hasNext ? matching.subList(0, pageable.getPageSize()) : matching),
+                pageable,
+                hasNext);
+    }
 
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
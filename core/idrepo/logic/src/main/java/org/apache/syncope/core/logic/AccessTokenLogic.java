@@ -31,10 +31,13 @@ import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
 import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.Encryptor;
 import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -62,14 +65,18 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
 
     protected final AccessTokenDAO accessTokenDAO;
 
+    protected final ApplicationEventPublisher publisher;
+
     public AccessTokenLogic(
             final SecurityProperties securityProperties,
             final AccessTokenDataBinder binder,
-            final AccessTokenDAO accessTokenDAO) {
+            final AccessTokenDAO accessTokenDAO,
+            final ApplicationEventPublisher publisher) {
 
         this.securityProperties = securityProperties;
         this.binder = binder;
         this.accessTokenDAO = accessTokenDAO;
+        this.publisher = publisher;
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -110,7 +117,11 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ACCESS_TOKEN_DELETE + "')")
     public void delete(final String key) {
-        accessTokenDAO.deleteById(key);
+        accessTokenDAO.findById(key).ifPresent(accessToken -> {
+            accessTokenDAO.delete(accessToken);
+            publisher.publishEvent(new EntityLifecycleEvent<>(
+                    this, SyncDeltaType.DELETE, accessToken, AuthContextUtils.getDomain()));
+        });
     }
 
     @Override
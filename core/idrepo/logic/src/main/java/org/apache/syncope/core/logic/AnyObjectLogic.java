@@ -50,7 +50,6 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
-import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
@@ -111,7 +110,8 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
             final Pageable pageable,
             final String realm,
             final boolean recursive,
-            final boolean details) {
+            final boolean details,
+            final boolean count) {
 
         if (searchCond.hasAnyTypeCond() == null) {
             throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
@@ -124,15 +124,18 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
                 AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
                 realm);
 
-        long count = searchDAO.count(base, recursive, authRealms, searchCond, AnyTypeKind.ANY_OBJECT);
-
-        List<AnyObject> matching = searchDAO.search(
-                base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT);
-        List<AnyObjectTO> result = matching.stream().
-                map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
-                toList();
-
-        return new SyncopePage<>(result, pageable, count);
+        return this.<AnyObject>doSearch(
+                searchDAO,
+                base,
+                recursive,
+                authRealms,
+                searchCond,
+                pageable,
+                count,
+                AnyTypeKind.ANY_OBJECT,
+                matching -> matching.stream().
+                        map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
+                        toList());
     }
 
     public ProvisioningResult<AnyObjectTO> create(final AnyObjectCR createReq, final boolean nullPriorityAsync) {
@@ -292,31 +292,48 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         return new SyncopePage<>(matching, pageable, count);
     }
 
-    @PreAuthorize("isAuthenticated()")
-    public void create(final AuditEventTO eventTO) {
-        boolean authorized =
-                AuthContextUtils.getAuthorizations().containsKey(IdRepoEntitlement.AUDIT_SET)
+    protected static boolean isCreateAllowed(final AuditEventTO eventTO) {
+        return AuthContextUtils.getAuthorizations().containsKey(IdRepoEntitlement.AUDIT_SET)
                 || AuthContextUtils.getAuthorizations().containsKey(IdRepoEntitlement.ANONYMOUS)
                 && OpEvent.CategoryType.WA == eventTO.getOpEvent().getType();
-        if (authorized) {
-            auditManager.audit(
-                    AuthContextUtils.getDomain(),
-                    eventTO.getWho(),
-                    eventTO.getOpEvent().getType(),
-                    eventTO.getOpEvent().getCategory(),
-                    eventTO.getOpEvent().getSubcategory(),
-                    eventTO.getOpEvent().getOp(),
-                    eventTO.getOpEvent().getOutcome(),
-                    eventTO.getBefore(),
-                    eventTO.getOutput(),
-                    eventTO.getInputs());
-        } else {
+    }
+
+    protected void doCreate(final AuditEventTO eventTO, final OffsetDateTime when) {
+        auditManager.audit(
+                AuthContextUtils.getDomain(),
+                eventTO.getWho(),
+                when,
+                eventTO.getOpEvent().getType(),
+                eventTO.getOpEvent().getCategory(),
+                eventTO.getOpEvent().getSubcategory(),
+                eventTO.getOpEvent().getOp(),
+                eventTO.getOpEvent().getOutcome(),
+                eventTO.getBefore(),
+                eventTO.getOutput(),
+                eventTO.getInputs());
+    }
+
+    protected void checkCreateAllowed(final List<AuditEventTO> eventTOs) {
+        if (!eventTOs.stream().allMatch(AuditLogic::isCreateAllowed)) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.DelegatedAdministration);
             sce.getElements().add("Not allowed to create Audit entries");
             throw sce;
         }
     }
 
+    @PreAuthorize("isAuthenticated()")
+    public void create(final AuditEventTO eventTO) {
+        checkCreateAllowed(List.of(eventTO));
+        doCreate(eventTO, OffsetDateTime.now());
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public void bulkCreate(final List<AuditEventTO> eventTOs) {
+        checkCreateAllowed(eventTOs);
+        // events replayed by clients keep their reported time, unless AuditManager finds it too far from now
+        eventTOs.forEach(eventTO -> doCreate(eventTO, eventTO.getWhen()));
+    }
+
     @Override
     protected AuditConfTO resolveReference(final Method method, final Object... args)
             throws UnresolvedReferenceException {
@@ -31,8 +31,11 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.Delegation;
 import org.apache.syncope.core.provisioning.api.data.DelegationDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,14 +47,18 @@ public class DelegationLogic extends AbstractTransactionalLogic<DelegationTO> {
 
     protected final UserDAO userDAO;
 
+    protected final ApplicationEventPublisher publisher;
+
     public DelegationLogic(
             final DelegationDataBinder binder,
             final DelegationDAO delegationDAO,
-            final UserDAO userDAO) {
+            final UserDAO userDAO,
+            final ApplicationEventPublisher publisher) {
 
         this.binder = binder;
         this.delegationDAO = delegationDAO;
         this.userDAO = userDAO;
+        this.publisher = publisher;
     }
 
     protected void securityChecks(final String delegating, final String entitlement) {
@@ -113,7 +120,10 @@ public class DelegationLogic extends AbstractTransactionalLogic<DelegationTO> {
 
         securityChecks(delegation.getDelegating().getKey(), IdRepoEntitlement.DELEGATION_UPDATE);
 
-        return binder.getDelegationTO(delegationDAO.save(binder.update(delegation, delegationTO)));
+        Delegation updated = delegationDAO.save(binder.update(delegation, delegationTO));
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, updated, AuthContextUtils.getDomain()));
+        return binder.getDelegationTO(updated);
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -125,6 +135,8 @@ public class DelegationLogic extends AbstractTransactionalLogic<DelegationTO> {
 
         DelegationTO deleted = binder.getDelegationTO(delegation);
         delegationDAO.deleteById(key);
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, delegation, AuthContextUtils.getDomain()));
         return deleted;
     }
 
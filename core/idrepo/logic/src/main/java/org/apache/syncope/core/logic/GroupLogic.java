@@ -58,7 +58,6 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
-import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
 import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
@@ -165,7 +164,8 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
             final Pageable pageable,
             final String realm,
             final boolean recursive,
-            final boolean details) {
+            final boolean details,
+            final boolean count) {
 
         Realm base = realmSearchDAO.findByFullPath(realm).
                 orElseThrow(() -> new NotFoundException("Realm " + realm));
@@ -175,15 +175,18 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
 
         SearchCond effectiveCond = searchCond == null ? groupDAO.getAllMatchingCond() : searchCond;
 
-        long count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP);
-
-        List<Group> matching = searchDAO.search(
-                base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP);
-        List<GroupTO> result = matching.stream().
-                map(group -> binder.getGroupTO(group, details)).
-                toList();
-
-        return new SyncopePage<>(result, pageable, count);
+        return this.<Group>doSearch(
+                searchDAO,
+                base,
+                recursive,
+                authRealms,
+                effectiveCond,
+                pageable,
+                count,
+                AnyTypeKind.GROUP,
+                matching -> matching.stream().
+                        map(group -> binder.getGroupTO(group, details)).
+                        toList());
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_CREATE + "')")
@@ -100,9 +100,11 @@ import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @EnableAspectJAutoProxy(proxyTargetClass = false)
 @Configuration(proxyBeanMethods = false)
@@ -148,9 +150,10 @@ public class IdRepoLogicContext {
     public AccessTokenLogic accessTokenLogic(
             final AccessTokenDataBinder binder,
             final AccessTokenDAO accessTokenDAO,
-            final SecurityProperties securityProperties) {
+            final SecurityProperties securityProperties,
+            final ApplicationEventPublisher publisher) {
 
-        return new AccessTokenLogic(securityProperties, binder, accessTokenDAO);
+        return new AccessTokenLogic(securityProperties, binder, accessTokenDAO, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -245,9 +248,10 @@ public class IdRepoLogicContext {
     public DelegationLogic delegationLogic(
             final DelegationDataBinder binder,
             final UserDAO userDAO,
-            final DelegationDAO delegationDAO) {
+            final DelegationDAO delegationDAO,
+            final ApplicationEventPublisher publisher) {
 
-        return new DelegationLogic(binder, delegationDAO, userDAO);
+        return new DelegationLogic(binder, delegationDAO, userDAO, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -414,9 +418,10 @@ public class IdRepoLogicContext {
     @Bean
     public RoleLogic roleLogic(
             final RoleDataBinder binder,
-            final RoleDAO roleDAO) {
+            final RoleDAO roleDAO,
+            final ApplicationEventPublisher publisher) {
 
-        return new RoleLogic(binder, roleDAO);
+        return new RoleLogic(binder, roleDAO, publisher);
     }
 
     @ConditionalOnMissingBean
@@ -476,7 +481,8 @@ public class IdRepoLogicContext {
             final NotificationJobDelegate notificationJobDelegate,
             final TaskDataBinder taskDataBinder,
             final TaskUtilsFactory taskUtilsFactory,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final PlatformTransactionManager transactionManager) {
 
         return new TaskLogic(
                 jobManager,
@@ -489,7 +495,8 @@ public class IdRepoLogicContext {
                 taskDataBinder,
                 taskExecutor,
                 notificationJobDelegate,
-                taskUtilsFactory);
+                taskUtilsFactory,
+                transactionManager);
     }
 
     @ConditionalOnMissingBean
@@ -30,6 +30,10 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.provisioning.api.data.RoleDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,9 +43,12 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
 
     protected final RoleDAO roleDAO;
 
-    public RoleLogic(final RoleDataBinder binder, final RoleDAO roleDAO) {
+    protected final ApplicationEventPublisher publisher;
+
+    public RoleLogic(final RoleDataBinder binder, final RoleDAO roleDAO, final ApplicationEventPublisher publisher) {
         this.binder = binder;
         this.roleDAO = roleDAO;
+        this.publisher = publisher;
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ROLE_READ + "')")
@@ -68,7 +75,10 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
         Role role = roleDAO.findById(roleTO.getKey()).
                 orElseThrow(() -> new NotFoundException("Role " + roleTO.getKey()));
 
-        return binder.getRoleTO(binder.update(role, roleTO));
+        Role updated = binder.update(role, roleTO);
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, updated, AuthContextUtils.getDomain()));
+        return binder.getRoleTO(updated);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ROLE_DELETE + "')")
@@ -83,6 +93,8 @@ public class RoleLogic extends AbstractTransactionalLogic<RoleTO> {
 
         RoleTO deleted = binder.getRoleTO(role);
         roleDAO.delete(role);
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.DELETE, role, AuthContextUtils.getDomain()));
         return deleted;
     }
 
@@ -18,8 +18,16 @@
  */
 package org.apache.syncope.core.logic;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -71,6 +79,7 @@ import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.provisioning.java.job.MacroJobDelegate;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
@@ -81,10 +90,26 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
+    protected static final CsvSchema PURGED_PROPAGATIONS_CSV_SCHEMA = CsvSchema.builder().setUseHeader(true).
+            addColumn("operation").
+            addColumn("connObjectKey").
+            addColumn("oldConnObjectKey").
+            addColumn("resource").
+            addColumn("objectClassName").
+            addColumn("anyTypeKind").
+            addColumn("anyType").
+            addColumn("entityKey").
+            addColumn("propagationData").
+            build();
+
     protected final TaskDAO taskDAO;
 
     protected final TaskExecDAO taskExecDAO;
@@ -101,6 +126,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
 
     protected final TaskUtilsFactory taskUtilsFactory;
 
+    protected final TransactionTemplate purgeTxTemplate;
+
     public TaskLogic(
             final JobManager jobManager,
             final SyncopeTaskScheduler scheduler,
@@ -112,7 +139,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
             final TaskDataBinder binder,
             final PropagationTaskExecutor taskExecutor,
             final NotificationJobDelegate notificationJobDelegate,
-            final TaskUtilsFactory taskUtilsFactory) {
+            final TaskUtilsFactory taskUtilsFactory,
+            final PlatformTransactionManager transactionManager) {
 
         super(jobManager, scheduler, jobStatusDAO);
 
@@ -124,6 +152,8 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
         this.taskExecutor = taskExecutor;
         this.notificationJobDelegate = notificationJobDelegate;
         this.taskUtilsFactory = taskUtilsFactory;
+        this.purgeTxTemplate = new TransactionTemplate(transactionManager);
+        this.purgeTxTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     protected void securityChecks(final String entitlement, final String realm) {
@@ -568,6 +598,61 @@ public class TaskLogic extends AbstractExecutableLogic<TaskTO> {
         return taskDAO.purgePropagations(since, statuses, resources);
     }
 
+    /**
+     * Deletes, by chunks, all the propagation tasks matching the given conditions; each chunk is committed in its
+     * own transaction, then its deleted tasks are written to the given output stream, either as CSV rows or as
+     * newline-delimited JSON.
+     *
+     * @param since match all executions started afterwards
+     * @param statuses execution status(es) to match
+     * @param resources external resource(s) to match
+     * @param csv whether CSV or newline-delimited JSON shall be generated
+     * @param os output stream
+     * @return number of deleted propagation tasks
+     */
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.TASK_DELETE + "')")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long purgePropagations(
+            final OffsetDateTime since,
+            final List<ExecStatus> statuses,
+            final List<String> resources,
+            final boolean csv,
+            final OutputStream os) {
+
+        try (SequenceWriter writer = csv
+                ? new CsvMapper().configure(JsonGenerator.Feature.IGNORE_UNKNOWN, true).
+                        writerFor(PropagationTaskTO.class).with(PURGED_PROPAGATIONS_CSV_SCHEMA).writeValues(os)
+                : null) {
+
+            long purged = 0;
+            List<PropagationTaskTO> chunk;
+            do {
+                chunk = purgeTxTemplate.execute(status -> taskDAO.purgePropagationsChunk(
+                        since, statuses, resources, TaskDAO.DEFAULT_PURGE_CHUNK_SIZE));
+
+                for (PropagationTaskTO taskTO : chunk) {
+                    if (writer == null) {
+                        os.write(POJOHelper.serialize(taskTO).getBytes(StandardCharsets.UTF_8));
+                        os.write('\n');
+                    } else {
+                        writer.write(taskTO);
+                    }
+                }
+                if (writer == null) {
+                    os.flush();
+                } else {
+                    writer.flush();
+                }
+
+                purged += chunk.size();
+            } while (chunk.size() == TaskDAO.DEFAULT_PURGE_CHUNK_SIZE);
+
+            return purged;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     protected TaskTO resolveReference(final Method method, final Object... args)
             throws UnresolvedReferenceException {
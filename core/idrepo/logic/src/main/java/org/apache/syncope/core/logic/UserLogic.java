@@ -69,7 +69,6 @@ import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
 import org.apache.syncope.core.persistence.api.entity.user.User;
-import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
@@ -171,7 +170,8 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
             final Pageable pageable,
             final String realm,
             final boolean recursive,
-            final boolean details) {
+            final boolean details,
+            final boolean count) {
 
         Realm base = realmSearchDAO.findByFullPath(realm).
                 orElseThrow(() -> new NotFoundException("Realm " + realm));
@@ -181,15 +181,16 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
 
         SearchCond effectiveCond = searchCond == null ? userDAO.getAllMatchingCond() : searchCond;
 
-        long count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER);
-
-        List<User> matching = searchDAO.search(
-                base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER);
-        List<UserTO> result = matching.stream().
-                map(user -> binder.getUserTO(user, details)).
-                toList();
-
-        return new SyncopePage<>(result, pageable, count);
+        return this.<User>doSearch(
+                searchDAO,
+                base,
+                recursive,
+                authRealms,
+                effectiveCond,
+                pageable,
+                count,
+                AnyTypeKind.USER,
+                matching -> binder.getUserTOs(matching, details));
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
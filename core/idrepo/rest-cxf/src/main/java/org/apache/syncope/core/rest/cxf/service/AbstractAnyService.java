@@ -20,7 +20,9 @@ package org.apache.syncope.core.rest.cxf.service;
 
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -51,12 +53,17 @@ import org.apache.syncope.common.rest.api.service.AnyService;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 import org.apache.syncope.core.logic.AbstractAnyLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.DAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR extends AnyUR>
         extends AbstractSearchService implements AnyService<TO> {
@@ -119,20 +126,66 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
         return getAnyLogic().read(findActualKey(getAnyDAO(), key));
     }
 
+    protected static String encodeCursor(final String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static String decodeCursor(final String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
+            sce.getElements().add("Invalid cursor: " + cursor);
+            throw sce;
+        }
+    }
+
     @Override
     public PagedResult<TO> search(final AnyQuery anyQuery) {
         String realm = StringUtils.prependIfMissing(anyQuery.getRealm(), SyncopeConstants.ROOT_REALM);
         SearchCond searchCond = StringUtils.isBlank(anyQuery.getFiql())
                 ? null
                 : getSearchCond(anyQuery.getFiql(), realm);
+
+        // keyset pagination: results are sorted by key, and only those following the key in cursor are returned
+        boolean keyset = anyQuery.getCursor() != null;
+        Pageable pageable = pageable(anyQuery);
+        if (keyset) {
+            if (!anyQuery.getCursor().isBlank()) {
+                AnyCond afterCond = new AnyCond(AttrCond.Type.GT);
+                afterCond.setSchema("id");
+                afterCond.setExpression(decodeCursor(anyQuery.getCursor()));
+
+                searchCond = searchCond == null
+                        ? SearchCond.getLeaf(afterCond)
+                        : SearchCond.getAnd(searchCond, SearchCond.getLeaf(afterCond));
+            }
+            pageable = PageRequest.of(0, anyQuery.getSize(), DAO.DEFAULT_SORT);
+        }
+
         try {
             Page<TO> result = getAnyLogic().search(
                     searchCond,
-                    pageable(anyQuery),
+                    pageable,
                     realm,
                     anyQuery.getRecursive(),
-                    anyQuery.getDetails());
-            return buildPagedResult(result);
+                    anyQuery.getDetails(),
+                    anyQuery.getCount());
+            PagedResult<TO> pagedResult = buildPagedResult(result);
+
+            if (keyset) {
+                // total count, if computed, refers to the results following the given cursor
+                pagedResult.setPrev(null);
+                pagedResult.setNext(null);
+                if (result.hasNext()) {
+                    pagedResult.setCursor(encodeCursor(pagedResult.getResult().getLast().getKey()));
+                    pagedResult.setNext(uriInfo.getRequestUriBuilder().
+                            replaceQueryParam(PARAM_CURSOR, pagedResult.getCursor()).
+                            build());
+                }
+            }
+
+            return pagedResult;
         } catch (IllegalArgumentException e) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
             sce.getElements().add(anyQuery.getFiql());
@@ -229,6 +229,7 @@ public abstract class AbstractService implements JAXRSService {
         result.setPage(page.getNumber() + 1);
         result.setSize(result.getResult().size());
         result.setTotalCount(page.getTotalElements());
+        result.setHasNext(page.hasNext());
 
         UriBuilder builder = uriInfo.getAbsolutePathBuilder();
         MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
@@ -240,7 +241,7 @@ public abstract class AbstractService implements JAXRSService {
                     replaceQueryParam(PARAM_SIZE, page.getSize()).
                     build());
         }
-        if ((result.getPage() - 1) * page.getSize() + result.getSize() < page.getTotalElements()) {
+        if (result.isHasNext()) {
             result.setNext(builder.
                     replaceQueryParam(PARAM_PAGE, result.getPage() + 1).
                     replaceQueryParam(PARAM_SIZE, page.getSize()).
@@ -63,6 +63,11 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         logic.create(auditEvent);
     }
 
+    @Override
+    public void bulkCreate(final List<AuditEventTO> auditEvents) {
+        logic.bulkCreate(auditEvents);
+    }
+
     @Override
     public List<OpEvent> events() {
         return logic.events();
@@ -19,7 +19,9 @@
 package org.apache.syncope.core.rest.cxf.service;
 
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.net.URI;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -108,7 +110,20 @@ public class TaskServiceImpl extends AbstractExecutableService implements TaskSe
             return Response.status(Response.Status.PRECONDITION_FAILED).build();
         }
 
-        return Response.ok(logic.purgePropagations(since, statuses, resources)).build();
+        MediaType streaming = messageContext.getHttpHeaders().getAcceptableMediaTypes().stream().
+                filter(mediaType -> !mediaType.isWildcardType() && !mediaType.isWildcardSubtype()).
+                filter(mediaType -> RESTHeaders.APPLICATION_X_NDJSON_TYPE.isCompatible(mediaType)
+                || RESTHeaders.TEXT_CSV_TYPE.isCompatible(mediaType)).
+                findFirst().orElse(null);
+        if (streaming == null) {
+            return Response.ok(logic.purgePropagations(since, statuses, resources)).build();
+        }
+
+        boolean csv = RESTHeaders.TEXT_CSV_TYPE.isCompatible(streaming);
+        StreamingOutput sout = os -> logic.purgePropagations(since, statuses, resources, csv, os);
+        return Response.ok(sout).
+                type(csv ? RESTHeaders.TEXT_CSV_TYPE : RESTHeaders.APPLICATION_X_NDJSON_TYPE).
+                build();
     }
 
     @Override
@@ -129,7 +129,7 @@ public class AnyObjectServiceTest {
 
             AnyObjectLogic logic = mock(AnyObjectLogic.class);
             when(logic.search(
-                    any(SearchCond.class), any(Pageable.class), anyString(), anyBoolean(), anyBoolean())).
+                    any(SearchCond.class), any(Pageable.class), anyString(), anyBoolean(), anyBoolean(), anyBoolean())).
                     thenAnswer(ic -> {
                         AnyObjectTO printer1 = new AnyObjectTO();
                         printer1.setKey(UUID.randomUUID().toString());
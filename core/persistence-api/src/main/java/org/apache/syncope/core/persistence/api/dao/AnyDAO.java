@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.api.dao;
 import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
@@ -67,6 +68,17 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     Page<? extends A> findAll(Pageable pageable);
 
+    /**
+     * Keyset iteration over all entities, ordered by key: unlike {@link #findAll(Pageable)}, the cost of fetching
+     * each chunk does not grow with the number of entities preceding it.
+     *
+     * @param after key of the last entity returned by the previous invocation, or {@code null} to start from the
+     * beginning
+     * @param size maximum number of entities to return
+     * @return the entities whose key follows the given one
+     */
+    List<A> findAllAfter(String after, int size);
+
     /**
      * @return the search condition to match all entities
      */
@@ -80,5 +92,13 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     List<String> findDynRealms(String key);
 
+    /**
+     * Bulk variant of {@link #findDynRealms(String)}, to avoid issuing one query per entity.
+     *
+     * @param keys entity keys
+     * @return dynamic realm keys, grouped by entity key: entities without dynamic realms are not included
+     */
+    Map<String, List<String>> findDynRealms(Collection<String> keys);
+
     Collection<String> findAllResourceKeys(String key);
 }
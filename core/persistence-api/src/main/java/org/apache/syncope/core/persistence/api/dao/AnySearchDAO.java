@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -78,4 +79,58 @@ public interface AnySearchDAO {
             SearchCond searchCondition,
             Pageable pageable,
             AnyTypeKind kind);
+
+    /**
+     * Keyset (seek) variant of {@link #search(Realm, boolean, Set, SearchCond, Pageable, AnyTypeKind)}: results are
+     * ordered by key and only those with key greater than {@code after} are returned, so that walking through a large
+     * result set does not require the underlying store to skip all the rows preceding the requested page.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param after key of the last item returned by the previous invocation, or {@code null} to start from the
+     * beginning
+     * @param size maximum number of items to return
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition, following the given key
+     */
+    <T extends Any<?>> List<T> searchAfter(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            String after,
+            int size,
+            AnyTypeKind kind);
+
+    /**
+     * @param searchCondition the search condition
+     * @param kind any object
+     * @param <T> any
+     * @return the stream of any objects matching the given search condition
+     * @see #stream(Realm, boolean, Set, SearchCond, AnyTypeKind)
+     */
+    <T extends Any<?>> Stream<T> stream(SearchCond searchCondition, AnyTypeKind kind);
+
+    /**
+     * Lazily walks through all the any objects matching the given search condition, ordered by key: results are
+     * fetched in chunks via {@link #searchAfter(Realm, boolean, Set, SearchCond, String, int, AnyTypeKind)} and
+     * released once consumed, so that memory usage does not depend on the size of the whole result set.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param kind any object
+     * @param <T> any
+     * @return the stream of any objects matching the given search condition
+     */
+    <T extends Any<?>> Stream<T> stream(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            AnyTypeKind kind);
 }
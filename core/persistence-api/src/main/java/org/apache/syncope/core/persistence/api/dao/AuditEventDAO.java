@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.apache.syncope.common.lib.to.AuditEventTO;
 import org.apache.syncope.common.lib.types.OpEvent;
@@ -29,6 +30,17 @@ public interface AuditEventDAO {
 
     AuditEvent save(AuditEvent auditEvent);
 
+    /**
+     * Stores the given audit events at once; implementations are expected to take advantage of whatever batching
+     * feature is available from the underlying storage.
+     *
+     * @param auditEvents audit events to store
+     * @return stored audit events
+     */
+    default List<AuditEvent> saveAll(final Collection<AuditEvent> auditEvents) {
+        return auditEvents.stream().map(this::save).toList();
+    }
+
     long count(
             String entityKey,
             OpEvent.CategoryType type,
@@ -82,6 +82,8 @@ public interface GroupDAO extends AnyDAO<Group> {
 
     /**
      * Evaluates all the dynamic group membership conditions against the given anyObject (invoked during save).
+     * Conditions are not selected by the attributes they reference, as no list of changed attributes is available
+     * here: each save costs one in-memory evaluation per dynamic group, while only changed memberships are written.
      *
      * @param anyObject anyObject being saved
      * @return pair of groups dynamically assigned before and after refresh
@@ -102,6 +104,8 @@ public interface GroupDAO extends AnyDAO<Group> {
 
     /**
      * Evaluates all the dynamic group membership conditions against the given user (invoked during save).
+     * Conditions are not selected by the attributes they reference, as no list of changed attributes is available
+     * here: each save costs one in-memory evaluation per dynamic group, while only changed memberships are written.
      *
      * @param user user being saved
      * @return pair of groups dynamically assigned before and after refresh
@@ -19,8 +19,11 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.apache.syncope.common.lib.to.PropagationTaskTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ExecStatus;
@@ -30,6 +33,7 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.task.MacroTask;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
@@ -38,6 +42,8 @@ import org.springframework.data.domain.Pageable;
 
 public interface TaskDAO extends DAO<Task<?>> {
 
+    int DEFAULT_PURGE_CHUNK_SIZE = 1000;
+
     <T extends Task<T>> Optional<T> findById(TaskType type, String key);
 
     <T extends SchedTask> Optional<T> findByName(TaskType type, String name);
@@ -54,7 +60,11 @@ public interface TaskDAO extends DAO<Task<?>> {
 
     List<MacroTask> findByRealm(Realm realm);
 
-    <T extends Task<T>> List<T> findToExec(TaskType type);
+    default <T extends Task<T>> List<T> findToExec(TaskType type) {
+        return findToExec(type, Pageable.unpaged());
+    }
+
+    <T extends Task<T>> List<T> findToExec(TaskType type, Pageable pageable);
 
     <T extends Task<T>> List<T> findAll(TaskType type);
 
@@ -73,12 +83,92 @@ public interface TaskDAO extends DAO<Task<?>> {
             AnyTypeKind anyTypeKind,
             String entityKey);
 
+    /**
+     * Stores the given tasks at once, so that implementations can take advantage of batch statements.
+     *
+     * @param <T> actual task type
+     * @param tasks tasks to store
+     * @return stored tasks
+     */
+    default <T extends Task<?>> List<T> saveAll(final Collection<T> tasks) {
+        return tasks.stream().map(this::save).toList();
+    }
+
     void delete(TaskType type, String key);
 
     void deleteAll(ExternalResource resource, TaskType type);
 
-    List<PropagationTaskTO> purgePropagations(
+    default PropagationTaskTO toPurgedTO(final PropagationTask task) {
+        PropagationTaskTO taskTO = new PropagationTaskTO();
+
+        taskTO.setOperation(task.getOperation());
+        taskTO.setConnObjectKey(task.getConnObjectKey());
+        taskTO.setOldConnObjectKey(task.getOldConnObjectKey());
+        taskTO.setPropagationData(task.getSerializedPropagationData());
+        taskTO.setResource(task.getResource().getKey());
+        taskTO.setObjectClassName(task.getObjectClassName());
+        taskTO.setAnyTypeKind(task.getAnyTypeKind());
+        taskTO.setAnyType(task.getAnyType());
+        taskTO.setEntityKey(task.getEntityKey());
+
+        return taskTO;
+    }
+
+    default List<PropagationTaskTO> purgePropagations(
+            final OffsetDateTime since,
+            final List<ExecStatus> statuses,
+            final List<String> resources) {
+
+        List<PropagationTaskTO> purged = new ArrayList<>();
+        purgePropagations(since, statuses, resources, DEFAULT_PURGE_CHUNK_SIZE, purged::add);
+        return purged;
+    }
+
+    /**
+     * Deletes, by chunks of the given size, all propagation tasks whose latest execution is matching the given
+     * conditions.
+     *
+     * @param since match tasks whose latest execution ended before this date
+     * @param statuses match tasks whose latest execution has one of these statuses
+     * @param resources match tasks for one of these external resources
+     * @param chunkSize maximum number of tasks deleted at once
+     * @param consumer if not null, receives a representation of each deleted task
+     * @return number of deleted tasks
+     */
+    default long purgePropagations(
+            final OffsetDateTime since,
+            final List<ExecStatus> statuses,
+            final List<String> resources,
+            final int chunkSize,
+            final Consumer<PropagationTaskTO> consumer) {
+
+        long purged = 0;
+        List<PropagationTaskTO> chunk;
+        do {
+            chunk = purgePropagationsChunk(since, statuses, resources, chunkSize);
+            if (consumer != null) {
+                chunk.forEach(consumer);
+            }
+            purged += chunk.size();
+        } while (chunk.size() == chunkSize);
+
+        return purged;
+    }
+
+    /**
+     * Deletes at most the given number of propagation tasks whose latest execution is matching the given
+     * conditions; callers needing each chunk to be committed on its own are expected to invoke this method in a
+     * dedicated transaction.
+     *
+     * @param since match tasks whose latest execution ended before this date
+     * @param statuses match tasks whose latest execution has one of these statuses
+     * @param resources match tasks for one of these external resources
+     * @param chunkSize maximum number of tasks to delete
+     * @return representation of the deleted tasks
+     */
+    List<PropagationTaskTO> purgePropagationsChunk(
             OffsetDateTime since,
             List<ExecStatus> statuses,
-            List<String> resources);
+            List<String> resources,
+            int chunkSize);
 }
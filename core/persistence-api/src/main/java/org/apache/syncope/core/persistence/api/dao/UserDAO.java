@@ -66,10 +66,26 @@ public interface UserDAO extends AnyDAO<User> {
 
     List<Role> findDynRoles(String key);
 
+    /**
+     * Bulk variant of {@link #findDynRoles(String)}, to avoid issuing one query per user.
+     *
+     * @param keys user keys
+     * @return dynamic roles, grouped by user key: users without dynamic roles are not included
+     */
+    Map<String, List<Role>> findDynRoles(Collection<String> keys);
+
     Collection<Role> findAllRoles(User user);
 
     List<Group> findDynGroups(String key);
 
+    /**
+     * Bulk variant of {@link #findDynGroups(String)}, to avoid issuing one query per user.
+     *
+     * @param keys user keys
+     * @return dynamic groups, grouped by user key: users without dynamic memberships are not included
+     */
+    Map<String, List<Group>> findDynGroups(Collection<String> keys);
+
     Collection<Group> findAllGroups(User user);
 
     Collection<String> findAllGroupKeys(User user);
@@ -26,6 +26,18 @@ public interface PropagationPolicy extends Policy {
 
     void setFetchAroundProvisioning(boolean fetchAroundProvisioning);
 
+    boolean isSkipFetchBefore();
+
+    void setSkipFetchBefore(boolean skipFetchBefore);
+
+    boolean isDeferFetchAfter();
+
+    void setDeferFetchAfter(boolean deferFetchAfter);
+
+    boolean isCoalesceUpdates();
+
+    void setCoalesceUpdates(boolean coalesceUpdates);
+
     boolean isUpdateDelta();
 
     void setUpdateDelta(boolean updateDelta);
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Page request fetching one more element than the given {@link Pageable}, starting from the same offset: this allows
+ * to find out whether a next page is available without counting all matching elements.
+ */
+public final class LookAheadPageRequest extends PageRequest {
+
+    private static final long serialVersionUID = -2185468011402553316L;
+
+    public static LookAheadPageRequest of(final Pageable pageable) {
+        return new LookAheadPageRequest(
+                pageable.getPageNumber(), pageable.getPageSize() + 1, pageable.getSort(), pageable.getOffset());
+    }
+
+    private final long offset;
+
+    private LookAheadPageRequest(final int pageNumber, final int pageSize, final Sort sort, final long offset) {
+        super(pageNumber, pageSize, sort);
+        this.offset = offset;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public LookAheadPageRequest withSort(final Sort sort) {
+        return new LookAheadPageRequest(getPageNumber(), getPageSize(), sort, offset);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return new EqualsBuilder().
+                appendSuper(super.equals(obj)).
+                append(offset, obj instanceof LookAheadPageRequest other ? other.offset : -1).
+                build();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                appendSuper(super.hashCode()).
+                append(offset).
+                build();
+    }
+}
@@ -30,9 +30,25 @@ public class SyncopePage<T> extends PageImpl<T> {
 
     private final long total;
 
+    private final boolean hasNext;
+
     public SyncopePage(final List<T> content, final Pageable pageable, final long total) {
         super(content, pageable, total);
         this.total = total;
+        this.hasNext = false;
+    }
+
+    /**
+     * Builds a page whose total number of elements was not computed, hence reported as {@code -1}.
+     *
+     * @param content page content
+     * @param pageable page request
+     * @param hasNext whether a next page is available
+     */
+    public SyncopePage(final List<T> content, final Pageable pageable, final boolean hasNext) {
+        super(content, pageable, content.size());
+        this.total = -1;
+        this.hasNext = hasNext;
     }
 
     @Override
@@ -42,14 +58,34 @@ public class SyncopePage<T> extends PageImpl<T> {
 
     @Override
     public int getTotalPages() {
+        if (total < 0) {
+            return -1;
+        }
         return getSize() == 0 ? 1 : (int) Math.ceil(total / (double) getSize());
     }
 
+    @Override
+    public boolean hasNext() {
+        return total < 0 ? hasNext : super.hasNext();
+    }
+
     @Override
     public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        final SyncopePage<T> other = (SyncopePage<T>) obj;
         return new EqualsBuilder().
                 appendSuper(super.equals(obj)).
-                append(total, total).
+                append(total, other.total).
+                append(hasNext, other.hasNext).
                 build();
     }
 
@@ -58,6 +94,7 @@ public class SyncopePage<T> extends PageImpl<T> {
         return new HashCodeBuilder().
                 appendSuper(super.hashCode()).
                 append(total).
+                append(hasNext).
                 build();
     }
 }
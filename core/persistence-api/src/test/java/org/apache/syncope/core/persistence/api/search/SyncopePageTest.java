@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+public class SyncopePageTest {
+
+    @Test
+    public void equals() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        assertEquals(
+                new SyncopePage<>(List.of("a", "b"), pageable, 5),
+                new SyncopePage<>(List.of("a", "b"), pageable, 5));
+        assertEquals(
+                new SyncopePage<>(List.of("a", "b"), pageable, 5).hashCode(),
+                new SyncopePage<>(List.of("a", "b"), pageable, 5).hashCode());
+        assertNotEquals(
+                new SyncopePage<>(List.of("a", "b"), pageable, 5),
+                new SyncopePage<>(List.of("a", "b"), pageable, 7));
+
+        assertEquals(
+                new SyncopePage<>(List.of("a", "b"), pageable, true),
+                new SyncopePage<>(List.of("a", "b"), pageable, true));
+        assertNotEquals(
+                new SyncopePage<>(List.of("a", "b"), pageable, true),
+                new SyncopePage<>(List.of("a", "b"), pageable, false));
+        assertNotEquals(
+                new SyncopePage<>(List.of("a", "b"), pageable, true),
+                new SyncopePage<>(List.of("a", "b"), pageable, 2));
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
@@ -35,8 +36,10 @@ import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.DAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -58,6 +61,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.search.LookAheadPageRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
@@ -423,7 +427,77 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
                 cond,
                 pageable.isUnpaged()
                 ? Pageable.unpaged(Sort.by(effectiveOrderBy))
+                : pageable instanceof LookAheadPageRequest lookAhead
+                ? lookAhead.withSort(Sort.by(effectiveOrderBy))
                 : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy)),
                 kind);
     }
+
+    @Override
+    public <T extends Any<?>> List<T> searchAfter(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String after,
+            final int size,
+            final AnyTypeKind kind) {
+
+        SearchCond effectiveCond = cond;
+        if (cond != null && after != null) {
+            AnyCond afterCond = new AnyCond(AttrCond.Type.GT);
+            afterCond.setSchema("id");
+            afterCond.setExpression(after);
+            effectiveCond = SearchCond.getAnd(cond, SearchCond.getLeaf(afterCond));
+        }
+
+        return search(base, recursive, adminRealms, effectiveCond, PageRequest.of(0, size, DAO.DEFAULT_SORT), kind);
+    }
+
+    /**
+     * Invoked by {@link #stream(Realm, boolean, Set, SearchCond, AnyTypeKind)} once all the items in the given chunk
+     * were consumed.
+     *
+     * @param chunk consumed items
+     */
+    protected void release(final List<? extends Any<?>> chunk) {
+        // do nothing by default, meant for subclasses
+    }
+
+    @Override
+    public <T extends Any<?>> Stream<T> stream(final SearchCond cond, final AnyTypeKind kind) {
+        return stream(
+                realmSearchDAO.findByFullPath(SyncopeConstants.ROOT_REALM).orElse(null),
+                true,
+                SyncopeConstants.FULL_ADMIN_REALMS,
+                cond,
+                kind);
+    }
+
+    @Override
+    public <T extends Any<?>> Stream<T> stream(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        return Stream.iterate(
+                this.<T>searchAfter(base, recursive, adminRealms, cond, null, AnyDAO.DEFAULT_PAGE_SIZE, kind),
+                chunk -> !chunk.isEmpty(),
+                chunk -> {
+                    release(chunk);
+                    return chunk.size() < AnyDAO.DEFAULT_PAGE_SIZE
+                            ? List.of()
+                            : searchAfter(
+                                    base,
+                                    recursive,
+                                    adminRealms,
+                                    cond,
+                                    chunk.getLast().getKey(),
+                                    AnyDAO.DEFAULT_PAGE_SIZE,
+                                    kind);
+                }).
+                flatMap(List::stream);
+    }
 }
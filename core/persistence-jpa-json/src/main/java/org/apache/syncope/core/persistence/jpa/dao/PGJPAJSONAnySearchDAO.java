@@ -645,6 +645,25 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
         return "realm_id IN (" + realmKeysArg + ')';
     }
 
+    @Override
+    protected StringBuilder buildKeyQuery(
+            final Triple<String, Set<String>, Set<String>> filter,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final SearchSupport svs,
+            final List<Object> parameters) {
+
+        Pair<StringBuilder, Set<String>> queryInfo =
+                getQuery(buildEffectiveCond(cond, filter.getMiddle(), filter.getRight(), kind), parameters, svs);
+
+        StringBuilder queryString =
+                new StringBuilder("SELECT ").append(svs.table().alias()).append(".id AS any_id");
+
+        buildFromAndWhere(queryString, queryInfo, filter.getLeft(), svs, null);
+
+        return queryString;
+    }
+
     @Override
     protected long doCount(
             final Realm base,
@@ -715,7 +734,7 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
             Query query = entityManager.createNativeQuery(queryString.toString());
 
             if (pageable.isPaged()) {
-                query.setFirstResult(pageable.getPageSize() * pageable.getPageNumber());
+                query.setFirstResult((int) pageable.getOffset());
                 query.setMaxResults(pageable.getPageSize());
             }
 
@@ -91,7 +91,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return parameters.size();
     }
 
-    protected static void fillWithParameters(final Query query, final List<Object> parameters) {
+    public static void fillWithParameters(final Query query, final List<Object> parameters) {
         for (int i = 0; i < parameters.size(); i++) {
             if (parameters.get(i) instanceof Boolean aBoolean) {
                 query.setParameter(i + 1, aBoolean ? 1 : 0);
@@ -205,8 +205,18 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return new SearchViewSupport(kind);
     }
 
-    @Override
-    protected long doCount(
+    /**
+     * Builds the native query returning, as {@code any_id} column, the keys of all entities matching the given search
+     * condition; such query is meant to be embedded into other statements, as in set-based operations.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param kind any object
+     * @return native query and its parameters, to be bound positionally starting from 1
+     */
+    public Pair<String, List<Object>> buildKeyQuery(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -220,6 +230,16 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         Triple<String, Set<String>, Set<String>> filter =
                 getAdminRealmsFilter(base, recursive, adminRealms, svs, parameters);
 
+        return Pair.of(buildKeyQuery(filter, cond, kind, svs, parameters).toString(), parameters);
+    }
+
+    protected StringBuilder buildKeyQuery(
+            final Triple<String, Set<String>, Set<String>> filter,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final SearchSupport svs,
+            final List<Object> parameters) {
+
         // 1. get the query string from the search condition
         Pair<StringBuilder, Set<String>> queryInfo =
                 getQuery(buildEffectiveCond(cond, filter.getMiddle(), filter.getRight(), kind), parameters, svs);
@@ -230,6 +250,26 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         queryString.insert(0, "SELECT u.any_id FROM (");
         queryString.append(") u WHERE ").append(filter.getLeft());
 
+        return queryString;
+    }
+
+    @Override
+    protected long doCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        List<Object> parameters = new ArrayList<>();
+
+        SearchSupport svs = buildSearchSupport(kind);
+
+        Triple<String, Set<String>, Set<String>> filter =
+                getAdminRealmsFilter(base, recursive, adminRealms, svs, parameters);
+
+        StringBuilder queryString = buildKeyQuery(filter, cond, kind, svs, parameters);
+
         // 3. prepare the COUNT query
         queryString.insert(0, "SELECT COUNT(any_id) FROM (");
         queryString.append(") count_any_id");
@@ -283,7 +323,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             Query query = entityManager.createNativeQuery(queryString.toString());
 
             if (pageable.isPaged()) {
-                query.setFirstResult(pageable.getPageSize() * pageable.getPageNumber());
+                query.setFirstResult((int) pageable.getOffset());
                 query.setMaxResults(pageable.getPageSize());
             }
 
@@ -301,6 +341,18 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return List.of();
     }
 
+    @Override
+    protected void release(final List<? extends Any<?>> chunk) {
+        List<? extends Any<?>> managed = chunk.stream().filter(entityManager::contains).toList();
+        if (!managed.isEmpty()) {
+            // pending changes would be lost otherwise
+            if (entityManager.isJoinedToTransaction()) {
+                entityManager.flush();
+            }
+            managed.forEach(entityManager::detach);
+        }
+    }
+
     protected StringBuilder buildSelect(final OrderBySupport obs) {
         StringBuilder select = new StringBuilder("SELECT DISTINCT u.any_id");
 
@@ -22,6 +22,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -107,6 +108,16 @@ public class JPAAuditEventDAO implements AuditEventDAO {
         return entityManager.merge(auditEvent);
     }
 
+    @Transactional
+    @Override
+    public List<AuditEvent> saveAll(final Collection<AuditEvent> auditEvents) {
+        List<AuditEvent> saved = new ArrayList<>(auditEvents.size());
+        auditEvents.forEach(auditEvent -> saved.add(entityManager.merge(auditEvent)));
+        // flush all pending INSERTs at once, so that they can be sent as JDBC batch
+        entityManager.flush();
+        return saved;
+    }
+
     protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey) {
         return new AuditEventCriteriaBuilder().entityKey(entityKey);
     }
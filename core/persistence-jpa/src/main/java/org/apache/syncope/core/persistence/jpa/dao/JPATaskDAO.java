@@ -28,16 +28,22 @@ import jakarta.persistence.TypedQuery;
 import java.lang.reflect.Field;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.openjpa.persistence.OpenJPAEntityManagerFactory;
 import org.apache.syncope.common.lib.to.PropagationTaskTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
@@ -46,7 +52,6 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.task.MacroTask;
-import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
@@ -228,7 +233,7 @@ public class JPATaskDAO implements TaskDAO {
 
     @Override
     @SuppressWarnings("unchecked")
-    public <T extends Task<T>> List<T> findToExec(final TaskType type) {
+    public <T extends Task<T>> List<T> findToExec(final TaskType type, final Pageable pageable) {
         StringBuilder queryString = buildFindAllQuery(type).append("AND ");
 
         if (type == TaskType.NOTIFICATION) {
@@ -239,6 +244,12 @@ public class JPATaskDAO implements TaskDAO {
         queryString.append("ORDER BY t.id DESC");
 
         Query query = entityManager.createQuery(queryString.toString());
+
+        if (pageable.isPaged()) {
+            query.setFirstResult(pageable.getPageSize() * pageable.getPageNumber());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
         return query.getResultList();
     }
 
@@ -496,9 +507,7 @@ public class JPATaskDAO implements TaskDAO {
         return ((Number) query.getSingleResult()).longValue();
     }
 
-    @Transactional(rollbackFor = { Throwable.class })
-    @Override
-    public <T extends Task<?>> T save(final T task) {
+    protected void beforeSave(final Task<?> task) {
         switch (task) {
             case JPANotificationTask jpaNotificationTask ->
                 jpaNotificationTask.list2json();
@@ -507,9 +516,60 @@ public class JPATaskDAO implements TaskDAO {
             default -> {
             }
         }
+    }
+
+    @Transactional(rollbackFor = { Throwable.class })
+    @Override
+    public <T extends Task<?>> T save(final T task) {
+        beforeSave(task);
         return entityManager.merge(task);
     }
 
+    /**
+     * Finds which of the given keys are already stored for the given task entity, with one query per
+     * {@link AnyDAO#DEFAULT_PAGE_SIZE} keys.
+     *
+     * @param taskEntity task entity
+     * @param keys task keys
+     * @return stored task keys
+     */
+    protected Set<String> findStoredKeys(final Class<? extends Task<?>> taskEntity, final List<String> keys) {
+        Set<String> stored = new HashSet<>();
+        for (int i = 0; i < keys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            TypedQuery<String> query = entityManager.createQuery(
+                    "SELECT e.id FROM " + taskEntity.getSimpleName() + " e WHERE e.id IN :keys", String.class);
+            query.setParameter("keys", keys.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, keys.size())));
+            stored.addAll(query.getResultList());
+        }
+        return stored;
+    }
+
+    @Transactional(rollbackFor = { Throwable.class })
+    @Override
+    public <T extends Task<?>> List<T> saveAll(final Collection<T> tasks) {
+        // merge would look up each task with pre-assigned key, so new tasks are persisted instead
+        Set<String> stored = new HashSet<>();
+        tasks.stream().filter(task -> !entityManager.contains(task)).
+                collect(Collectors.groupingBy(
+                        task -> taskUtilsFactory.getInstance(task).getTaskEntity(),
+                        Collectors.mapping(Task::getKey, Collectors.toList()))).
+                forEach((taskEntity, keys) -> stored.addAll(findStoredKeys(taskEntity, keys)));
+
+        List<T> saved = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> {
+            if (entityManager.contains(task) || stored.contains(task.getKey())) {
+                saved.add(save(task));
+            } else {
+                beforeSave(task);
+                entityManager.persist(task);
+                saved.add(task);
+            }
+        });
+        // flush all pending INSERTs at once, so that they can be sent as JDBC batch
+        entityManager.flush();
+        return saved;
+    }
+
     @Override
     public void delete(final TaskType type, final String key) {
         findById(type, key).ifPresent(this::delete);
@@ -535,13 +595,18 @@ public class JPATaskDAO implements TaskDAO {
                 stream().map(Task<?>::getKey).forEach(key -> delete(type, key));
     }
 
+    protected static String inClause(final List<String> keys) {
+        return IntStream.rangeClosed(1, keys.size()).mapToObj(i -> "?" + i).collect(Collectors.joining(","));
+    }
+
     @Override
-    public List<PropagationTaskTO> purgePropagations(
+    public List<PropagationTaskTO> purgePropagationsChunk(
             final OffsetDateTime since,
             final List<ExecStatus> statuses,
-            final List<String> resources) {
+            final List<String> resources,
+            final int chunkSize) {
 
-        StringBuilder queryString = new StringBuilder("SELECT t.task_id "
+        StringBuilder queryString = new StringBuilder("SELECT DISTINCT t.task_id "
                 + "FROM " + JPAPropagationTaskExec.TABLE + " t "
                 + "INNER JOIN " + JPAPropagationTask.TABLE + " z "
                 + "ON t.task_id=z.id "
@@ -570,34 +635,43 @@ public class JPATaskDAO implements TaskDAO {
                     append(")");
         }
 
+        // matching tasks are selected and deleted by chunks, as executions of the deleted tasks are not matching
+        // any more on the next round
         Query query = entityManager.createNativeQuery(queryString.toString());
-        for (int i = 1; i <= queryParameters.size(); i++) {
-            query.setParameter(i, queryParameters.get(i - 1));
-        }
+        JPAAnySearchDAO.fillWithParameters(query, queryParameters);
+        query.setMaxResults(chunkSize);
 
         @SuppressWarnings("unchecked")
-        List<Object> raw = query.getResultList();
-
-        List<PropagationTaskTO> purged = new ArrayList<>();
-        raw.stream().map(Object::toString).distinct().forEach(key -> findById(TaskType.PROPAGATION, key).
-                map(PropagationTask.class::cast).ifPresent(task -> {
-
-            PropagationTaskTO taskTO = new PropagationTaskTO();
-
-            taskTO.setOperation(task.getOperation());
-            taskTO.setConnObjectKey(task.getConnObjectKey());
-            taskTO.setOldConnObjectKey(task.getOldConnObjectKey());
-            taskTO.setPropagationData(task.getSerializedPropagationData());
-            taskTO.setResource(task.getResource().getKey());
-            taskTO.setObjectClassName(task.getObjectClassName());
-            taskTO.setAnyTypeKind(task.getAnyTypeKind());
-            taskTO.setAnyType(task.getAnyType());
-            taskTO.setEntityKey(task.getEntityKey());
-
-            purged.add(taskTO);
+        List<String> keys = ((List<Object>) query.getResultList()).stream().map(Object::toString).toList();
+        if (keys.isEmpty()) {
+            return List.of();
+        }
 
-            delete(task);
-        }));
+        TypedQuery<JPAPropagationTask> tasks = entityManager.createQuery(
+                "SELECT e FROM " + JPAPropagationTask.class.getSimpleName() + " e WHERE e.id IN :keys",
+                JPAPropagationTask.class);
+        tasks.setParameter("keys", keys);
+        List<PropagationTaskTO> purged = tasks.getResultList().stream().map(task -> {
+            PropagationTaskTO taskTO = toPurgedTO(task);
+            entityManager.detach(task);
+            return taskTO;
+        }).toList();
+
+        Query deleteExecs = entityManager.createNativeQuery("DELETE FROM " + JPAPropagationTaskExec.TABLE
+                + " WHERE task_id IN (" + inClause(keys) + ")");
+        JPAAnySearchDAO.fillWithParameters(deleteExecs, new ArrayList<>(keys));
+        deleteExecs.executeUpdate();
+
+        Query deleteTasks = entityManager.createNativeQuery("DELETE FROM " + JPAPropagationTask.TABLE
+                + " WHERE id IN (" + inClause(keys) + ")");
+        JPAAnySearchDAO.fillWithParameters(deleteTasks, new ArrayList<>(keys));
+        deleteTasks.executeUpdate();
+
+        // native statements are not tracked by OpenJPA
+        keys.forEach(key -> entityManager.getEntityManagerFactory().getCache().evict(JPAPropagationTask.class, key));
+        entityManager.getEntityManagerFactory().getCache().evict(JPAPropagationTaskExec.class);
+        entityManager.getEntityManagerFactory().unwrap(OpenJPAEntityManagerFactory.class).
+                getQueryResultCache().evictAll(JPAPropagationTask.class);
 
         return purged;
     }
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.commons.jexl3.parser.Parser;
 import org.apache.commons.jexl3.parser.ParserConstants;
@@ -37,6 +38,7 @@ import org.apache.commons.jexl3.parser.Token;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
@@ -425,6 +427,62 @@ public abstract class AbstractAnyRepoExt<A extends Any<?>> implements AnyRepoExt
         return result;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<A> findAllAfter(final String after, final int size) {
+        Query query = entityManager.createQuery(
+                "SELECT e FROM " + anyUtils.anyClass().getName() + " e"
+                + (after == null ? "" : " WHERE e.id > :after")
+                + " ORDER BY e.id");
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        query.setMaxResults(size);
+
+        return query.getResultList();
+    }
+
+    /**
+     * Reads the values of the given column from the given table for all rows matching the given any keys; keys are
+     * processed in batches, to keep the size of the {@code IN} clause under control.
+     *
+     * @param table table name, featuring the {@code any_id} column
+     * @param column column to read values from
+     * @param keys any keys
+     * @return column values, grouped by any key
+     */
+    protected Map<String, List<String>> findByAnyKeys(
+            final String table,
+            final String column,
+            final Collection<String> keys) {
+
+        Map<String, List<String>> result = new HashMap<>();
+
+        List<String> anyKeys = keys.stream().distinct().toList();
+        for (int i = 0; i < anyKeys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            List<String> batch = anyKeys.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, anyKeys.size()));
+
+            Query query = entityManager.createNativeQuery(
+                    "SELECT any_id, " + column + " FROM " + table + " WHERE any_id IN ("
+                    + batch.stream().map(key -> "?").collect(Collectors.joining(",")) + ")");
+            for (int j = 0; j < batch.size(); j++) {
+                query.setParameter(j + 1, batch.get(j));
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = query.getResultList();
+            rows.forEach(row -> {
+                List<String> values = result.computeIfAbsent(row[0].toString(), k -> new ArrayList<>());
+                if (!values.contains(row[1].toString())) {
+                    values.add(row[1].toString());
+                }
+            });
+        }
+
+        return result;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<String> findDynRealms(final String key) {
@@ -442,6 +500,12 @@ public abstract class AbstractAnyRepoExt<A extends Any<?>> implements AnyRepoExt
                 toList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynRealms(final Collection<String> keys) {
+        return findByAnyKeys(DynRealmRepoExt.DYNMEMB_TABLE, "dynRealm_id", keys);
+    }
+
     @Override
     public void deleteById(final String key) {
         findById(key).ifPresent(this::delete);
@@ -24,12 +24,14 @@ import jakarta.persistence.TypedQuery;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
@@ -59,6 +61,7 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.dao.JPAAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAMembership;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
@@ -70,7 +73,6 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements GroupRepoExt {
@@ -241,44 +243,62 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
         Group merged = save(group);
 
         // refresh dynamic memberships
-        clearUDynMembers(merged);
-        if (merged.getUDynMembership() != null) {
-            SearchCond cond = SearchCondConverter.convert(searchCondVisitor, merged.getUDynMembership().getFIQLCond());
-            long count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.USER);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<User> matching = anySearchDAO.search(
-                        merged.getRealm(),
+        if (anySearchDAO instanceof JPAAnySearchDAO jpaAnySearchDAO) {
+            refreshDynMembersInBulk(merged, jpaAnySearchDAO);
+        } else {
+            refreshDynMembersByPage(merged);
+        }
+
+        dynRealmDAO.refreshDynMemberships(merged);
+
+        return merged;
+    }
+
+    protected void refreshDynMembersByPage(final Group group) {
+        clearUDynMembers(group);
+        if (group.getUDynMembership() != null) {
+            SearchCond cond = SearchCondConverter.convert(searchCondVisitor, group.getUDynMembership().getFIQLCond());
+            String after = null;
+            List<User> matching;
+            do {
+                matching = anySearchDAO.searchAfter(
+                        group.getRealm(),
                         true,
-                        Set.of(merged.getRealm().getFullPath()),
+                        Set.of(group.getRealm().getFullPath()),
                         cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                        after,
+                        AnyDAO.DEFAULT_PAGE_SIZE,
                         AnyTypeKind.USER);
 
                 matching.forEach(user -> {
                     Query insert = entityManager.createNativeQuery(
                             "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
                     insert.setParameter(1, user.getKey());
-                    insert.setParameter(2, merged.getKey());
+                    insert.setParameter(2, group.getKey());
                     insert.executeUpdate();
 
                     publisher.publishEvent(
                             new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
                 });
-            }
+
+                if (!matching.isEmpty()) {
+                    after = matching.getLast().getKey();
+                }
+            } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         }
-        clearADynMembers(merged);
-        merged.getADynMemberships().forEach(memb -> {
+        clearADynMembers(group);
+        group.getADynMemberships().forEach(memb -> {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond());
-            long count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.ANY_OBJECT);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<AnyObject> matching = anySearchDAO.search(
-                        merged.getRealm(),
+            String after = null;
+            List<AnyObject> matching;
+            do {
+                matching = anySearchDAO.searchAfter(
+                        group.getRealm(),
                         true,
-                        Set.of(merged.getRealm().getFullPath()),
+                        Set.of(group.getRealm().getFullPath()),
                         cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                        after,
+                        AnyDAO.DEFAULT_PAGE_SIZE,
                         AnyTypeKind.ANY_OBJECT);
 
                 matching.forEach(any -> {
@@ -286,18 +306,162 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
                             "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
                     insert.setParameter(1, any.getType().getKey());
                     insert.setParameter(2, any.getKey());
-                    insert.setParameter(3, merged.getKey());
+                    insert.setParameter(3, group.getKey());
                     insert.executeUpdate();
 
                     publisher.publishEvent(
                             new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
                 });
-            }
+
+                if (!matching.isEmpty()) {
+                    after = matching.getLast().getKey();
+                }
+            } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         });
+    }
 
-        dynRealmDAO.refreshDynMemberships(merged);
+    protected List<String> findKeys(final String queryString, final List<Object> parameters) {
+        Query query = entityManager.createNativeQuery(queryString);
+        JPAAnySearchDAO.fillWithParameters(query, parameters);
 
-        return merged;
+        @SuppressWarnings("unchecked")
+        List<Object> result = query.getResultList();
+        return result.stream().map(Object::toString).distinct().toList();
+    }
+
+    protected void deleteDynMembers(final String table, final String groupKey, final List<String> anyKeys) {
+        for (int i = 0; i < anyKeys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            List<String> batch = anyKeys.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, anyKeys.size()));
+
+            Query delete = entityManager.createNativeQuery(
+                    "DELETE FROM " + table + " WHERE group_id=? AND any_id IN ("
+                    + batch.stream().map(key -> "?").collect(Collectors.joining(",")) + ")");
+            delete.setParameter(1, groupKey);
+            for (int j = 0; j < batch.size(); j++) {
+                delete.setParameter(j + 2, batch.get(j));
+            }
+            delete.executeUpdate();
+        }
+    }
+
+    /**
+     * Publishes one {@link EntityLifecycleEvent} for each user or any object whose dynamic membership changed, as
+     * listeners like the JWT authentication cache or the search index managers rely on those.
+     *
+     * @param kind any type kind
+     * @param added keys of users or any objects added as dynamic members
+     * @param removed keys of users or any objects removed from dynamic members
+     */
+    protected void publishDynMembersEvents(
+            final AnyTypeKind kind,
+            final List<String> added,
+            final List<String> removed) {
+
+        List<String> changed = Stream.concat(added.stream(), removed.stream()).distinct().toList();
+        for (int i = 0; i < changed.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            List<String> batch = changed.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, changed.size()));
+            (kind == AnyTypeKind.USER ? userDAO.findByKeys(batch) : anyObjectDAO.findByKeys(batch)).
+                    forEach(any -> publisher.publishEvent(new EntityLifecycleEvent<>(
+                            this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain())));
+        }
+    }
+
+    /**
+     * Diffs the current dynamic members of the given group against the results of the given search condition and
+     * applies the difference via set-based statements, with the native search query embedded; one
+     * {@link EntityLifecycleEvent} is then published for each changed member.
+     *
+     * @param group group
+     * @param searchDAO JPA search DAO, providing the native search query
+     * @param table dynamic membership table
+     * @param anyType any type, for any objects only
+     * @param fiql dynamic membership condition
+     */
+    protected void refreshDynMembersInBulk(
+            final Group group,
+            final JPAAnySearchDAO searchDAO,
+            final String table,
+            final AnyType anyType,
+            final String fiql) {
+
+        AnyTypeKind kind = anyType == null ? AnyTypeKind.USER : AnyTypeKind.ANY_OBJECT;
+
+        Pair<String, List<Object>> keyQuery = searchDAO.buildKeyQuery(
+                group.getRealm(),
+                true,
+                Set.of(group.getRealm().getFullPath()),
+                SearchCondConverter.convert(searchCondVisitor, fiql),
+                kind);
+
+        // native search query parameters are positional, so further parameters are added after those
+        List<Object> parameters = new ArrayList<>(keyQuery.getRight());
+        parameters.add(group.getKey());
+        String groupParam = "?" + parameters.size();
+        String anyTypeParam = null;
+        if (anyType != null) {
+            parameters.add(anyType.getKey());
+            anyTypeParam = "?" + parameters.size();
+        }
+
+        String current = "SELECT any_id FROM " + table + " WHERE group_id=" + groupParam
+                + (anyTypeParam == null ? "" : " AND anyType_id=" + anyTypeParam);
+
+        // 1. compute members to remove and to add
+        List<String> removed = findKeys(current + " AND any_id NOT IN (" + keyQuery.getLeft() + ")", parameters);
+        List<String> added = findKeys(
+                "SELECT m.any_id FROM (" + keyQuery.getLeft() + ") m WHERE m.any_id NOT IN (" + current + ")",
+                parameters);
+
+        // 2. apply changes
+        deleteDynMembers(table, group.getKey(), removed);
+
+        if (!added.isEmpty()) {
+            Query insert = entityManager.createNativeQuery("INSERT INTO " + table
+                    + (anyTypeParam == null
+                            ? "(any_id, group_id) SELECT DISTINCT m.any_id, " + groupParam
+                            : "(anyType_id, any_id, group_id) SELECT DISTINCT " + anyTypeParam + ", m.any_id, "
+                            + groupParam)
+                    + " FROM (" + keyQuery.getLeft() + ") m WHERE m.any_id NOT IN (" + current + ")");
+            JPAAnySearchDAO.fillWithParameters(insert, parameters);
+            insert.executeUpdate();
+        }
+
+        publishDynMembersEvents(kind, added, removed);
+    }
+
+    protected void refreshDynMembersInBulk(final Group group, final JPAAnySearchDAO searchDAO) {
+        if (group.getUDynMembership() == null) {
+            List<String> removed = findUDynMembers(group);
+            clearUDynMembers(group);
+            publishDynMembersEvents(AnyTypeKind.USER, List.of(), removed);
+        } else {
+            refreshDynMembersInBulk(
+                    group, searchDAO, UDYNMEMB_TABLE, null, group.getUDynMembership().getFIQLCond());
+        }
+
+        // remove dynamic members for any types no longer having dynamic membership
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(group.getKey());
+        StringBuilder stale = new StringBuilder("FROM ").append(ADYNMEMB_TABLE).append(" WHERE group_id=?1");
+        if (!group.getADynMemberships().isEmpty()) {
+            stale.append(" AND anyType_id NOT IN (").
+                    append(group.getADynMemberships().stream().map(memb -> {
+                        parameters.add(memb.getAnyType().getKey());
+                        return "?" + parameters.size();
+                    }).collect(Collectors.joining(","))).
+                    append(')');
+        }
+        List<String> removed = findKeys("SELECT any_id " + stale, parameters);
+        if (!removed.isEmpty()) {
+            Query delete = entityManager.createNativeQuery("DELETE " + stale);
+            JPAAnySearchDAO.fillWithParameters(delete, parameters);
+            delete.executeUpdate();
+
+            publishDynMembersEvents(AnyTypeKind.ANY_OBJECT, List.of(), removed);
+        }
+
+        group.getADynMemberships().forEach(memb -> refreshDynMembersInBulk(
+                group, searchDAO, ADYNMEMB_TABLE, memb.getAnyType(), memb.getFIQLCond()));
     }
 
     @Override
@@ -437,46 +601,118 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
         return query.getResultList();
     }
 
+    protected Set<String> findDynGroupKeys(final String table, final String anyKey) {
+        Query query = entityManager.createNativeQuery("SELECT group_id FROM " + table + " WHERE any_id=?");
+        query.setParameter(1, anyKey);
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = query.getResultList();
+        return result.stream().map(Object::toString).collect(Collectors.toSet());
+    }
+
+    protected void deleteDynMemberships(final String table, final String anyKey, final Set<String> groupKeys) {
+        List<String> keys = new ArrayList<>(groupKeys);
+        for (int i = 0; i < keys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            List<String> batch = keys.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, keys.size()));
+
+            Query delete = entityManager.createNativeQuery(
+                    "DELETE FROM " + table + " WHERE any_id=? AND group_id IN ("
+                    + batch.stream().map(key -> "?").collect(Collectors.joining(",")) + ")");
+            delete.setParameter(1, anyKey);
+            for (int j = 0; j < batch.size(); j++) {
+                delete.setParameter(j + 2, batch.get(j));
+            }
+            delete.executeUpdate();
+        }
+    }
+
+    protected void insertDynMemberships(
+            final String table,
+            final String anyTypeKey,
+            final String anyKey,
+            final Set<String> groupKeys) {
+
+        // each INSERT ... SELECT adds up to a page of new memberships at once, whatever the number of matching groups
+        List<String> keys = new ArrayList<>(groupKeys);
+        for (int i = 0; i < keys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            List<String> batch = keys.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, keys.size()));
+
+            StringBuilder queryString = new StringBuilder("INSERT INTO ").append(table);
+            if (anyTypeKey == null) {
+                queryString.append("(any_id, group_id) SELECT ?, id");
+            } else {
+                queryString.append("(anyType_id, any_id, group_id) SELECT ?, ?, id");
+            }
+            queryString.append(" FROM ").append(JPAGroup.TABLE).append(" WHERE id IN (").
+                    append(batch.stream().map(key -> "?").collect(Collectors.joining(","))).append(')');
+
+            Query insert = entityManager.createNativeQuery(queryString.toString());
+            int idx = 1;
+            if (anyTypeKey != null) {
+                insert.setParameter(idx++, anyTypeKey);
+            }
+            insert.setParameter(idx++, anyKey);
+            for (String key : batch) {
+                insert.setParameter(idx++, key);
+            }
+            insert.executeUpdate();
+        }
+    }
+
+    /**
+     * Applies the difference between current and newly computed dynamic group memberships for the given any: the
+     * existing memberships are read with a single query, then removals and additions are issued as one statement
+     * each per {@link AnyDAO#DEFAULT_PAGE_SIZE} groups; lifecycle events are only published for groups whose
+     * membership actually changed.
+     *
+     * @param table dynamic membership table
+     * @param anyTypeKey any type key, for any objects only
+     * @param anyKey any key
+     * @param before dynamic groups before refresh
+     * @param after dynamic groups after refresh
+     * @param groups dynamic groups evaluated, by key
+     */
+    protected void applyDynMembershipDelta(
+            final String table,
+            final String anyTypeKey,
+            final String anyKey,
+            final Set<String> before,
+            final Set<String> after,
+            final Map<String, Group> groups) {
+
+        Set<String> toRemove = before.stream().
+                filter(groups::containsKey).filter(groupKey -> !after.contains(groupKey)).
+                collect(Collectors.toSet());
+        Set<String> toAdd = after.stream().
+                filter(groupKey -> !before.contains(groupKey)).
+                collect(Collectors.toSet());
+
+        deleteDynMemberships(table, anyKey, toRemove);
+        insertDynMemberships(table, anyTypeKey, anyKey, toAdd);
+
+        Stream.concat(toRemove.stream(), toAdd.stream()).forEach(groupKey -> publisher.publishEvent(
+                new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.UPDATE, groups.get(groupKey), AuthContextUtils.getDomain())));
+    }
+
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final AnyObject anyObject) {
-        Set<String> before = new HashSet<>();
+        Set<String> before = findDynGroupKeys(ADYNMEMB_TABLE, anyObject.getKey());
         Set<String> after = new HashSet<>();
+        Map<String, Group> groups = new HashMap<>();
         findWithADynMemberships(anyObject.getType()).forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    anyObject, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-            if (matches) {
-                after.add(memb.getGroup().getKey());
-            }
-
-            Query query = entityManager.createNativeQuery(
-                    "SELECT COUNT(group_id) FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            query.setParameter(1, memb.getGroup().getKey());
-            query.setParameter(2, anyObject.getKey());
-            boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
+            groups.put(memb.getGroup().getKey(), memb.getGroup());
 
-            if (matches && !existing) {
-                Query insert = entityManager.createNativeQuery(
-                        "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
-                insert.setParameter(1, anyObject.getType().getKey());
-                insert.setParameter(2, anyObject.getKey());
-                insert.setParameter(3, memb.getGroup().getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager.createNativeQuery(
-                        "DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, anyObject.getKey());
-                delete.executeUpdate();
+            if (anyMatchDAO.matches(anyObject, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()))) {
+                after.add(memb.getGroup().getKey());
             }
-
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
         });
 
+        applyDynMembershipDelta(
+                ADYNMEMB_TABLE, anyObject.getType().getKey(), anyObject.getKey(), before, after, groups);
+
+        before.retainAll(groups.keySet());
         return Pair.of(before, after);
     }
 
@@ -510,42 +746,20 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group> implements Group
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user) {
-        Set<String> before = new HashSet<>();
+        Set<String> before = findDynGroupKeys(UDYNMEMB_TABLE, user.getKey());
         Set<String> after = new HashSet<>();
+        Map<String, Group> groups = new HashMap<>();
         findWithUDynMemberships().forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    user, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-            if (matches) {
-                after.add(memb.getGroup().getKey());
-            }
-
-            Query query = entityManager.createNativeQuery(
-                    "SELECT COUNT(group_id) FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            query.setParameter(1, memb.getGroup().getKey());
-            query.setParameter(2, user.getKey());
-            boolean existing = ((Number) query.getSingleResult()).longValue() > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
+            groups.put(memb.getGroup().getKey(), memb.getGroup());
 
-            if (matches && !existing) {
-                Query insert = entityManager.createNativeQuery(
-                        "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                insert.setParameter(1, user.getKey());
-                insert.setParameter(2, memb.getGroup().getKey());
-                insert.executeUpdate();
-            } else if (!matches && existing) {
-                Query delete = entityManager.createNativeQuery(
-                        "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-                delete.setParameter(1, memb.getGroup().getKey());
-                delete.setParameter(2, user.getKey());
-                delete.executeUpdate();
+            if (anyMatchDAO.matches(user, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()))) {
+                after.add(memb.getGroup().getKey());
             }
-
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
         });
 
+        applyDynMembershipDelta(UDYNMEMB_TABLE, null, user.getKey(), before, after, groups);
+
+        before.retainAll(groups.keySet());
         return Pair.of(before, after);
     }
 
@@ -22,6 +22,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import java.time.OffsetDateTime;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -243,6 +244,22 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
                 collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<Role>> findDynRoles(final Collection<String> keys) {
+        Map<String, Optional<? extends Role>> roles = new HashMap<>();
+
+        Map<String, List<Role>> result = new HashMap<>();
+        findByAnyKeys(RoleRepoExt.DYNMEMB_TABLE, "role_id", keys).forEach((userKey, roleKeys) -> result.put(
+                userKey,
+                roleKeys.stream().
+                        map(roleKey -> roles.computeIfAbsent(roleKey, roleDAO::findById)).
+                        filter(Optional::isPresent).map(Optional::get).
+                        map(Role.class::cast).
+                        toList()));
+        return result;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public List<Group> findDynGroups(final String key) {
@@ -259,6 +276,22 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
                 collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<Group>> findDynGroups(final Collection<String> keys) {
+        Map<String, Optional<? extends Group>> groups = new HashMap<>();
+
+        Map<String, List<Group>> result = new HashMap<>();
+        findByAnyKeys(GroupRepoExt.UDYNMEMB_TABLE, "group_id", keys).forEach((userKey, groupKeys) -> result.put(
+                userKey,
+                groupKeys.stream().
+                        map(groupKey -> groups.computeIfAbsent(groupKey, groupDAO::findById)).
+                        filter(Optional::isPresent).map(Optional::get).
+                        map(Group.class::cast).
+                        toList()));
+        return result;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final User user) {
@@ -61,6 +61,7 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.LookAheadPageRequest;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
@@ -295,6 +296,71 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchAfter() {
+        SearchCond cond = userDAO.getAllMatchingCond();
+
+        List<String> expected = searchDAO.<User>search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                PageRequest.of(0, 100, Sort.by("id")), AnyTypeKind.USER).
+                stream().map(User::getKey).toList();
+        assertEquals(5, expected.size());
+
+        List<String> actual = new ArrayList<>();
+        String after = null;
+        List<User> users;
+        do {
+            users = searchDAO.searchAfter(
+                    realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, after, 2, AnyTypeKind.USER);
+            assertTrue(users.size() <= 2);
+            users.forEach(user -> actual.add(user.getKey()));
+            if (!users.isEmpty()) {
+                after = users.getLast().getKey();
+            }
+        } while (users.size() == 2);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void searchLookAhead() {
+        SearchCond cond = userDAO.getAllMatchingCond();
+
+        List<String> expected = searchDAO.<User>search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                PageRequest.of(0, 100, Sort.by("id")), AnyTypeKind.USER).
+                stream().map(User::getKey).toList();
+        assertEquals(5, expected.size());
+
+        // second page of size 2, plus one more element
+        List<String> actual = searchDAO.<User>search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                LookAheadPageRequest.of(PageRequest.of(1, 2, Sort.by("id"))), AnyTypeKind.USER).
+                stream().map(User::getKey).toList();
+        assertEquals(expected.subList(2, 5), actual);
+
+        // last page of size 2: no more elements
+        actual = searchDAO.<User>search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                LookAheadPageRequest.of(PageRequest.of(2, 2, Sort.by("id"))), AnyTypeKind.USER).
+                stream().map(User::getKey).toList();
+        assertEquals(expected.subList(4, 5), actual);
+    }
+
+    @Test
+    public void stream() {
+        MembershipCond groupCond = new MembershipCond();
+        groupCond.setGroup("root");
+
+        List<String> expected = searchDAO.<User>search(
+                SearchCond.getLeaf(groupCond), List.of(Sort.Order.asc("id")), AnyTypeKind.USER).
+                stream().map(User::getKey).toList();
+        assertFalse(expected.isEmpty());
+
+        try (Stream<User> users = searchDAO.stream(SearchCond.getLeaf(groupCond), AnyTypeKind.USER)) {
+            assertEquals(expected, users.map(User::getKey).toList());
+        }
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
@@ -24,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +34,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.form.FormPropertyType;
+import org.apache.syncope.common.lib.to.PropagationTaskTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.IdRepoImplementationType;
 import org.apache.syncope.common.lib.types.ImplementationEngine;
@@ -51,6 +55,8 @@ import org.apache.syncope.core.persistence.api.entity.task.MacroTaskCommand;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
 import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
@@ -80,6 +86,9 @@ public class TaskTest extends AbstractTest {
     @Autowired
     private ImplementationDAO implementationDAO;
 
+    @Autowired
+    private TaskUtilsFactory taskUtilsFactory;
+
     @Test
     public void findByName() {
         Optional<SchedTask> task = taskDAO.findByName(TaskType.SCHEDULED, "SampleJob Task");
@@ -166,6 +175,92 @@ public class TaskTest extends AbstractTest {
         assertEquals(task, actual);
     }
 
+    @Test
+    public void saveAllPropagationTasks() {
+        ExternalResource resource = resourceDAO.findById("ws-target-resource-1").orElseThrow();
+
+        List<PropagationTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            PropagationTask task = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTask();
+            task.setResource(resource);
+            task.setAnyTypeKind(AnyTypeKind.USER);
+            task.setAnyType(AnyTypeKind.USER.name());
+            task.setOperation(ResourceOperation.CREATE);
+            task.setConnObjectKey("user" + i + "@syncope.org");
+            task.setPropagationData(new PropagationData(Set.of(AttributeBuilder.build("testAttribute", i))));
+
+            TaskExec<PropagationTask> exec = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTaskExec();
+            exec.setStart(OffsetDateTime.now());
+            exec.setEnd(OffsetDateTime.now());
+            exec.setStatus(ExecStatus.SUCCESS.name());
+            exec.setExecutor("admin");
+            exec.setTask(task);
+            task.add(exec);
+
+            tasks.add(task);
+        }
+
+        List<PropagationTask> saved = taskDAO.saveAll(tasks);
+        assertEquals(tasks.size(), saved.size());
+
+        tasks.forEach(task -> {
+            PropagationTask actual = (PropagationTask) taskDAO.findById(
+                    TaskType.PROPAGATION, task.getKey()).orElseThrow();
+            assertEquals(task.getConnObjectKey(), actual.getConnObjectKey());
+            assertEquals(1, actual.getExecs().size());
+        });
+
+        // stored tasks are updated
+        saved.getFirst().setConnObjectKey("updated@syncope.org");
+        taskDAO.saveAll(List.of(saved.getFirst()));
+        assertEquals("updated@syncope.org", taskDAO.<PropagationTask>findById(
+                TaskType.PROPAGATION, saved.getFirst().getKey()).orElseThrow().getConnObjectKey());
+    }
+
+    @Test
+    public void purgePropagationsByChunks() {
+        ExternalResource resource = resourceDAO.findById("ws-target-resource-1").orElseThrow();
+        OffsetDateTime endDate = OffsetDateTime.parse("2000-01-01T00:00:00Z");
+
+        List<PropagationTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PropagationTask task = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTask();
+            task.setResource(resource);
+            task.setAnyTypeKind(AnyTypeKind.USER);
+            task.setAnyType(AnyTypeKind.USER.name());
+            task.setOperation(ResourceOperation.UPDATE);
+            task.setConnObjectKey("purge" + i + "@syncope.org");
+            task.setPropagationData(new PropagationData(Set.of(AttributeBuilder.build("testAttribute", i))));
+
+            TaskExec<PropagationTask> exec = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTaskExec();
+            exec.setStart(endDate);
+            exec.setEnd(endDate);
+            exec.setStatus(ExecStatus.FAILURE.name());
+            exec.setExecutor("admin");
+            exec.setTask(task);
+            task.add(exec);
+
+            tasks.add(task);
+        }
+        taskDAO.saveAll(tasks);
+
+        long before = taskDAO.count(TaskType.PROPAGATION, resource, null, null, null);
+
+        List<PropagationTaskTO> purged = new ArrayList<>();
+        long count = taskDAO.purgePropagations(
+                endDate.plusDays(1), List.of(ExecStatus.FAILURE), List.of(resource.getKey()), 2, purged::add);
+        assertEquals(tasks.size(), count);
+        assertEquals(
+                tasks.stream().map(PropagationTask::getConnObjectKey).collect(Collectors.toSet()),
+                purged.stream().map(PropagationTaskTO::getConnObjectKey).collect(Collectors.toSet()));
+        purged.forEach(taskTO -> {
+            assertEquals(resource.getKey(), taskTO.getResource());
+            assertEquals(ResourceOperation.UPDATE, taskTO.getOperation());
+        });
+
+        assertEquals(before - tasks.size(), taskDAO.count(TaskType.PROPAGATION, resource, null, null, null));
+    }
+
     @Test
     public void saveMacroTask() throws Exception {
         MacroTask task = entityFactory.newEntity(MacroTask.class);
@@ -107,6 +107,18 @@ public class UserTest extends AbstractTest {
         assertEquals(5, users.size());
     }
 
+    @Test
+    public void findAllAfter() {
+        List<User> first = userDAO.findAllAfter(null, 3);
+        assertEquals(3, first.size());
+
+        List<User> second = userDAO.findAllAfter(first.getLast().getKey(), 3);
+        assertEquals(2, second.size());
+        assertTrue(first.getLast().getKey().compareTo(second.getFirst().getKey()) < 0);
+
+        assertTrue(userDAO.findAllAfter(second.getLast().getKey(), 3).isEmpty());
+    }
+
     @Test
     public void count() {
         long count = userDAO.count();
@@ -103,6 +103,7 @@ public class DynRealmTest extends AbstractTest {
         assertTrue(anyMatchDAO.matches(user, SearchCond.getLeaf(dynRealmCond)));
 
         assertTrue(userDAO.findDynRealms(user.getKey()).contains(actual.getKey()));
+        assertTrue(userDAO.findDynRealms(List.of(user.getKey())).get(user.getKey()).contains(actual.getKey()));
     }
 
     @Test
@@ -29,9 +29,11 @@ import jakarta.persistence.Query;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.InvalidEntityException;
@@ -60,11 +62,15 @@ import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.syncope.core.persistence.jpa.dao.repo.GroupRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
+@RecordApplicationEvents
 public class GroupTest extends AbstractTest {
 
     @Autowired
@@ -97,6 +103,9 @@ public class GroupTest extends AbstractTest {
     @Autowired
     private PlainAttrValidationManager validator;
 
+    @Autowired
+    private ApplicationEvents events;
+
     @Test
     public void findByResourcesContaining() {
         List<Group> found = groupDAO.findByResourcesContaining(resourceDAO.findById("resource-csv").orElseThrow());
@@ -275,9 +284,18 @@ public class GroupTest extends AbstractTest {
 
         group.setUDynMembership(dynMembership);
 
+        events.clear();
         Group actual = groupDAO.saveAndRefreshDynMemberships(group);
         assertNotNull(actual);
 
+        // each new dynamic member is notified
+        assertEquals(
+                Set.of("c9b2dec2-00a7-4855-97c0-d854842b4b24", newUserKey),
+                events.stream(EntityLifecycleEvent.class).
+                        filter(event -> event.getEntity() instanceof User).
+                        map(event -> event.getEntity().getKey()).
+                        collect(Collectors.toSet()));
+
         entityManager.flush();
 
         // 2. verify that dynamic membership is there
@@ -296,6 +314,10 @@ public class GroupTest extends AbstractTest {
         assertEquals(1, dynGroupMemberships.size());
         assertTrue(dynGroupMemberships.contains(actual.getUDynMembership().getGroup()));
 
+        Map<String, List<Group>> bulkDynGroups = userDAO.findDynGroups(List.of(user.getKey(), newUserKey));
+        assertEquals(List.of(actual), bulkDynGroups.get(user.getKey()));
+        assertEquals(List.of(actual), bulkDynGroups.get(newUserKey));
+
         // 4. delete the new user and verify that dynamic membership was updated
         userDAO.deleteById(newUserKey);
 
@@ -319,6 +341,98 @@ public class GroupTest extends AbstractTest {
         assertTrue(dynGroupMemberships.isEmpty());
     }
 
+    @Test
+    public void udynMembershipDelta() {
+        // 0. create group with dynamic membership
+        Group group = entityFactory.newEntity(Group.class);
+        group.setRealm(realmDAO.getRoot());
+        group.setName("new");
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond("cool==true");
+        dynMembership.setGroup(group);
+
+        group.setUDynMembership(dynMembership);
+
+        Group actual = groupDAO.saveAndRefreshDynMemberships(group);
+        entityManager.flush();
+
+        // 1. create user matching the condition above
+        User user = entityFactory.newEntity(User.class);
+        user.setUsername("username");
+        user.setRealm(realmSearchDAO.findByFullPath("/even/two").orElseThrow());
+        user.add(anyTypeClassDAO.findById("other").orElseThrow());
+
+        UPlainAttr attr = entityFactory.newEntity(UPlainAttr.class);
+        attr.setOwner(user);
+        attr.setSchema(plainSchemaDAO.findById("cool").orElseThrow());
+        attr.add(validator, "true", anyUtilsFactory.getInstance(AnyTypeKind.USER));
+        user.add(attr);
+
+        Pair<Set<String>, Set<String>> dynGroupMembs = userDAO.saveAndGetDynGroupMembs(user);
+        entityManager.flush();
+
+        assertFalse(dynGroupMembs.getLeft().contains(actual.getKey()));
+        assertTrue(dynGroupMembs.getRight().contains(actual.getKey()));
+
+        user = userDAO.findByUsername("username").orElseThrow();
+        assertEquals(Set.of("c9b2dec2-00a7-4855-97c0-d854842b4b24", user.getKey()),
+                new HashSet<>(groupDAO.findUDynMembers(actual)));
+
+        // 2. saving again without changes leaves dynamic membership untouched
+        dynGroupMembs = userDAO.saveAndGetDynGroupMembs(user);
+        entityManager.flush();
+
+        assertTrue(dynGroupMembs.getLeft().contains(actual.getKey()));
+        assertTrue(dynGroupMembs.getRight().contains(actual.getKey()));
+        assertEquals(2, groupDAO.findUDynMembers(actual).size());
+
+        // 3. remove the matching attribute and verify that only the related dynamic membership is removed
+        user.remove(user.getPlainAttr("cool").orElseThrow());
+
+        dynGroupMembs = userDAO.saveAndGetDynGroupMembs(user);
+        entityManager.flush();
+
+        assertTrue(dynGroupMembs.getLeft().contains(actual.getKey()));
+        assertFalse(dynGroupMembs.getRight().contains(actual.getKey()));
+        assertEquals(List.of("c9b2dec2-00a7-4855-97c0-d854842b4b24"), groupDAO.findUDynMembers(actual));
+    }
+
+    @Test
+    public void udynMembershipConditionChange() {
+        // 0. create group with dynamic membership
+        Group group = entityFactory.newEntity(Group.class);
+        group.setRealm(realmDAO.getRoot());
+        group.setName("new");
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond("cool==true");
+        dynMembership.setGroup(group);
+
+        group.setUDynMembership(dynMembership);
+
+        Group actual = groupDAO.saveAndRefreshDynMemberships(group);
+        entityManager.flush();
+
+        assertEquals(List.of("c9b2dec2-00a7-4855-97c0-d854842b4b24"), groupDAO.findUDynMembers(actual));
+
+        // 1. change condition and verify that dynamic members are refreshed accordingly
+        actual.getUDynMembership().setFIQLCond("username==rossini;cool==false,username==vivaldi");
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager.flush();
+
+        assertEquals(
+                Set.of(userDAO.findKey("vivaldi").orElseThrow()),
+                new HashSet<>(groupDAO.findUDynMembers(actual)));
+
+        // 2. remove dynamic membership
+        actual.setUDynMembership(null);
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager.flush();
+
+        assertTrue(groupDAO.findUDynMembers(actual).isEmpty());
+    }
+
     /**
      * Static copy of {@link org.apache.syncope.core.persistence.jpa.dao.repo.AnyObjectRepoExtImpl} method with same
      * signature: required for avoiding creating of a new transaction - good for general use case but bad for the way
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
@@ -143,6 +144,10 @@ public class RoleTest extends AbstractTest {
         assertEquals(1, dynRoleMemberships.size());
         assertTrue(dynRoleMemberships.contains(actual));
 
+        Map<String, List<Role>> bulkDynRoles = userDAO.findDynRoles(List.of(user.getKey(), newUserKey));
+        assertEquals(List.of(actual), bulkDynRoles.get(user.getKey()));
+        assertEquals(List.of(actual), bulkDynRoles.get(newUserKey));
+
         // 4. delete the new user and verify that dynamic membership was updated
         userDAO.deleteById(newUserKey);
 
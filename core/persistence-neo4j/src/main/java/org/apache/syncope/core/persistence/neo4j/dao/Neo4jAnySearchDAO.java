@@ -886,8 +886,18 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
         query.append(") AND EXISTS { ").append(adminRealmsFilter).append(" } ");
     }
 
-    @Override
-    protected long doCount(
+    /**
+     * Builds the Cypher query matching all entities for the given search condition, with their keys bound as
+     * {@code id}; such query is meant to be continued by further clauses, as in set-based operations.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param kind any object
+     * @return Cypher query and its parameters
+     */
+    public Pair<String, Map<String, Object>> buildKeyQuery(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -904,12 +914,22 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
         // 2. wrap query
         wrapQuery(queryInfo, Streamable.empty(), kind, filter.filter());
-        TextStringBuilder query = queryInfo.query();
 
-        // 3. prepare the count query
-        query.append("RETURN COUNT(id)");
+        return Pair.of(queryInfo.query().toString(), parameters);
+    }
 
-        return neo4jTemplate.count(query.toString(), parameters);
+    @Override
+    protected long doCount(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind) {
+
+        Pair<String, Map<String, Object>> keyQuery = buildKeyQuery(base, recursive, adminRealms, cond, kind);
+
+        // 3. prepare the count query
+        return neo4jTemplate.count(keyQuery.getLeft() + "RETURN COUNT(id)", keyQuery.getRight());
     }
 
     protected String parseOrderBy(
@@ -975,7 +995,7 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                     append("ORDER BY ").append(parseOrderBy(kind, pageable.getSort().get()));
 
             if (pageable.isPaged()) {
-                query.append(" SKIP ").append(pageable.getPageSize() * pageable.getPageNumber()).
+                query.append(" SKIP ").append(pageable.getOffset()).
                         append(" LIMIT ").append(pageable.getPageSize());
             }
 
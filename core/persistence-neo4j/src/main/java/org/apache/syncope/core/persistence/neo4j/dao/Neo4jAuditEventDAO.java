@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.neo4j.dao;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -119,6 +120,12 @@ public class Neo4jAuditEventDAO implements AuditEventDAO {
         return neo4jTemplate.save(nodeValidator.validate(auditEvent));
     }
 
+    @Transactional
+    @Override
+    public List<AuditEvent> saveAll(final Collection<AuditEvent> auditEvents) {
+        return neo4jTemplate.saveAll(auditEvents.stream().map(nodeValidator::validate).toList());
+    }
+
     protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey) {
         return new AuditEventCriteriaBuilder().entityKey(entityKey);
     }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.neo4j.dao;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -223,7 +224,7 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
 
     @Override
     @SuppressWarnings("unchecked")
-    public <T extends Task<T>> List<T> findToExec(final TaskType type) {
+    public <T extends Task<T>> List<T> findToExec(final TaskType type, final Pageable pageable) {
         TaskUtils taskUtils = taskUtilsFactory.getInstance(type);
         StringBuilder query = new StringBuilder("MATCH (n:" + taskUtils.getTaskTable() + ") WHERE ");
 
@@ -234,6 +235,11 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
         }
         query.append("RETURN n.id ORDER BY n.id DESC");
 
+        if (pageable.isPaged()) {
+            query.append(" SKIP ").append(pageable.getPageSize() * pageable.getPageNumber()).
+                    append(" LIMIT ").append(pageable.getPageSize());
+        }
+
         return toList(neo4jClient.query(query.toString()).fetch().all(),
                 "n.id",
                 (Class<AbstractTask<?>>) taskUtils.getTaskEntity(),
@@ -524,6 +530,20 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
         return saved;
     }
 
+    @Transactional(rollbackFor = { Throwable.class })
+    @Override
+    public <T extends Task<?>> List<T> saveAll(final Collection<T> tasks) {
+        // propagation tasks need no further processing, hence can be stored by means of UNWIND statements
+        List<T> propagationTasks = tasks.stream().filter(Neo4jPropagationTask.class::isInstance).toList();
+        neo4jTemplate.saveAll(propagationTasks.stream().
+                flatMap(task -> task.getExecs().stream()).map(nodeValidator::validate).toList());
+
+        List<T> saved = new ArrayList<>(tasks.size());
+        saved.addAll(neo4jTemplate.saveAll(propagationTasks.stream().map(nodeValidator::validate).toList()));
+        tasks.stream().filter(task -> !(task instanceof Neo4jPropagationTask)).forEach(task -> saved.add(save(task)));
+        return saved;
+    }
+
     @Override
     public void delete(final TaskType type, final String key) {
         findById(type, key).ifPresent(this::delete);
@@ -568,10 +588,11 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
     }
 
     @Override
-    public List<PropagationTaskTO> purgePropagations(
+    public List<PropagationTaskTO> purgePropagationsChunk(
             final OffsetDateTime since,
             final List<ExecStatus> statuses,
-            final List<String> resources) {
+            final List<String> resources,
+            final int chunkSize) {
 
         Map<String, Object> parameters = new HashMap<>();
 
@@ -597,9 +618,9 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
                     append(")");
         }
         if (!CollectionUtils.isEmpty(resources)) {
+            AtomicInteger index = new AtomicInteger(0);
             query.append(" AND (").
                     append(resources.stream().map(r -> {
-                        AtomicInteger index = new AtomicInteger(0);
                         int idx = index.incrementAndGet();
                         parameters.put("rid" + idx, r);
                         return "r.id = $rid" + idx;
@@ -607,29 +628,26 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
                     append(")");
         }
 
-        query.append(" RETURN n.id");
-
-        Stream<String> keys = neo4jClient.query(query.toString()).bindAll(parameters).fetch().all().stream().
-                map(found -> (String) found.get("n.id")).distinct();
+        query.append(" RETURN DISTINCT n.id LIMIT $limit");
+        parameters.put("limit", chunkSize);
 
-        List<PropagationTaskTO> purged = new ArrayList<>();
-        keys.forEach(key -> findById(TaskType.PROPAGATION, key).map(PropagationTask.class::cast).ifPresent(task -> {
-            PropagationTaskTO taskTO = new PropagationTaskTO();
-
-            taskTO.setOperation(task.getOperation());
-            taskTO.setConnObjectKey(task.getConnObjectKey());
-            taskTO.setOldConnObjectKey(task.getOldConnObjectKey());
-            taskTO.setPropagationData(task.getSerializedPropagationData());
-            taskTO.setResource(task.getResource().getKey());
-            taskTO.setObjectClassName(task.getObjectClassName());
-            taskTO.setAnyTypeKind(task.getAnyTypeKind());
-            taskTO.setAnyType(task.getAnyType());
-            taskTO.setEntityKey(task.getEntityKey());
-
-            purged.add(taskTO);
+        List<String> keys = neo4jClient.query(query.toString()).bindAll(parameters).fetch().all().stream().
+                map(found -> (String) found.get("n.id")).toList();
+        if (keys.isEmpty()) {
+            return List.of();
+        }
 
-            delete(task);
-        }));
+        List<PropagationTaskTO> purged = keys.stream().
+                map(key -> findById(TaskType.PROPAGATION, key).map(PropagationTask.class::cast)).
+                flatMap(Optional::stream).
+                map(this::toPurgedTO).
+                toList();
+
+        neo4jClient.query(
+                "MATCH (n:" + Neo4jPropagationTask.NODE + ") WHERE n.id IN $keys "
+                + "OPTIONAL MATCH (n)-[]-(p:" + Neo4jPropagationTaskExec.NODE + ") "
+                + "DETACH DELETE p, n").
+                bindAll(Map.of("keys", keys)).run();
 
         return purged;
     }
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -442,6 +443,19 @@ public abstract class AbstractAnyRepoExt<A extends Any<?>, N extends AbstractAny
         return result;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<A> findAllAfter(final String after, final int size) {
+        return toList(neo4jClient.query(
+                "MATCH (n:" + AnyRepoExt.node(anyUtils.anyTypeKind()) + ") "
+                + (after == null ? "" : "WHERE n.id > $after ")
+                + "RETURN n.id ORDER BY n.id LIMIT " + size).
+                bindAll(after == null ? Map.of() : Map.of("after", after)).fetch().all(),
+                "n.id",
+                anyUtils.anyClass(),
+                cache());
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<String> findDynRealms(final String key) {
@@ -454,6 +468,37 @@ public abstract class AbstractAnyRepoExt<A extends Any<?>, N extends AbstractAny
                 map(found -> found.get("p.id").toString()).distinct().toList();
     }
 
+    /**
+     * Finds the keys of nodes related to the given any keys via the given relationship, with a single query.
+     *
+     * @param relationship relationship type
+     * @param node related node label
+     * @param keys any keys
+     * @return related node keys, grouped by any key
+     */
+    protected Map<String, List<String>> findRelatedByAnyKeys(
+            final String relationship,
+            final String node,
+            final Collection<String> keys) {
+
+        Map<String, List<String>> result = new HashMap<>();
+        neo4jClient.query(
+                "MATCH (n)-[:" + relationship + "]-(p:" + node + ") WHERE n.id IN $ids RETURN n.id, p.id").
+                bindAll(Map.of("ids", List.copyOf(keys))).fetch().all().forEach(found -> {
+                    List<String> values = result.computeIfAbsent(found.get("n.id").toString(), k -> new ArrayList<>());
+                    if (!values.contains(found.get("p.id").toString())) {
+                        values.add(found.get("p.id").toString());
+                    }
+                });
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynRealms(final Collection<String> keys) {
+        return findRelatedByAnyKeys(DynRealmRepoExt.DYN_REALM_MEMBERSHIP_REL, Neo4jDynRealm.NODE, keys);
+    }
+
     @Override
     public List<A> findByResourcesContaining(final ExternalResource resource) {
         return findByRelationship(
@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.cache.Cache;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -60,6 +61,7 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAnySearchDAO;
 import org.apache.syncope.core.persistence.neo4j.entity.EntityCacheKey;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyType;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAnyTypeClass;
@@ -79,7 +81,6 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
 import org.springframework.transaction.annotation.Transactional;
@@ -334,60 +335,186 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
         Group merged = save(group);
 
         // refresh dynamic memberships
-        clearUDynMembers(merged);
-        if (merged.getUDynMembership() != null) {
-            SearchCond cond = SearchCondConverter.convert(searchCondVisitor, merged.getUDynMembership().getFIQLCond());
-            long count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.USER);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<User> matching = anySearchDAO.search(
-                        merged.getRealm(),
+        if (anySearchDAO instanceof Neo4jAnySearchDAO neo4jAnySearchDAO) {
+            refreshDynMembersInBulk(merged, neo4jAnySearchDAO);
+        } else {
+            refreshDynMembersByPage(merged);
+        }
+
+        dynRealmDAO.refreshDynMemberships(merged);
+
+        return merged;
+    }
+
+    protected void refreshDynMembersByPage(final Group group) {
+        clearUDynMembers(group);
+        if (group.getUDynMembership() != null) {
+            SearchCond cond = SearchCondConverter.convert(searchCondVisitor, group.getUDynMembership().getFIQLCond());
+            String after = null;
+            List<User> matching;
+            do {
+                matching = anySearchDAO.searchAfter(
+                        group.getRealm(),
                         true,
-                        Set.of(merged.getRealm().getFullPath()),
+                        Set.of(group.getRealm().getFullPath()),
                         cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                        after,
+                        AnyDAO.DEFAULT_PAGE_SIZE,
                         AnyTypeKind.USER);
 
                 matching.forEach(user -> {
                     neo4jClient.query(
                             "MATCH (a:" + Neo4jUser.NODE + " {id: $aid}), (b:" + Neo4jGroup.NODE + "{id: $gid}) "
                             + "CREATE (a)-[:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]->(b)").
-                            bindAll(Map.of("aid", user.getKey(), "gid", merged.getKey())).run();
+                            bindAll(Map.of("aid", user.getKey(), "gid", group.getKey())).run();
 
                     publisher.publishEvent(
                             new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, user, AuthContextUtils.getDomain()));
                 });
-            }
+
+                if (!matching.isEmpty()) {
+                    after = matching.getLast().getKey();
+                }
+            } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         }
-        clearADynMembers(merged);
-        merged.getADynMemberships().forEach(memb -> {
+        clearADynMembers(group);
+        group.getADynMemberships().forEach(memb -> {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond());
-            long count = anySearchDAO.count(
-                    merged.getRealm(), true, Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.ANY_OBJECT);
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<AnyObject> matching = anySearchDAO.search(
-                        merged.getRealm(),
+            String after = null;
+            List<AnyObject> matching;
+            do {
+                matching = anySearchDAO.searchAfter(
+                        group.getRealm(),
                         true,
-                        Set.of(merged.getRealm().getFullPath()),
+                        Set.of(group.getRealm().getFullPath()),
                         cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                        after,
+                        AnyDAO.DEFAULT_PAGE_SIZE,
                         AnyTypeKind.ANY_OBJECT);
 
                 matching.forEach(any -> {
                     neo4jClient.query(
                             "MATCH (a:" + Neo4jAnyObject.NODE + " {id: $aid}), (b:" + Neo4jGroup.NODE + "{id: $gid}) "
                             + "CREATE (a)-[:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]->(b)").
-                            bindAll(Map.of("aid", any.getKey(), "gid", merged.getKey())).run();
+                            bindAll(Map.of("aid", any.getKey(), "gid", group.getKey())).run();
 
                     publisher.publishEvent(
                             new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain()));
                 });
-            }
+
+                if (!matching.isEmpty()) {
+                    after = matching.getLast().getKey();
+                }
+            } while (matching.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         });
+    }
 
-        dynRealmDAO.refreshDynMemberships(merged);
+    /**
+     * Publishes one {@link EntityLifecycleEvent} for each user or any object whose dynamic membership changed, as
+     * listeners like the JWT authentication cache or the search index managers rely on those.
+     *
+     * @param kind any type kind
+     * @param added keys of users or any objects added as dynamic members
+     * @param removed keys of users or any objects removed from dynamic members
+     */
+    protected void publishDynMembersEvents(
+            final AnyTypeKind kind,
+            final List<String> added,
+            final List<String> removed) {
+
+        List<String> changed = Stream.concat(added.stream(), removed.stream()).distinct().toList();
+        for (int i = 0; i < changed.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            List<String> batch = changed.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, changed.size()));
+            (kind == AnyTypeKind.USER ? userDAO.findByKeys(batch) : anyObjectDAO.findByKeys(batch)).
+                    forEach(any -> publisher.publishEvent(new EntityLifecycleEvent<>(
+                            this, SyncDeltaType.UPDATE, any, AuthContextUtils.getDomain())));
+        }
+    }
 
-        return merged;
+    /**
+     * Diffs the current dynamic members of the given group against the results of the given search condition and
+     * applies the difference via set-based statements, continuing the Cypher search query; one
+     * {@link EntityLifecycleEvent} is then published for each changed member.
+     *
+     * @param group group
+     * @param searchDAO Neo4j search DAO, providing the Cypher search query
+     * @param anyType any type, for any objects only
+     * @param fiql dynamic membership condition
+     */
+    protected void refreshDynMembersInBulk(
+            final Group group,
+            final Neo4jAnySearchDAO searchDAO,
+            final AnyType anyType,
+            final String fiql) {
+
+        AnyTypeKind kind = anyType == null ? AnyTypeKind.USER : AnyTypeKind.ANY_OBJECT;
+        String node = anyType == null ? Neo4jUser.NODE : Neo4jAnyObject.NODE;
+        String rel = anyType == null ? DYN_GROUP_USER_MEMBERSHIP_REL : DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL;
+
+        Pair<String, Map<String, Object>> keyQuery = searchDAO.buildKeyQuery(
+                group.getRealm(),
+                true,
+                Set.of(group.getRealm().getFullPath()),
+                SearchCondConverter.convert(searchCondVisitor, fiql),
+                kind);
+
+        Map<String, Object> parameters = new HashMap<>(keyQuery.getRight());
+        parameters.put("dynGroupKey", group.getKey());
+        String typeFilter = "";
+        if (anyType != null) {
+            parameters.put("dynGroupAnyType", anyType.getKey());
+            typeFilter = "AND EXISTS { (a)-[]-(:" + Neo4jAnyType.NODE + " {id: $dynGroupAnyType}) } ";
+        }
+
+        // 1. remove members no longer matching
+        List<String> removed = neo4jClient.query(
+                keyQuery.getLeft() + "WITH COLLECT(id) AS ids "
+                + "MATCH (a:" + node + ")-[r:" + rel + "]-(:" + Neo4jGroup.NODE + " {id: $dynGroupKey}) "
+                + "WHERE NOT a.id IN ids " + typeFilter
+                + "DELETE r "
+                + "RETURN DISTINCT a.id").
+                bindAll(parameters).fetch().all().stream().
+                map(found -> found.get("a.id").toString()).toList();
+
+        // 2. add members newly matching
+        List<String> added = neo4jClient.query(
+                keyQuery.getLeft()
+                + "MATCH (a:" + node + " {id: id}), (g:" + Neo4jGroup.NODE + " {id: $dynGroupKey}) "
+                + "WHERE NOT EXISTS { (a)-[:" + rel + "]-(g) } "
+                + "CREATE (a)-[:" + rel + "]->(g) "
+                + "RETURN DISTINCT a.id").
+                bindAll(parameters).fetch().all().stream().
+                map(found -> found.get("a.id").toString()).toList();
+
+        publishDynMembersEvents(kind, added, removed);
+    }
+
+    protected void refreshDynMembersInBulk(final Group group, final Neo4jAnySearchDAO searchDAO) {
+        if (group.getUDynMembership() == null) {
+            List<String> removed = findUDynMembers(group);
+            clearUDynMembers(group);
+            publishDynMembersEvents(AnyTypeKind.USER, List.of(), removed);
+        } else {
+            refreshDynMembersInBulk(group, searchDAO, null, group.getUDynMembership().getFIQLCond());
+        }
+
+        // remove dynamic members for any types no longer having dynamic membership
+        List<String> removed = neo4jClient.query(
+                "MATCH (a:" + Neo4jAnyObject.NODE + ")-[r:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]-"
+                + "(:" + Neo4jGroup.NODE + " {id: $id}) "
+                + "WHERE NOT EXISTS { (a)-[]-(t:" + Neo4jAnyType.NODE + ") WHERE t.id IN $types } "
+                + "DELETE r "
+                + "RETURN DISTINCT a.id").
+                bindAll(Map.of(
+                        "id", group.getKey(),
+                        "types", group.getADynMemberships().stream().
+                                map(memb -> memb.getAnyType().getKey()).toList())).
+                fetch().all().stream().
+                map(found -> found.get("a.id").toString()).toList();
+        publishDynMembersEvents(AnyTypeKind.ANY_OBJECT, List.of(), removed);
+
+        group.getADynMemberships().forEach(memb -> refreshDynMembersInBulk(
+                group, searchDAO, memb.getAnyType(), memb.getFIQLCond()));
     }
 
     @Override
@@ -520,46 +647,79 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
                 null);
     }
 
+    protected Set<String> findDynGroupKeys(final String node, final String rel, final String anyKey) {
+        return neo4jClient.query(
+                "MATCH (n:" + node + " {id: $aid})-[:" + rel + "]-(p:" + Neo4jGroup.NODE + ") "
+                + "RETURN DISTINCT p.id").bindAll(Map.of("aid", anyKey)).fetch().all().stream().
+                map(found -> found.get("p.id").toString()).collect(Collectors.toSet());
+    }
+
+    /**
+     * Applies the difference between current and newly computed dynamic group memberships for the given any: all
+     * removals and all additions are issued as one statement each; lifecycle events are only published for groups
+     * whose membership actually changed.
+     *
+     * @param node any node label
+     * @param rel dynamic membership relationship
+     * @param anyKey any key
+     * @param before dynamic groups before refresh
+     * @param after dynamic groups after refresh
+     * @param groups dynamic groups evaluated, by key
+     */
+    protected void applyDynMembershipDelta(
+            final String node,
+            final String rel,
+            final String anyKey,
+            final Set<String> before,
+            final Set<String> after,
+            final Map<String, Group> groups) {
+
+        List<String> toRemove = before.stream().
+                filter(groups::containsKey).filter(groupKey -> !after.contains(groupKey)).
+                toList();
+        List<String> toAdd = after.stream().
+                filter(groupKey -> !before.contains(groupKey)).
+                toList();
+
+        if (!toRemove.isEmpty()) {
+            neo4jClient.query(
+                    "MATCH (n:" + node + " {id: $aid})-[r:" + rel + "]-(p:" + Neo4jGroup.NODE + ") "
+                    + "WHERE p.id IN $gids "
+                    + "DETACH DELETE r").
+                    bindAll(Map.of("aid", anyKey, "gids", toRemove)).run();
+        }
+        if (!toAdd.isEmpty()) {
+            neo4jClient.query(
+                    "MATCH (a:" + node + " {id: $aid}), (b:" + Neo4jGroup.NODE + ") "
+                    + "WHERE b.id IN $gids "
+                    + "CREATE (a)-[:" + rel + "]->(b)").
+                    bindAll(Map.of("aid", anyKey, "gids", toAdd)).run();
+        }
+
+        Stream.concat(toRemove.stream(), toAdd.stream()).forEach(groupKey -> publisher.publishEvent(
+                new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.UPDATE, groups.get(groupKey), AuthContextUtils.getDomain())));
+    }
+
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final AnyObject anyObject) {
-        Set<String> before = new HashSet<>();
+        Set<String> before = findDynGroupKeys(
+                Neo4jAnyObject.NODE, DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL, anyObject.getKey());
         Set<String> after = new HashSet<>();
+        Map<String, Group> groups = new HashMap<>();
         findWithADynMemberships(anyObject.getType()).forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    anyObject, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-            if (matches) {
-                after.add(memb.getGroup().getKey());
-            }
-
-            boolean existing = neo4jTemplate.count(
-                    "MATCH (n:" + Neo4jAnyObject.NODE + " {id: $aid})-"
-                    + "[r:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]-"
-                    + "(p:" + Neo4jGroup.NODE + "{id: $gid}) "
-                    + "RETURN COUNT(n)",
-                    Map.of("aid", anyObject.getKey(), "gid", memb.getGroup().getKey())) > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
+            groups.put(memb.getGroup().getKey(), memb.getGroup());
 
-            if (matches && !existing) {
-                neo4jClient.query(
-                        "MATCH (a:" + Neo4jAnyObject.NODE + " {id: $aid}), (b:" + Neo4jGroup.NODE + "{id: $gid}) "
-                        + "CREATE (a)-[:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]->(b)").
-                        bindAll(Map.of("aid", anyObject.getKey(), "gid", memb.getGroup().getKey())).run();
-            } else if (!matches && existing) {
-                neo4jClient.query(
-                        "MATCH (n {id: $aid})-"
-                        + "[r:" + DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL + "]-"
-                        + "(p:" + Neo4jGroup.NODE + " {id: $gid}) "
-                        + "DETACH DELETE r").
-                        bindAll(Map.of("aid", anyObject.getKey(), "gid", memb.getGroup().getKey())).run();
+            if (anyMatchDAO.matches(anyObject, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()))) {
+                after.add(memb.getGroup().getKey());
             }
-
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
         });
 
+        applyDynMembershipDelta(
+                Neo4jAnyObject.NODE, DYN_GROUP_ANY_OBJECT_MEMBERSHIP_REL, anyObject.getKey(), before, after, groups);
+
+        before.retainAll(groups.keySet());
         return Pair.of(before, after);
     }
 
@@ -590,43 +750,20 @@ public class GroupRepoExtImpl extends AbstractAnyRepoExt<Group, Neo4jGroup> impl
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user) {
-        Set<String> before = new HashSet<>();
+        Set<String> before = findDynGroupKeys(Neo4jUser.NODE, DYN_GROUP_USER_MEMBERSHIP_REL, user.getKey());
         Set<String> after = new HashSet<>();
+        Map<String, Group> groups = new HashMap<>();
         findWithUDynMemberships().forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    user, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()));
-            if (matches) {
-                after.add(memb.getGroup().getKey());
-            }
-
-            boolean existing = neo4jTemplate.count(
-                    "MATCH (n:" + Neo4jUser.NODE + " {id: $aid})-"
-                    + "[r:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]-"
-                    + "(p:" + Neo4jGroup.NODE + "{id: $gid}) "
-                    + "RETURN COUNT(n)",
-                    Map.of("aid", user.getKey(), "gid", memb.getGroup().getKey())) > 0;
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
+            groups.put(memb.getGroup().getKey(), memb.getGroup());
 
-            if (matches && !existing) {
-                neo4jClient.query(
-                        "MATCH (a:" + Neo4jUser.NODE + " {id: $aid}), (b:" + Neo4jGroup.NODE + "{id: $gid}) "
-                        + "CREATE (a)-[:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]->(b)").
-                        bindAll(Map.of("aid", user.getKey(), "gid", memb.getGroup().getKey())).run();
-            } else if (!matches && existing) {
-                neo4jClient.query(
-                        "MATCH (n {id: $aid})-"
-                        + "[r:" + DYN_GROUP_USER_MEMBERSHIP_REL + "]-"
-                        + "(p:" + Neo4jGroup.NODE + " {id: $gid}) "
-                        + "DETACH DELETE r").
-                        bindAll(Map.of("aid", user.getKey(), "gid", memb.getGroup().getKey())).run();
+            if (anyMatchDAO.matches(user, SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()))) {
+                after.add(memb.getGroup().getKey());
             }
-
-            publisher.publishEvent(new EntityLifecycleEvent<>(
-                    this, SyncDeltaType.UPDATE, memb.getGroup(), AuthContextUtils.getDomain()));
         });
 
+        applyDynMembershipDelta(Neo4jUser.NODE, DYN_GROUP_USER_MEMBERSHIP_REL, user.getKey(), before, after, groups);
+
+        before.retainAll(groups.keySet());
         return Pair.of(before, after);
     }
 
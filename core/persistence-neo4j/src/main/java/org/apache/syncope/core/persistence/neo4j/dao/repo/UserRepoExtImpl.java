@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
 import java.time.OffsetDateTime;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -362,6 +363,21 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
                 null);
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<Role>> findDynRoles(final Collection<String> keys) {
+        Map<String, Optional<Neo4jRole>> roles = new HashMap<>();
+
+        Map<String, List<Role>> result = new HashMap<>();
+        findRelatedByAnyKeys(RoleRepoExt.DYN_ROLE_MEMBERSHIP_REL, Neo4jRole.NODE, keys).forEach((userKey, roleKeys) ->
+                result.put(userKey, roleKeys.stream().
+                        map(roleKey -> roles.computeIfAbsent(roleKey, k -> findById(k, Neo4jRole.class, null))).
+                        filter(Optional::isPresent).map(Optional::get).
+                        map(Role.class::cast).
+                        toList()));
+        return result;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public List<Group> findDynGroups(final String key) {
@@ -375,6 +391,21 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User, Neo4jUser> impleme
                 null);
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Map<String, List<Group>> findDynGroups(final Collection<String> keys) {
+        Map<String, Optional<Neo4jGroup>> groups = new HashMap<>();
+
+        Map<String, List<Group>> result = new HashMap<>();
+        findRelatedByAnyKeys(GroupRepoExt.DYN_GROUP_USER_MEMBERSHIP_REL, Neo4jGroup.NODE, keys).
+                forEach((userKey, groupKeys) -> result.put(userKey, groupKeys.stream().
+                map(groupKey -> groups.computeIfAbsent(groupKey, k -> findById(k, Neo4jGroup.class, null))).
+                filter(Optional::isPresent).map(Optional::get).
+                map(Group.class::cast).
+                toList()));
+        return result;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<Group> findAllGroups(final User user) {
@@ -35,6 +35,15 @@ public class Neo4jPropagationPolicy extends Neo4jPolicy implements PropagationPo
     @NotNull
     private Boolean fetchAroundProvisioning = true;
 
+    @NotNull
+    private Boolean skipFetchBefore = false;
+
+    @NotNull
+    private Boolean deferFetchAfter = false;
+
+    @NotNull
+    private Boolean coalesceUpdates = false;
+
     @NotNull
     private Boolean updateDelta = false;
 
@@ -57,6 +66,36 @@ public class Neo4jPropagationPolicy extends Neo4jPolicy implements PropagationPo
         this.fetchAroundProvisioning = fetchAroundProvisioning;
     }
 
+    @Override
+    public boolean isSkipFetchBefore() {
+        return Optional.ofNullable(skipFetchBefore).orElse(false);
+    }
+
+    @Override
+    public void setSkipFetchBefore(final boolean skipFetchBefore) {
+        this.skipFetchBefore = skipFetchBefore;
+    }
+
+    @Override
+    public boolean isDeferFetchAfter() {
+        return Optional.ofNullable(deferFetchAfter).orElse(false);
+    }
+
+    @Override
+    public void setDeferFetchAfter(final boolean deferFetchAfter) {
+        this.deferFetchAfter = deferFetchAfter;
+    }
+
+    @Override
+    public boolean isCoalesceUpdates() {
+        return Optional.ofNullable(coalesceUpdates).orElse(false);
+    }
+
+    @Override
+    public void setCoalesceUpdates(final boolean coalesceUpdates) {
+        this.coalesceUpdates = coalesceUpdates;
+    }
+
     @Override
     public boolean isUpdateDelta() {
         return updateDelta;
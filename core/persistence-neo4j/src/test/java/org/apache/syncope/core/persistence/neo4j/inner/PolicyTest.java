@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.neo4j.inner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -139,10 +140,13 @@ public class PolicyTest extends AbstractTest {
         propagationPolicy.setMaxAttempts(5);
         propagationPolicy.setBackOffStrategy(BackOffStrategy.EXPONENTIAL);
         propagationPolicy.setBackOffParams(propagationPolicy.getBackOffStrategy().getDefaultBackOffParams());
+        propagationPolicy.setSkipFetchBefore(true);
 
         propagationPolicy = policyDAO.save(propagationPolicy);
         assertNotNull(propagationPolicy);
         assertEquals(5, propagationPolicy.getMaxAttempts());
+        assertTrue(propagationPolicy.isSkipFetchBefore());
+        assertFalse(propagationPolicy.isDeferFetchAfter());
         assertEquals(BackOffStrategy.EXPONENTIAL, propagationPolicy.getBackOffStrategy());
         assertEquals(BackOffStrategy.EXPONENTIAL.getDefaultBackOffParams(), propagationPolicy.getBackOffParams());
 
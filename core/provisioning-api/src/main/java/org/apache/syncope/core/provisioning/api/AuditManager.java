@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api;
 
+import java.time.OffsetDateTime;
 import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 
@@ -75,4 +76,35 @@ public interface AuditManager {
             Object before,
             Object output,
             Object... input);
+
+    /**
+     * Create audit entries for each audit matching provided conditions, for an event which occurred at the given time,
+     * as reported by the client; implementations shall use the current time instead when the given time is too far
+     * ahead of it, or older than events could have been held by the client.
+     *
+     * @param domain domain
+     * @param who user triggering the event
+     * @param when when the event occurred, according to the client
+     * @param type event category type
+     * @param category event category
+     * @param subcategory event subcategory
+     * @param op operation
+     * @param outcome result value condition.
+     * @param before object(s) available before the event
+     * @param output object(s) produced by the event
+     * @param input object(s) provided to the event
+     */
+    @SuppressWarnings("squid:S00107")
+    void audit(
+            String domain,
+            String who,
+            OffsetDateTime when,
+            OpEvent.CategoryType type,
+            String category,
+            String subcategory,
+            String op,
+            OpEvent.Outcome outcome,
+            Object before,
+            Object output,
+            Object... input);
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.data;
 
+import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
@@ -35,6 +36,16 @@ public interface UserDataBinder {
 
     UserTO getUserTO(User user, boolean details);
 
+    /**
+     * Same as {@link #getUserTO(User, boolean)} for several users at once: associated data that would otherwise be
+     * looked up for each user is fetched in bulk.
+     *
+     * @param users users
+     * @param details whether detailed information shall be included
+     * @return user TOs, in the same order as the given users
+     */
+    List<UserTO> getUserTOs(List<? extends User> users, boolean details);
+
     LinkedAccountTO getLinkedAccountTO(LinkedAccount account);
 
     void create(User user, UserCR userCR);
@@ -34,6 +34,10 @@ public interface ProvisioningActions {
 
     /**
      * Action to be executed after the provisioning (push / pull) task completion.
+     * <p>
+     * When more than {@code provisioning.pushPullReport.inMemoryThreshold} results are produced, the completed ones
+     * are spilled to disk during the execution: in such case {@link ProvisioningProfile#getResults()} only holds the
+     * results still in memory, not all results of the execution.
      *
      * @param profile provisioning profile
      * @throws JobExecutionException in case of generic failure
@@ -55,6 +55,12 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
         return task;
     }
 
+    /**
+     * Returns the provisioning results still in memory: once {@code provisioning.pushPullReport.inMemoryThreshold}
+     * is exceeded, completed results are spilled to disk and removed from this list.
+     *
+     * @return provisioning results still in memory
+     */
     public List<ProvisioningReport> getResults() {
         return results;
     }
@@ -24,6 +24,9 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.syncope.common.lib.request.PasswordPatch;
+import org.apache.syncope.common.lib.request.UserCR;
+import org.apache.syncope.common.lib.to.UserTO;
 import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeDelta;
@@ -40,6 +43,8 @@ public final class POJOHelper {
 
     private static final JsonMapper MAPPER;
 
+    private static final JsonMapper MASKING_MAPPER;
+
     static {
         SimpleModule pojoModule = new SimpleModule("POJOModule", new Version(1, 0, 0, null, null, null));
         pojoModule.addSerializer(GuardedString.class, new GuardedStringSerializer());
@@ -56,6 +61,12 @@ public final class POJOHelper {
                 addModule(new JavaTimeModule()).
                 disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).
                 build();
+
+        MASKING_MAPPER = MAPPER.rebuild().
+                addMixIn(UserTO.class, UserMaskingMixIn.class).
+                addMixIn(UserCR.class, UserMaskingMixIn.class).
+                addMixIn(PasswordPatch.class, PasswordPatchMaskingMixIn.class).
+                build();
     }
 
     public static String serialize(final Object object) {
@@ -70,6 +81,25 @@ public final class POJOHelper {
         return result;
     }
 
+    /**
+     * Same as {@link #serialize(Object)}, but sensitive values (as passwords and security answers) found anywhere in
+     * the given object are replaced by a fixed placeholder, without altering or copying the object itself.
+     *
+     * @param object object to serialize
+     * @return JSON representation, with sensitive values masked
+     */
+    public static String serializeMasked(final Object object) {
+        String result = null;
+
+        try {
+            result = MASKING_MAPPER.writeValueAsString(object);
+        } catch (Exception e) {
+            LOG.error("During serialization", e);
+        }
+
+        return result;
+    }
+
     public static <T extends Object> String serialize(final T object, final TypeReference<T> reference) {
         String result = null;
 
@@ -19,11 +19,18 @@
 package org.apache.syncope.core.provisioning.api.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
 import java.util.Set;
+import org.apache.syncope.common.lib.request.PasswordPatch;
+import org.apache.syncope.common.lib.request.UserCR;
+import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
 import org.apache.syncope.core.provisioning.api.AbstractTest;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
@@ -63,4 +70,40 @@ public class POJOHelperTest extends AbstractTest {
 
         assertEquals(serialized, POJOHelper.serialize(POJOHelper.deserialize(serialized, PropagationData.class)));
     }
+
+    @Test
+    public void serializeMasked() {
+        UserTO userTO = new UserTO();
+        userTO.setUsername("rossini");
+        userTO.setPassword("password123");
+        userTO.setSecurityAnswer("answer");
+
+        String masked = POJOHelper.serializeMasked(userTO);
+        assertTrue(masked.contains("\"rossini\""));
+        assertTrue(masked.contains("\"password\":\"<MASKED>\""));
+        assertTrue(masked.contains("\"securityAnswer\":\"<MASKED>\""));
+        assertFalse(masked.contains("password123"));
+        assertFalse(masked.contains("answer\""));
+
+        // the original object is not altered, plain serialization does not mask
+        assertEquals("password123", userTO.getPassword());
+        assertTrue(POJOHelper.serialize(userTO).contains("password123"));
+
+        // nested values are masked as well
+        ProvisioningResult<UserTO> result = new ProvisioningResult<>();
+        result.setEntity(userTO);
+        assertFalse(POJOHelper.serializeMasked(result).contains("password123"));
+
+        UserCR userCR = new UserCR.Builder("/", "rossini").password("password123").build();
+        masked = POJOHelper.serializeMasked(userCR);
+        assertTrue(masked.contains("\"password\":\"<MASKED>\""));
+        assertTrue(masked.contains("\"securityAnswer\":null"));
+
+        UserUR userUR = new UserUR.Builder("key").
+                password(new PasswordPatch.Builder().value("password123").onSyncope(true).build()).build();
+        masked = POJOHelper.serializeMasked(userUR);
+        assertTrue(masked.contains("\"value\":\"<MASKED>\""));
+        assertFalse(masked.contains("password123"));
+        assertEquals("password123", userUR.getPassword().getValue());
+    }
 }
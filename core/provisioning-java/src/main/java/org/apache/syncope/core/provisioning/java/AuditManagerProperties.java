@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+public class AuditManagerProperties {
+
+    public enum OverflowPolicy {
+        /**
+         * The thread producing the audit event waits until space is available in the queue.
+         */
+        BLOCK,
+        /**
+         * The audit event is discarded (and counted) when the queue is full.
+         */
+        DROP
+
+    }
+
+    private int queueCapacity = 10000;
+
+    private int batchSize = 100;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    private int awaitTerminationSeconds = 5;
+
+    private int maxClientTimeSkewSeconds = 3600;
+
+    private int maxClientTimeAgeSeconds = 604800;
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(final OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getAwaitTerminationSeconds() {
+        return awaitTerminationSeconds;
+    }
+
+    public void setAwaitTerminationSeconds(final int awaitTerminationSeconds) {
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    public int getMaxClientTimeSkewSeconds() {
+        return maxClientTimeSkewSeconds;
+    }
+
+    public void setMaxClientTimeSkewSeconds(final int maxClientTimeSkewSeconds) {
+        this.maxClientTimeSkewSeconds = maxClientTimeSkewSeconds;
+    }
+
+    public int getMaxClientTimeAgeSeconds() {
+        return maxClientTimeAgeSeconds;
+    }
+
+    public void setMaxClientTimeAgeSeconds(final int maxClientTimeAgeSeconds) {
+        this.maxClientTimeAgeSeconds = maxClientTimeAgeSeconds;
+    }
+}
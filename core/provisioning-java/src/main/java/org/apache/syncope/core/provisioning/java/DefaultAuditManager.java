@@ -18,14 +18,21 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.apache.commons.lang3.SerializationUtils;
-import org.apache.syncope.common.lib.request.UserCR;
-import org.apache.syncope.common.lib.request.UserUR;
-import org.apache.syncope.common.lib.to.UserTO;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
 import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
@@ -40,42 +47,28 @@ import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.task.AsyncTaskExecutor;
-import org.springframework.transaction.annotation.Transactional;
 
-public class DefaultAuditManager implements AuditManager {
+/**
+ * Audit events are queued into a bounded buffer and stored by a single writer, in batches of up to
+ * {@link AuditManagerProperties#getBatchSize()} events; when the buffer is full, producers either wait or have their
+ * events dropped, according to {@link AuditManagerProperties#getOverflowPolicy()}.
+ */
+public class DefaultAuditManager implements AuditManager, InitializingBean, DisposableBean {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AuditManager.class);
 
-    protected static final String MASKED_VALUE = "<MASKED>";
-
-    protected static Object maskSensitive(final Object object) {
-        Object masked;
+    protected record QueuedAuditEvent(
+            String domain,
+            String who,
+            OpEvent opEvent,
+            OffsetDateTime when,
+            Object before,
+            Object output,
+            Object[] input) {
 
-        if (object instanceof UserTO userTO) {
-            masked = SerializationUtils.clone(userTO);
-            if (((UserTO) masked).getPassword() != null) {
-                ((UserTO) masked).setPassword(MASKED_VALUE);
-            }
-            if (((UserTO) masked).getSecurityAnswer() != null) {
-                ((UserTO) masked).setSecurityAnswer(MASKED_VALUE);
-            }
-        } else if (object instanceof UserCR userCR) {
-            masked = SerializationUtils.clone(userCR);
-            if (((UserCR) masked).getPassword() != null) {
-                ((UserCR) masked).setPassword(MASKED_VALUE);
-            }
-            if (((UserCR) masked).getSecurityAnswer() != null) {
-                ((UserCR) masked).setSecurityAnswer(MASKED_VALUE);
-            }
-        } else if (object instanceof UserUR && ((UserUR) object).getPassword() != null) {
-            masked = SerializationUtils.clone((UserUR) object);
-            ((UserUR) masked).getPassword().setValue(MASKED_VALUE);
-        } else {
-            masked = object;
-        }
-
-        return masked;
     }
 
     protected final AuditConfDAO auditConfDAO;
@@ -88,18 +81,71 @@ public class DefaultAuditManager implements AuditManager {
 
     protected final AsyncTaskExecutor taskExecutor;
 
+    protected final AuditManagerProperties props;
+
+    protected final BlockingQueue<QueuedAuditEvent> queue;
+
+    protected final AtomicLong enqueued = new AtomicLong();
+
+    protected final AtomicLong dropped = new AtomicLong();
+
+    protected final AtomicLong written = new AtomicLong();
+
+    protected final AtomicLong failed = new AtomicLong();
+
+    protected final AtomicLong flushes = new AtomicLong();
+
+    protected final AtomicLong flushNanos = new AtomicLong();
+
+    protected final AtomicLong maxFlushNanos = new AtomicLong();
+
+    protected final AtomicLong lastFlushNanos = new AtomicLong();
+
+    protected volatile boolean running;
+
+    protected Future<?> writer;
+
     public DefaultAuditManager(
             final AuditConfDAO auditConfDAO,
             final AuditEventDAO auditEventDAO,
             final EntityFactory entityFactory,
             final List<AuditEventProcessor> auditEventProcessors,
-            final AsyncTaskExecutor taskExecutor) {
+            final AsyncTaskExecutor taskExecutor,
+            final AuditManagerProperties props) {
 
         this.auditConfDAO = auditConfDAO;
         this.auditEventDAO = auditEventDAO;
         this.entityFactory = entityFactory;
         this.auditEventProcessors = auditEventProcessors;
         this.taskExecutor = taskExecutor;
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        writer = taskExecutor.submit(this::write);
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.get(props.getAwaitTerminationSeconds(), TimeUnit.SECONDS);
+            } catch (Exception e) {
+                LOG.warn("Audit writer did not terminate in time", e);
+                writer.cancel(true);
+            }
+        }
+
+        // store whatever could not be handled by the writer
+        List<QueuedAuditEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
     }
 
     @Override
@@ -150,50 +196,209 @@ public class DefaultAuditManager implements AuditManager {
             final Object output,
             final Object... input) {
 
-        taskExecutor.submit(() -> AuthContextUtils.runAsAdmin(domain, new Runnable() {
+        audit(domain, who, OffsetDateTime.now(), type, category, subcategory, op, outcome, before, output, input);
+    }
+
+    @Override
+    public void audit(
+            final String domain,
+            final String who,
+            final OffsetDateTime when,
+            final OpEvent.CategoryType type,
+            final String category,
+            final String subcategory,
+            final String op,
+            final OpEvent.Outcome outcome,
+            final Object before,
+            final Object output,
+            final Object... input) {
+
+        // events replayed by clients may have occurred long before, but not in the future
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime at = when;
+        if (at == null) {
+            at = now;
+        } else if (Duration.between(now, at).getSeconds() > props.getMaxClientTimeSkewSeconds()) {
+            LOG.warn("Audit time {} is ahead of current time by more than {} seconds, using {}",
+                    at, props.getMaxClientTimeSkewSeconds(), now);
+            at = now;
+        } else if (Duration.between(at, now).getSeconds() > props.getMaxClientTimeAgeSeconds()) {
+            LOG.warn("Audit time {} is behind current time by more than {} seconds, using {}",
+                    at, props.getMaxClientTimeAgeSeconds(), now);
+            at = now;
+        }
 
-            @Transactional
-            @Override
-            public void run() {
-                OpEvent opEvent = new OpEvent(type, category, subcategory, op, outcome);
+        QueuedAuditEvent event = new QueuedAuditEvent(
+                domain,
+                who,
+                new OpEvent(type, category, subcategory, op, outcome),
+                at,
+                before,
+                output,
+                input);
 
-                Optional<? extends AuditConf> auditConf = auditConfDAO.findById(opEvent.toString());
-                if (auditConf.isEmpty()) {
-                    LOG.debug("No audit conf found for {}, skippping", opEvent.toString());
-                    return;
-                }
-                if (!auditConf.get().isActive()) {
-                    LOG.debug("Audit conf found for {} is not active, skippping", opEvent.toString());
-                    return;
+        if (!running) {
+            flush(List.of(event));
+            return;
+        }
+
+        boolean accepted;
+        if (props.getOverflowPolicy() == AuditManagerProperties.OverflowPolicy.DROP) {
+            accepted = queue.offer(event);
+        } else {
+            try {
+                queue.put(event);
+                accepted = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        }
+
+        if (accepted) {
+            enqueued.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+            LOG.warn("Audit queue is full, dropping event {}", event.opEvent());
+        }
+    }
+
+    protected void write() {
+        List<QueuedAuditEvent> batch = new ArrayList<>(props.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedAuditEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, props.getBatchSize() - 1);
+                    flush(batch);
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOG.error("Unexpected error while writing audit events", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void flush(final List<QueuedAuditEvent> batch) {
+        long start = System.nanoTime();
+
+        Map<String, List<QueuedAuditEvent>> byDomain = batch.stream().collect(
+                Collectors.groupingBy(QueuedAuditEvent::domain, LinkedHashMap::new, Collectors.toList()));
+        byDomain.forEach((domain, events) -> {
+            try {
+                AuthContextUtils.runAsAdmin(domain, () -> store(domain, events));
+            } catch (Exception e) {
+                failed.addAndGet(events.size());
+                LOG.error("While storing {} audit events for domain {}", events.size(), domain, e);
+            }
+        });
 
+        long elapsed = System.nanoTime() - start;
+        flushes.incrementAndGet();
+        flushNanos.addAndGet(elapsed);
+        lastFlushNanos.set(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    protected AuditEvent build(final QueuedAuditEvent event) {
+        AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
+        auditEvent.setOpEvent(event.opEvent().toString());
+        auditEvent.setWho(event.who());
+        auditEvent.setWhen(event.when());
+        auditEvent.setBefore(POJOHelper.serializeMasked(event.before()));
+
+        Optional.ofNullable(event.input()).ifPresent(in -> auditEvent.setInputs(Arrays.stream(in).
+                map(POJOHelper::serializeMasked).
+                toList()));
+
+        if (event.output() instanceof Throwable throwable) {
+            auditEvent.setOutput(throwable.getMessage());
+            auditEvent.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
+        } else {
+            auditEvent.setOutput(POJOHelper.serializeMasked(event.output()));
+        }
+
+        return auditEvent;
+    }
+
+    protected void store(final String domain, final List<QueuedAuditEvent> events) {
+        Map<String, Optional<Boolean>> confs = new HashMap<>();
+
+        List<OpEvent> opEvents = new ArrayList<>(events.size());
+        List<AuditEvent> auditEvents = new ArrayList<>(events.size());
+        events.forEach(event -> {
+            Optional<Boolean> active = confs.computeIfAbsent(
+                    event.opEvent().toString(),
+                    k -> auditConfDAO.findById(k).map(AuditConf::isActive));
+            if (active.isEmpty()) {
+                LOG.debug("No audit conf found for {}, skippping", event.opEvent());
+            } else if (!active.get()) {
+                LOG.debug("Audit conf found for {} is not active, skippping", event.opEvent());
+            } else {
                 try {
-                    AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
-                    auditEvent.setOpEvent(opEvent.toString());
-                    auditEvent.setWho(who);
-                    auditEvent.setWhen(OffsetDateTime.now());
-                    auditEvent.setBefore(POJOHelper.serialize((maskSensitive(before))));
-
-                    Optional.ofNullable(input).ifPresent(in -> auditEvent.setInputs(Arrays.stream(in).
-                            map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
-                            toList()));
-
-                    if (output instanceof Throwable throwable) {
-                        auditEvent.setOutput(throwable.getMessage());
-                        auditEvent.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
-                    } else {
-                        auditEvent.setOutput(POJOHelper.serialize((maskSensitive(output))));
-                    }
-
-                    auditEventDAO.save(auditEvent);
-
-                    auditEventProcessors.stream().
-                            filter(p -> p.getEvents(domain).contains(opEvent)).
-                            forEach(p -> p.process(domain, auditEvent));
+                    auditEvents.add(build(event));
+                    opEvents.add(event.opEvent());
                 } catch (Exception e) {
-                    LOG.error("While processing audit event for conf {}", opEvent, e);
+                    failed.incrementAndGet();
+                    LOG.error("While processing audit event for conf {}", event.opEvent(), e);
                 }
             }
-        }));
+        });
+
+        if (auditEvents.isEmpty()) {
+            return;
+        }
+
+        auditEventDAO.saveAll(auditEvents);
+        written.addAndGet(auditEvents.size());
+
+        for (int i = 0; i < auditEvents.size(); i++) {
+            OpEvent opEvent = opEvents.get(i);
+            AuditEvent auditEvent = auditEvents.get(i);
+            auditEventProcessors.stream().
+                    filter(p -> p.getEvents(domain).contains(opEvent)).
+                    forEach(p -> {
+                        try {
+                            p.process(domain, auditEvent);
+                        } catch (Exception e) {
+                            LOG.error("While processing audit event for conf {}", opEvent, e);
+                        }
+                    });
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        long flushCount = flushes.get();
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("queueDepth", queue.size());
+        statistics.put("queueCapacity", props.getQueueCapacity());
+        statistics.put("overflowPolicy", props.getOverflowPolicy());
+        statistics.put("enqueued", enqueued.get());
+        statistics.put("dropped", dropped.get());
+        statistics.put("written", written.get());
+        statistics.put("failed", failed.get());
+        statistics.put("flushes", flushCount);
+        statistics.put("lastFlushMillis", TimeUnit.NANOSECONDS.toMillis(lastFlushNanos.get()));
+        statistics.put("maxFlushMillis", TimeUnit.NANOSECONDS.toMillis(maxFlushNanos.get()));
+        statistics.put("avgFlushMillis",
+                flushCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(flushNanos.get() / flushCount));
+        return statistics;
+    }
+
+    public void resetStatistics() {
+        enqueued.set(0);
+        dropped.set(0);
+        written.set(0);
+        failed.set(0);
+        flushes.set(0);
+        flushNanos.set(0);
+        maxFlushNanos.set(0);
+        lastFlushNanos.set(0);
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+public class NotificationDeliveryProperties {
+
+    /**
+     * Maximum number of notification tasks delivered concurrently; 1 means sequential delivery.
+     */
+    private int poolSize = 1;
+
+    /**
+     * Number of pending notification tasks read at once.
+     */
+    private int pageSize = 100;
+
+    /**
+     * Whether SMTP connections are kept open and reused for the messages sent during the same notification job run.
+     */
+    private boolean reuseConnections = true;
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(final int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(final int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public boolean isReuseConnections() {
+        return reuseConnections;
+    }
+
+    public void setReuseConnections(final boolean reuseConnections) {
+        this.reuseConnections = reuseConnections;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.time.Duration;
+
+public class PropagationBulkheadProperties {
+
+    /**
+     * Whether concurrent propagation tasks are executed within per-resource limits.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of concurrent propagation tasks initially allowed for each resource.
+     */
+    private int initialLimit = 10;
+
+    private int minLimit = 1;
+
+    private int maxLimit = 100;
+
+    /**
+     * Propagation tasks taking longer than this are treated as a sign of overload, and reduce the limit.
+     */
+    private Duration latencyThreshold = Duration.ofSeconds(5);
+
+    /**
+     * Factor applied to the limit upon failure or slow execution.
+     */
+    private double backoffRatio = 0.75;
+
+    /**
+     * Number of propagation tasks which can wait for each resource, beyond the limit, before being rejected.
+     */
+    private int maxQueued = 1000;
+
+    /**
+     * Number of consecutive failures after which no more propagation tasks are attempted for a resource.
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * Time after which a single propagation task is attempted again for a resource, once failureThreshold was reached.
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /**
+     * Seconds to wait, upon shutdown, for the propagation tasks already accepted to be executed.
+     */
+    private int awaitTerminationSeconds = 30;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(final int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(final int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(final int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    public void setLatencyThreshold(final Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(final double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public void setMaxQueued(final int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(final int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(final Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public int getAwaitTerminationSeconds() {
+        return awaitTerminationSeconds;
+    }
+
+    public void setAwaitTerminationSeconds(final int awaitTerminationSeconds) {
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.time.Duration;
+
+public class PropagationCoalescingProperties {
+
+    /**
+     * Time during which subsequent updates to the same connector object are merged, before being propagated.
+     */
+    private Duration window = Duration.ofSeconds(2);
+
+    /**
+     * Number of updates to the same connector object after which the merged update is propagated, regardless of the
+     * window.
+     */
+    private int maxSize = 50;
+
+    /**
+     * Seconds to wait, upon shutdown, for pending merged updates to be delivered.
+     */
+    private int awaitTerminationSeconds = 30;
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(final Duration window) {
+        this.window = window;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getAwaitTerminationSeconds() {
+        return awaitTerminationSeconds;
+    }
+
+    public void setAwaitTerminationSeconds(final int awaitTerminationSeconds) {
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+}
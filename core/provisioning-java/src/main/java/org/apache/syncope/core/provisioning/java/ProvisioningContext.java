@@ -162,8 +162,12 @@ import org.apache.syncope.core.provisioning.java.job.notification.NotificationJo
 import org.apache.syncope.core.provisioning.java.notification.DefaultNotificationManager;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationManager;
 import org.apache.syncope.core.provisioning.java.propagation.PriorityPropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.propagation.PropagationBulkhead;
+import org.apache.syncope.core.provisioning.java.propagation.PropagationTaskCoalescer;
+import org.apache.syncope.core.provisioning.java.propagation.PropagationTaskWriter;
 import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.apache.syncope.core.provisioning.java.pushpull.SyncTokenCheckpointer;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.security.DefaultCredentialChecker;
@@ -188,6 +192,7 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @EnableAsync
 @EnableConfigurationProperties(ProvisioningProperties.class)
@@ -376,6 +381,12 @@ public class ProvisioningContext {
         return new OutboundMatcher(mappingManager, userDAO, anyUtilsFactory, virSchemaDAO, virAttrHandler);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public SyncTokenCheckpointer syncTokenCheckpointer(final ExternalResourceDAO resourceDAO) {
+        return new SyncTokenCheckpointer(resourceDAO);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public DerAttrHandler derAttrHandler(final AnyUtilsFactory anyUtilsFactory) {
@@ -491,6 +502,59 @@ public class ProvisioningContext {
         return new IntAttrNameParser(plainSchemaDAO, derSchemaDAO, virSchemaDAO, anyUtilsFactory);
     }
 
+    /**
+     * This is a special thread executor to allow storing propagation tasks in batches.
+     *
+     * @return the async task executor
+     */
+    @Bean
+    public AsyncTaskExecutor propagationTaskWriterThreadExecutor() {
+        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("PropagationTaskWriterThreadExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PropagationTaskWriter propagationTaskWriter(
+            final TaskDAO taskDAO,
+            @Qualifier("propagationTaskWriterThreadExecutor")
+            final AsyncTaskExecutor taskExecutor,
+            final ProvisioningProperties props) {
+
+        return new PropagationTaskWriter(taskDAO, taskExecutor, props.getPropagationTaskWriter());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PropagationBulkhead propagationBulkhead(
+            final ProvisioningProperties props,
+            @Qualifier("propagationTaskExecutorAsyncExecutor")
+            final VirtualThreadPoolTaskExecutor propagationTaskExecutorAsyncExecutor) {
+
+        return new PropagationBulkhead(props.getPropagationBulkhead(), propagationTaskExecutorAsyncExecutor);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PropagationTaskCoalescer propagationTaskCoalescer(
+            final ProvisioningProperties props,
+            final PropagationBulkhead propagationBulkhead,
+            final TaskDAO taskDAO,
+            final ExternalResourceDAO resourceDAO,
+            final TaskUtilsFactory taskUtilsFactory,
+            final PlatformTransactionManager transactionManager) {
+
+        return new PropagationTaskCoalescer(
+                props.getPropagationCoalescing(),
+                taskDAO,
+                resourceDAO,
+                taskUtilsFactory,
+                propagationBulkhead,
+                transactionManager);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public PropagationTaskExecutor propagationTaskExecutor(
@@ -508,7 +572,10 @@ public class ProvisioningContext {
             final TaskDataBinder taskDataBinder,
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final PropagationTaskWriter propagationTaskWriter,
+            final PropagationTaskCoalescer propagationTaskCoalescer,
+            final PropagationBulkhead propagationBulkhead) {
 
         return new PriorityPropagationTaskExecutor(
                 connectorManager,
@@ -524,7 +591,10 @@ public class ProvisioningContext {
                 outboundMatcher,
                 validator,
                 publisher,
-                propagationTaskExecutorAsyncExecutor);
+                propagationTaskWriter,
+                propagationTaskExecutorAsyncExecutor,
+                propagationTaskCoalescer,
+                propagationBulkhead);
     }
 
     @ConditionalOnMissingBean
@@ -655,9 +725,16 @@ public class ProvisioningContext {
             final EntityFactory entityFactory,
             final List<AuditEventProcessor> auditEventProcessors,
             @Qualifier("auditManagerThreadExecutor")
-            final AsyncTaskExecutor taskExecutor) {
+            final AsyncTaskExecutor taskExecutor,
+            final ProvisioningProperties props) {
 
-        return new DefaultAuditManager(auditConfDAO, auditEventDAO, entityFactory, auditEventProcessors, taskExecutor);
+        return new DefaultAuditManager(
+                auditConfDAO,
+                auditEventDAO,
+                entityFactory,
+                auditEventProcessors,
+                taskExecutor,
+                props.getAuditManager());
     }
 
     @ConditionalOnMissingBean
@@ -674,6 +751,8 @@ public class ProvisioningContext {
             final AuditManager auditManager,
             final NotificationManager notificationManager,
             final ApplicationEventPublisher publisher,
+            final ProvisioningProperties props,
+            final PlatformTransactionManager transactionManager,
             final JavaMailSender mailSender) {
 
         return new MailNotificationJobDelegate(
@@ -682,6 +761,8 @@ public class ProvisioningContext {
                 auditManager,
                 notificationManager,
                 publisher,
+                props.getNotificationDelivery(),
+                transactionManager,
                 mailSender);
     }
 
@@ -703,7 +784,8 @@ public class ProvisioningContext {
             final AccessTokenJWSSigner jwsSigner,
             final AccessTokenDAO accessTokenDAO,
             final ConfParamOps confParamOps,
-            final DefaultCredentialChecker credentialChecker) {
+            final DefaultCredentialChecker credentialChecker,
+            final ApplicationEventPublisher publisher) {
 
         return new AccessTokenDataBinderImpl(
                 securityProperties,
@@ -711,7 +793,8 @@ public class ProvisioningContext {
                 accessTokenDAO,
                 confParamOps,
                 entityFactory,
-                credentialChecker);
+                credentialChecker,
+                publisher);
     }
 
     @ConditionalOnMissingBean
@@ -776,14 +859,16 @@ public class ProvisioningContext {
             final SecurityProperties securityProperties,
             final AnyTypeDAO anyTypeDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
-            final AccessTokenDAO accessTokenDAO) {
+            final AccessTokenDAO accessTokenDAO,
+            final ApplicationEventPublisher publisher) {
 
         return new AnyTypeDataBinderImpl(
                 securityProperties,
                 anyTypeDAO,
                 anyTypeClassDAO,
                 accessTokenDAO,
-                entityFactory);
+                entityFactory,
+                publisher);
     }
 
     @ConditionalOnMissingBean
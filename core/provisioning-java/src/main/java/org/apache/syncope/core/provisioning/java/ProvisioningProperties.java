@@ -31,6 +31,22 @@ public class ProvisioningProperties {
 
     private final ExecutorProperties scheduling = new ExecutorProperties();
 
+    private final AuditManagerProperties auditManager = new AuditManagerProperties();
+
+    private final PushPullReportProperties pushPullReport = new PushPullReportProperties();
+
+    private final PullCheckpointProperties pullCheckpoint = new PullCheckpointProperties();
+
+    private final PushPrefetchProperties pushPrefetch = new PushPrefetchProperties();
+
+    private final PropagationCoalescingProperties propagationCoalescing = new PropagationCoalescingProperties();
+
+    private final PropagationBulkheadProperties propagationBulkhead = new PropagationBulkheadProperties();
+
+    private final PropagationTaskWriterProperties propagationTaskWriter = new PropagationTaskWriterProperties();
+
+    private final NotificationDeliveryProperties notificationDelivery = new NotificationDeliveryProperties();
+
     private final List<String> connIdLocation = new ArrayList<>();
 
     public ExecutorProperties getAsyncConnectorFacadeExecutor() {
@@ -45,6 +61,38 @@ public class ProvisioningProperties {
         return scheduling;
     }
 
+    public AuditManagerProperties getAuditManager() {
+        return auditManager;
+    }
+
+    public PushPullReportProperties getPushPullReport() {
+        return pushPullReport;
+    }
+
+    public PullCheckpointProperties getPullCheckpoint() {
+        return pullCheckpoint;
+    }
+
+    public PushPrefetchProperties getPushPrefetch() {
+        return pushPrefetch;
+    }
+
+    public PropagationCoalescingProperties getPropagationCoalescing() {
+        return propagationCoalescing;
+    }
+
+    public PropagationBulkheadProperties getPropagationBulkhead() {
+        return propagationBulkhead;
+    }
+
+    public PropagationTaskWriterProperties getPropagationTaskWriter() {
+        return propagationTaskWriter;
+    }
+
+    public NotificationDeliveryProperties getNotificationDelivery() {
+        return notificationDelivery;
+    }
+
     public List<String> getConnIdLocation() {
         return connIdLocation;
     }
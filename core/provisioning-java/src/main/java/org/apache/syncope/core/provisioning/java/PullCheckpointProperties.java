@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.time.Duration;
+
+public class PullCheckpointProperties {
+
+    /**
+     * Number of handled deltas after which the latest sync tokens are persisted during incremental pull; zero or
+     * negative values disable such checkpoints.
+     */
+    private int deltas = 1000;
+
+    /**
+     * Time after which the latest sync tokens are persisted during incremental pull; {@code null} or zero disable
+     * such checkpoints.
+     */
+    private Duration interval = Duration.ofMinutes(1);
+
+    public int getDeltas() {
+        return deltas;
+    }
+
+    public void setDeltas(final int deltas) {
+        this.deltas = deltas;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(final Duration interval) {
+        this.interval = interval;
+    }
+}
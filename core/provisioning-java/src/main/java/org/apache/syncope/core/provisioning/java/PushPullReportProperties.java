@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+public class PushPullReportProperties {
+
+    /**
+     * Number of provisioning reports kept in memory during a pull or push execution: when exceeded, reports
+     * already completed are spilled to a temporary file. Zero or negative values disable spilling.
+     */
+    private int inMemoryThreshold = 10000;
+
+    /**
+     * Directory where spilled reports and full execution reports are written; defaults to {@code java.io.tmpdir}.
+     */
+    private String directory;
+
+    /**
+     * Number of full execution reports kept in {@link #directory} for each pull or push task, the oldest being removed
+     * when a new one is written. Zero or negative values keep all reports.
+     */
+    private int retainedReports = 10;
+
+    public int getInMemoryThreshold() {
+        return inMemoryThreshold;
+    }
+
+    public void setInMemoryThreshold(final int inMemoryThreshold) {
+        this.inMemoryThreshold = inMemoryThreshold;
+    }
+
+    public int getRetainedReports() {
+        return retainedReports;
+    }
+
+    public void setRetainedReports(final int retainedReports) {
+        this.retainedReports = retainedReports;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+}
@@ -35,11 +35,14 @@ import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DefaultCredentialChecker;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.apache.syncope.core.spring.security.jws.AccessTokenJWSSigner;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.springframework.context.ApplicationEventPublisher;
 
 public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
 
@@ -55,13 +58,16 @@ public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
 
     protected final DefaultCredentialChecker credentialChecker;
 
+    protected final ApplicationEventPublisher publisher;
+
     public AccessTokenDataBinderImpl(
             final SecurityProperties securityProperties,
             final AccessTokenJWSSigner jwsSigner,
             final AccessTokenDAO accessTokenDAO,
             final ConfParamOps confParamOps,
             final EntityFactory entityFactory,
-            final DefaultCredentialChecker credentialChecker) {
+            final DefaultCredentialChecker credentialChecker,
+            final ApplicationEventPublisher publisher) {
 
         this.securityProperties = securityProperties;
         this.jwsSigner = jwsSigner;
@@ -69,6 +75,7 @@ public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
         this.confParamOps = confParamOps;
         this.entityFactory = entityFactory;
         this.credentialChecker = credentialChecker;
+        this.publisher = publisher;
     }
 
     @Override
@@ -125,7 +132,10 @@ public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
             accessToken.setAuthorities(authorities);
         }
 
-        return accessTokenDAO.save(accessToken);
+        AccessToken saved = accessTokenDAO.save(accessToken);
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, saved, AuthContextUtils.getDomain()));
+        return saved;
     }
 
     @Override
@@ -189,7 +199,9 @@ public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
             accessToken.setAuthorities(authorities);
         }
 
-        accessTokenDAO.save(accessToken);
+        AccessToken saved = accessTokenDAO.save(accessToken);
+        publisher.publishEvent(
+                new EntityLifecycleEvent<>(this, SyncDeltaType.UPDATE, saved, AuthContextUtils.getDomain()));
 
         return Pair.of(body, expiration);
     }
@@ -37,13 +37,16 @@ import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.provisioning.api.data.AnyTypeDataBinder;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.Encryptor;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 
 public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
 
@@ -61,18 +64,22 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
 
     protected final EntityFactory entityFactory;
 
+    protected final ApplicationEventPublisher publisher;
+
     public AnyTypeDataBinderImpl(
             final SecurityProperties securityProperties,
             final AnyTypeDAO anyTypeDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final AccessTokenDAO accessTokenDAO,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final ApplicationEventPublisher publisher) {
 
         this.securityProperties = securityProperties;
         this.anyTypeDAO = anyTypeDAO;
         this.anyTypeClassDAO = anyTypeClassDAO;
         this.accessTokenDAO = accessTokenDAO;
         this.entityFactory = entityFactory;
+        this.publisher = publisher;
     }
 
     @Override
@@ -97,7 +104,8 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
                         POJOHelper.serialize(authorities), CipherAlgorithm.AES).
                         getBytes());
 
-                accessTokenDAO.save(accessToken);
+                publisher.publishEvent(new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.UPDATE, accessTokenDAO.save(accessToken), AuthContextUtils.getDomain()));
             } catch (Exception e) {
                 LOG.error("Could not fetch or store authorities", e);
             }
@@ -150,7 +158,8 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
                         POJOHelper.serialize(authorities), CipherAlgorithm.AES).
                         getBytes());
 
-                accessTokenDAO.save(accessToken);
+                publisher.publishEvent(new EntityLifecycleEvent<>(
+                        this, SyncDeltaType.UPDATE, accessTokenDAO.save(accessToken), AuthContextUtils.getDomain()));
             } catch (Exception e) {
                 LOG.error("Could not fetch or store authorities", e);
             }
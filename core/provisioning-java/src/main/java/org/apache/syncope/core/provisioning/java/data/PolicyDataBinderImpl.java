@@ -125,6 +125,9 @@ public class PolicyDataBinderImpl implements PolicyDataBinder {
             PropagationPolicy propagationPolicy = PropagationPolicy.class.cast(result);
 
             propagationPolicy.setFetchAroundProvisioning(propagationPolicyTO.isFetchAroundProvisioning());
+            propagationPolicy.setSkipFetchBefore(propagationPolicyTO.isSkipFetchBefore());
+            propagationPolicy.setDeferFetchAfter(propagationPolicyTO.isDeferFetchAfter());
+            propagationPolicy.setCoalesceUpdates(propagationPolicyTO.isCoalesceUpdates());
             propagationPolicy.setUpdateDelta(propagationPolicyTO.isUpdateDelta());
             propagationPolicy.setBackOffStrategy(propagationPolicyTO.getBackOffStrategy());
             propagationPolicy.setBackOffParams(propagationPolicyTO.getBackOffParams());
@@ -276,6 +279,9 @@ public class PolicyDataBinderImpl implements PolicyDataBinder {
             policyTO = (T) propagationPolicyTO;
 
             propagationPolicyTO.setFetchAroundProvisioning(propagationPolicy.isFetchAroundProvisioning());
+            propagationPolicyTO.setSkipFetchBefore(propagationPolicy.isSkipFetchBefore());
+            propagationPolicyTO.setDeferFetchAfter(propagationPolicy.isDeferFetchAfter());
+            propagationPolicyTO.setCoalesceUpdates(propagationPolicy.isCoalesceUpdates());
             propagationPolicyTO.setUpdateDelta(propagationPolicy.isUpdateDelta());
             propagationPolicyTO.setBackOffStrategy(propagationPolicy.getBackOffStrategy());
             propagationPolicyTO.setBackOffParams(propagationPolicy.getBackOffParams());
@@ -20,12 +20,15 @@ package org.apache.syncope.core.provisioning.java.data;
 
 import java.time.OffsetDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -761,11 +764,53 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
         return getLinkedAccountTO(account, true);
     }
 
+    protected boolean returnPasswordValue() {
+        return confParamOps.get(AuthContextUtils.getDomain(), "return.password.value", Boolean.FALSE, Boolean.class);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public UserTO getUserTO(final User user, final boolean details) {
-        Boolean returnPasswordValue = confParamOps.get(AuthContextUtils.getDomain(),
-                "return.password.value", Boolean.FALSE, Boolean.class);
+        return getUserTO(
+                user,
+                details,
+                returnPasswordValue(),
+                userDAO.findDynRealms(user.getKey()),
+                details ? userDAO.findDynRoles(user.getKey()) : List.of(),
+                userDAO.findDynGroups(user.getKey()));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserTO> getUserTOs(final List<? extends User> users, final boolean details) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        // prefetch dynamic realms, roles and memberships for all given users at once
+        List<String> keys = users.stream().map(User::getKey).toList();
+        Map<String, List<String>> dynRealms = userDAO.findDynRealms(keys);
+        Map<String, List<Role>> dynRoles = details ? userDAO.findDynRoles(keys) : Map.of();
+        Map<String, List<Group>> dynGroups = userDAO.findDynGroups(keys);
+
+        boolean returnPasswordValue = returnPasswordValue();
+        return users.stream().map(user -> getUserTO(
+                user,
+                details,
+                returnPasswordValue,
+                dynRealms.getOrDefault(user.getKey(), List.of()),
+                dynRoles.getOrDefault(user.getKey(), List.of()),
+                dynGroups.getOrDefault(user.getKey(), List.of()))).
+                toList();
+    }
+
+    protected UserTO getUserTO(
+            final User user,
+            final boolean details,
+            final boolean returnPasswordValue,
+            final List<String> dynRealms,
+            final List<Role> dynRoles,
+            final List<Group> dynGroups) {
 
         UserTO userTO = new UserTO();
         userTO.setKey(user.getKey());
@@ -802,21 +847,25 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
                 user.getPlainAttrs(),
                 derAttrHandler.getValues(user),
                 details ? virAttrHandler.getValues(user) : Map.of(),
-                userDAO.findAllResources(user));
+                Stream.of(
+                        user.getResources().stream(),
+                        user.getMemberships().stream().flatMap(m -> m.getRightEnd().getResources().stream()),
+                        dynGroups.stream().flatMap(group -> group.getResources().stream())).
+                        <ExternalResource>flatMap(Function.identity()).
+                        collect(Collectors.toSet()));
 
         // dynamic realms
-        userTO.getDynRealms().addAll(userDAO.findDynRealms(user.getKey()));
+        userTO.getDynRealms().addAll(dynRealms);
 
         if (details) {
             // roles
             userTO.getRoles().addAll(user.getRoles().stream().map(Role::getKey).toList());
 
             // dynamic roles
-            userTO.getDynRoles().addAll(
-                    userDAO.findDynRoles(user.getKey()).stream().map(Role::getKey).toList());
+            userTO.getDynRoles().addAll(dynRoles.stream().map(Role::getKey).toList());
 
             // privileges
-            userTO.getPrivileges().addAll(userDAO.findAllRoles(user).stream().
+            userTO.getPrivileges().addAll(Stream.concat(user.getRoles().stream(), dynRoles.stream()).
                     flatMap(role -> role.getPrivileges().stream()).map(Privilege::getKey).collect(Collectors.toSet()));
 
             // relationships
@@ -832,7 +881,7 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
                     membership)).toList());
 
             // dynamic memberships
-            userTO.getDynMemberships().addAll(userDAO.findDynGroups(user.getKey()).stream().
+            userTO.getDynMemberships().addAll(dynGroups.stream().
                     map(group -> new MembershipTO.Builder(group.getKey()).groupName(group.getName()).build()).
                     toList());
 
@@ -19,16 +19,20 @@
 package org.apache.syncope.core.provisioning.java.job;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ProvisionAction;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
@@ -53,6 +57,9 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
     @Autowired
     private AnySearchDAO searchDAO;
 
+    @Autowired
+    private RealmDAO realmDAO;
+
     @Autowired
     private UserProvisioningManager userProvisioningManager;
 
@@ -92,15 +99,22 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
 
         setStatus(result.toString());
 
+        // static and dynamic members, each counted once
+        Realm root = realmDAO.getRoot();
+
         MembershipCond membershipCond = new MembershipCond();
         membershipCond.setGroup(groupKey);
-        List<User> users = searchDAO.search(SearchCond.getLeaf(membershipCond), AnyTypeKind.USER);
         Collection<String> gResources = groupDAO.findAllResourceKeys(groupKey);
         setStatus("About to "
                 + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
-                + users.size() + " users from " + gResources);
+                + searchDAO.count(root, true, SyncopeConstants.FULL_ADMIN_REALMS,
+                        SearchCond.getLeaf(membershipCond), AnyTypeKind.USER)
+                + " users from " + gResources);
 
-        for (User user : users) {
+        for (Iterator<User> users = searchDAO.<User>stream(SearchCond.getLeaf(membershipCond), AnyTypeKind.USER).
+                iterator(); users.hasNext();) {
+
+            User user = users.next();
             List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
                     ? userProvisioningManager.deprovision(
                             user.getKey(), gResources, false, executor)
@@ -120,12 +134,16 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
 
         membershipCond = new MembershipCond();
         membershipCond.setGroup(groupKey);
-        List<AnyObject> anyObjects = searchDAO.search(SearchCond.getLeaf(membershipCond), AnyTypeKind.ANY_OBJECT);
         setStatus("About to "
                 + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
-                + anyObjects.size() + " any objects from " + gResources);
+                + searchDAO.count(root, true, SyncopeConstants.FULL_ADMIN_REALMS,
+                        SearchCond.getLeaf(membershipCond), AnyTypeKind.ANY_OBJECT)
+                + " any objects from " + gResources);
+
+        for (Iterator<AnyObject> anyObjects = searchDAO.<AnyObject>stream(
+                SearchCond.getLeaf(membershipCond), AnyTypeKind.ANY_OBJECT).iterator(); anyObjects.hasNext();) {
 
-        for (AnyObject anyObject : anyObjects) {
+            AnyObject anyObject = anyObjects.next();
             List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
                     ? anyObjectProvisioningManager.deprovision(
                             anyObject.getKey(), gResources, false, executor)
@@ -19,7 +19,13 @@
 package org.apache.syncope.core.provisioning.java.job.notification;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.common.lib.types.TaskType;
@@ -35,11 +41,17 @@ import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.java.NotificationDeliveryProperties;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 public abstract class AbstractNotificationJobDelegate implements NotificationJobDelegate {
 
@@ -55,18 +67,45 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
 
     protected final ApplicationEventPublisher publisher;
 
+    protected final NotificationDeliveryProperties props;
+
+    protected final TransactionTemplate txTemplate;
+
+    protected final TransactionTemplate readOnlyTxTemplate;
+
+    protected final AtomicLong runs = new AtomicLong();
+
+    protected final AtomicLong tasks = new AtomicLong();
+
+    protected final AtomicLong sent = new AtomicLong();
+
+    protected final AtomicLong notSent = new AtomicLong();
+
+    protected final AtomicLong errors = new AtomicLong();
+
+    protected final AtomicLong lastRunTasks = new AtomicLong();
+
+    protected final AtomicLong lastRunMillis = new AtomicLong();
+
     protected AbstractNotificationJobDelegate(
             final TaskDAO taskDAO,
             final TaskUtilsFactory taskUtilsFactory,
             final AuditManager auditManager,
             final NotificationManager notificationManager,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final NotificationDeliveryProperties props,
+            final PlatformTransactionManager transactionManager) {
 
         this.taskDAO = taskDAO;
         this.taskUtilsFactory = taskUtilsFactory;
         this.auditManager = auditManager;
         this.notificationManager = notificationManager;
         this.publisher = publisher;
+        this.props = props;
+
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTxTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTxTemplate.setReadOnly(true);
     }
 
     protected void setStatus(final String status) {
@@ -116,6 +155,7 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
             for (String to : task.getRecipients()) {
                 try {
                     notify(to, task, execution);
+                    sent.incrementAndGet();
 
                     notificationManager.createTasks(
                             AuthContextUtils.getWho(),
@@ -130,6 +170,7 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
                             "Successfully sent notification to " + to);
                 } catch (Exception e) {
                     LOG.error("Could not send out notification", e);
+                    notSent.incrementAndGet();
 
                     execution.setStatus(NotificationJob.Status.NOT_SENT.name());
                     if (task.getTraceLevel().ordinal() >= TraceLevel.FAILURES.ordinal()) {
@@ -167,20 +208,135 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
         return execution;
     }
 
-    @Transactional
+    /**
+     * Reads, page by page, the keys of all notification tasks to be executed.
+     *
+     * @return keys of notification tasks to be executed
+     */
+    protected List<String> findToExec() {
+        List<String> keys = new ArrayList<>();
+
+        int page = 0;
+        List<String> found;
+        do {
+            Pageable pageable = PageRequest.of(page++, props.getPageSize());
+            found = readOnlyTxTemplate.execute(status -> taskDAO.<NotificationTask>findToExec(
+                    TaskType.NOTIFICATION, pageable).stream().map(NotificationTask::getKey).toList());
+            keys.addAll(found);
+        } while (found.size() == props.getPageSize());
+
+        return keys;
+    }
+
+    /**
+     * Executes the given notification task in its own transaction, so that its outcome is committed independently
+     * of all other notification tasks.
+     *
+     * @param key notification task key
+     * @param executor executor
+     */
+    protected void deliver(final String key, final String executor) {
+        try {
+            txTemplate.executeWithoutResult(status -> taskDAO.<NotificationTask>findById(TaskType.NOTIFICATION, key).
+                    ifPresent(task -> {
+                        LOG.debug("Found notification task {} to be executed: starting...", task);
+                        executeSingle(task, executor);
+                        LOG.debug("Notification task {} executed", task);
+                    }));
+        } catch (Exception e) {
+            LOG.error("While executing notification task {}", key, e);
+            errors.incrementAndGet();
+        } finally {
+            tasks.incrementAndGet();
+        }
+    }
+
+    protected VirtualThreadPoolTaskExecutor workers() {
+        String domain = AuthContextUtils.getDomain();
+
+        VirtualThreadPoolTaskExecutor workers = new VirtualThreadPoolTaskExecutor();
+        workers.setPoolSize(props.getPoolSize());
+        workers.setThreadNamePrefix("notification-" + domain + "-");
+        workers.setTaskDecorator(d -> () -> AuthContextUtils.runAsAdmin(domain, d));
+        workers.initialize();
+        return workers;
+    }
+
+    /**
+     * Invoked once all notification tasks for the current run were delivered, to release any resource held.
+     */
+    protected void release() {
+        // nothing to do by default
+    }
+
     @Override
     public void execute(final String executor) throws JobExecutionException {
-        List<NotificationTask> tasks = taskDAO.<NotificationTask>findToExec(TaskType.NOTIFICATION);
-
-        setStatus("Sending out " + tasks.size() + " notifications");
+        List<String> keys = findToExec();
+
+        setStatus("Sending out " + keys.size() + " notifications");
+
+        long start = System.currentTimeMillis();
+        try {
+            if (props.getPoolSize() <= 1 || keys.size() <= 1) {
+                keys.forEach(key -> deliver(key, executor));
+            } else {
+                VirtualThreadPoolTaskExecutor workers = workers();
+
+                // wait for each page to complete before submitting the next one, to keep memory usage bound
+                for (int i = 0; i < keys.size(); i += props.getPageSize()) {
+                    List<Future<?>> page = keys.subList(i, Math.min(i + props.getPageSize(), keys.size())).stream().
+                            <Future<?>>map(key -> workers.submit(() -> deliver(key, executor))).toList();
+                    for (Future<?> future : page) {
+                        try {
+                            future.get();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new JobExecutionException("Interrupted while sending out notifications", e);
+                        } catch (ExecutionException e) {
+                            LOG.error("While sending out notifications", e.getCause());
+                        }
+                    }
+                }
+            }
+        } finally {
+            release();
+        }
 
-        for (int i = 0; i < tasks.size(); i++) {
-            LOG.debug("Found notification task {} to be executed: starting...", tasks.get(i));
-            executeSingle(tasks.get(i), executor);
-            LOG.debug("Notification task {} executed", tasks.get(i));
+        long elapsed = System.currentTimeMillis() - start;
+        runs.incrementAndGet();
+        lastRunTasks.set(keys.size());
+        lastRunMillis.set(elapsed);
+        if (!keys.isEmpty()) {
+            LOG.info("Executed {} notification tasks in {} ms", keys.size(), elapsed);
         }
     }
 
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("poolSize", props.getPoolSize());
+        statistics.put("runs", runs.get());
+        statistics.put("tasks", tasks.get());
+        statistics.put("sent", sent.get());
+        statistics.put("notSent", notSent.get());
+        statistics.put("errors", errors.get());
+        statistics.put("lastRunTasks", lastRunTasks.get());
+        statistics.put("lastRunMillis", lastRunMillis.get());
+        statistics.put("lastRunThroughput", lastRunMillis.get() == 0
+                ? 0D
+                : lastRunTasks.get() * 1000D / lastRunMillis.get());
+        return statistics;
+    }
+
+    public void resetStatistics() {
+        runs.set(0);
+        tasks.set(0);
+        sent.set(0);
+        notSent.set(0);
+        errors.set(0);
+        lastRunTasks.set(0);
+        lastRunMillis.set(0);
+    }
+
     protected static boolean hasToBeRegistered(final TaskExec<NotificationTask> execution) {
         NotificationTask task = execution.getTask();
 
@@ -18,33 +18,124 @@
  */
 package org.apache.syncope.core.provisioning.java.job.notification;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.task.NotificationTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.java.NotificationDeliveryProperties;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.transaction.PlatformTransactionManager;
 
 public class MailNotificationJobDelegate extends AbstractNotificationJobDelegate {
 
     protected final JavaMailSender mailSender;
 
+    /**
+     * SMTP connections currently idle, available for reuse by the next message to send.
+     */
+    protected final Queue<Transport> transports = new ConcurrentLinkedQueue<>();
+
+    protected final AtomicLong connections = new AtomicLong();
+
     public MailNotificationJobDelegate(
             final TaskDAO taskDAO,
             final TaskUtilsFactory taskUtilsFactory,
             final AuditManager auditManager,
             final NotificationManager notificationManager,
             final ApplicationEventPublisher publisher,
+            final NotificationDeliveryProperties props,
+            final PlatformTransactionManager transactionManager,
             final JavaMailSender mailSender) {
 
-        super(taskDAO, taskUtilsFactory, auditManager, notificationManager, publisher);
+        super(taskDAO, taskUtilsFactory, auditManager, notificationManager, publisher, props, transactionManager);
         this.mailSender = mailSender;
     }
 
+    protected Transport connect(final JavaMailSenderImpl sender) throws MessagingException {
+        Transport transport = transports.poll();
+        while (transport != null && !transport.isConnected()) {
+            close(transport);
+            transport = transports.poll();
+        }
+
+        if (transport == null) {
+            String username = StringUtils.defaultIfEmpty(sender.getUsername(), null);
+            String password = username == null ? null : sender.getPassword();
+
+            transport = sender.getSession().getTransport(
+                    StringUtils.defaultIfBlank(sender.getProtocol(), JavaMailSenderImpl.DEFAULT_PROTOCOL));
+            transport.connect(sender.getHost(), sender.getPort(), username, password);
+            connections.incrementAndGet();
+        }
+
+        return transport;
+    }
+
+    protected static void close(final Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            LOG.debug("Could not close SMTP connection", e);
+        }
+    }
+
+    protected void send(final MimeMessage message) throws MessagingException {
+        if (!props.isReuseConnections() || !(mailSender instanceof JavaMailSenderImpl sender)) {
+            mailSender.send(message);
+            return;
+        }
+
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        message.saveChanges();
+
+        Transport transport = connect(sender);
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+        } catch (MessagingException e) {
+            // do not reuse connections which experienced errors
+            close(transport);
+            throw e;
+        }
+        transports.add(transport);
+    }
+
+    @Override
+    protected void release() {
+        Transport transport;
+        while ((transport = transports.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = super.getStatistics();
+        statistics.put("connections", connections.get());
+        return statistics;
+    }
+
+    @Override
+    public void resetStatistics() {
+        super.resetStatistics();
+        connections.set(0);
+    }
+
     @Override
     protected void notify(
             final String to,
@@ -58,7 +149,7 @@ public class MailNotificationJobDelegate extends AbstractNotificationJobDelegate
         helper.setSubject(task.getSubject());
         helper.setText(task.getTextBody(), task.getHtmlBody());
 
-        mailSender.send(message);
+        send(message);
 
         execution.setStatus(NotificationJob.Status.SENT.name());
 
@@ -23,11 +23,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -128,8 +131,22 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
     protected final ApplicationEventPublisher publisher;
 
+    protected final PropagationTaskWriter taskWriter;
+
     protected final Map<String, PropagationActions> perContextActions = new ConcurrentHashMap<>();
 
+    protected final AtomicLong fetchedBefore = new AtomicLong();
+
+    protected final AtomicLong skippedBefore = new AtomicLong();
+
+    protected final AtomicLong fetchedAfter = new AtomicLong();
+
+    protected final AtomicLong deferredAfter = new AtomicLong();
+
+    protected final AtomicLong deferredAfterMissing = new AtomicLong();
+
+    protected final AtomicLong deferredAfterFailed = new AtomicLong();
+
     public AbstractPropagationTaskExecutor(
             final ConnectorManager connectorManager,
             final ConnObjectUtils connObjectUtils,
@@ -143,7 +160,8 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             final TaskUtilsFactory taskUtilsFactory,
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final PropagationTaskWriter taskWriter) {
 
         this.connectorManager = connectorManager;
         this.connObjectUtils = connObjectUtils;
@@ -158,6 +176,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         this.outboundMatcher = outboundMatcher;
         this.validator = validator;
         this.publisher = publisher;
+        this.taskWriter = taskWriter;
     }
 
     @Override
@@ -526,6 +545,87 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 orElse(true);
     }
 
+    protected boolean isSkipFetchBefore(final PropagationTaskInfo taskInfo) {
+        return Optional.ofNullable(taskInfo.getResource().getPropagationPolicy()).
+                map(PropagationPolicy::isSkipFetchBefore).
+                orElse(false);
+    }
+
+    protected boolean isDeferFetchAfter(final PropagationTaskInfo taskInfo) {
+        return Optional.ofNullable(taskInfo.getResource().getPropagationPolicy()).
+                map(PropagationPolicy::isDeferFetchAfter).
+                orElse(false);
+    }
+
+    /**
+     * Runs the given remote object read out of the propagation flow; by default on a new virtual thread.
+     *
+     * @param taskInfo propagation task whose remote object is read
+     * @param fetch remote object read
+     * @throws RejectedExecutionException if the remote object read cannot be accepted
+     */
+    protected void defer(final PropagationTaskInfo taskInfo, final Runnable fetch) {
+        Thread.startVirtualThread(fetch);
+    }
+
+    protected void deferFetchAfter(
+            final PropagationTaskInfo taskInfo,
+            final Connector connector,
+            final Provision provision,
+            final OrgUnit orgUnit,
+            final List<PropagationActions> actions) {
+
+        deferredAfter.incrementAndGet();
+
+        String domain = AuthContextUtils.getDomain();
+        try {
+            defer(taskInfo, () -> AuthContextUtils.runAsAdmin(domain, () -> {
+                try {
+                    ConnectorObject afterObj = orgUnit == null
+                            ? getRemoteObject(taskInfo, connector, provision, actions, true)
+                            : getRemoteObject(taskInfo, connector, orgUnit, actions, true);
+                    if (afterObj == null && taskInfo.getOperation() != ResourceOperation.DELETE) {
+                        deferredAfterMissing.incrementAndGet();
+                        LOG.warn("{} not found on {} after {}",
+                                taskInfo.getConnObjectKey(), taskInfo.getResource().getKey(),
+                                taskInfo.getOperation());
+                    }
+                } catch (Exception e) {
+                    deferredAfterFailed.incrementAndGet();
+                    LOG.error("Error retrieving after object", e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            deferredAfterFailed.incrementAndGet();
+            LOG.warn("Could not read {} from {} after {}: {}",
+                    taskInfo.getConnObjectKey(), taskInfo.getResource().getKey(), taskInfo.getOperation(),
+                    e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("fetchedBefore", fetchedBefore.get());
+        statistics.put("skippedBefore", skippedBefore.get());
+        statistics.put("fetchedAfter", fetchedAfter.get());
+        statistics.put("deferredAfter", deferredAfter.get());
+        statistics.put("deferredAfterMissing", deferredAfterMissing.get());
+        statistics.put("deferredAfterFailed", deferredAfterFailed.get());
+        statistics.put("savedRoundTrips", skippedBefore.get() + deferredAfter.get());
+        statistics.put("writer", taskWriter.getStatistics());
+        return statistics;
+    }
+
+    public void resetStatistics() {
+        fetchedBefore.set(0);
+        skippedBefore.set(0);
+        fetchedAfter.set(0);
+        deferredAfter.set(0);
+        deferredAfterMissing.set(0);
+        deferredAfterFailed.set(0);
+        taskWriter.resetStatistics();
+    }
+
     protected TaskExec<PropagationTask> doExecute(
             final PropagationTaskInfo taskInfo,
             final PropagationReporter reporter,
@@ -550,6 +650,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         AtomicReference<Boolean> propagationAttempted = new AtomicReference<>(false);
 
         boolean fetchRemoteObj = isFetchRemoteObj(taskInfo);
+        boolean fetchBefore = fetchRemoteObj && !isSkipFetchBefore(taskInfo);
 
         ConnectorObject beforeObj = null;
         ConnectorObject afterObj = null;
@@ -564,7 +665,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             orgUnit = taskInfo.getResource().getOrgUnit();
 
             if (taskInfo.getBeforeObj().isEmpty()) {
-                if (fetchRemoteObj) {
+                if (fetchBefore) {
                     // Try to read remote object BEFORE any actual operation
                     beforeObj = provision == null && orgUnit == null
                             ? null
@@ -572,6 +673,11 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                                     ? getRemoteObject(taskInfo, connector, provision, actions, false)
                                     : getRemoteObject(taskInfo, connector, orgUnit, actions, false);
                     taskInfo.setBeforeObj(Optional.ofNullable(beforeObj));
+                    if (provision != null || orgUnit != null) {
+                        fetchedBefore.incrementAndGet();
+                    }
+                } else if (fetchRemoteObj) {
+                    skippedBefore.incrementAndGet();
                 }
             } else {
                 beforeObj = taskInfo.getBeforeObj().get();
@@ -582,11 +688,11 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             switch (taskInfo.getOperation()) {
                 case CREATE:
                 case UPDATE:
-                    uid = createOrUpdate(taskInfo, fetchRemoteObj, beforeObj, connector, propagationAttempted);
+                    uid = createOrUpdate(taskInfo, fetchBefore, beforeObj, connector, propagationAttempted);
                     break;
 
                 case DELETE:
-                    uid = delete(taskInfo, fetchRemoteObj, beforeObj, connector, propagationAttempted);
+                    uid = delete(taskInfo, fetchBefore, beforeObj, connector, propagationAttempted);
                     break;
 
                 default:
@@ -630,16 +736,19 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             if (uid != null) {
                 taskInfo.setConnObjectKey(uid.getUidValue());
             }
-            if (fetchRemoteObj) {
-                try {
-                    afterObj = provision == null && orgUnit == null
-                            ? null
-                            : orgUnit == null
-                                    ? getRemoteObject(taskInfo, connector, provision, actions, true)
-                                    : getRemoteObject(taskInfo, connector, orgUnit, actions, true);
-                } catch (Exception ignore) {
-                    // ignore exception
-                    LOG.error("Error retrieving after object", ignore);
+            if (fetchRemoteObj && (provision != null || orgUnit != null)) {
+                if (isDeferFetchAfter(taskInfo) && !ExecStatus.FAILURE.name().equals(exec.getStatus())) {
+                    deferFetchAfter(taskInfo, connector, provision, orgUnit, actions);
+                } else {
+                    try {
+                        afterObj = orgUnit == null
+                                ? getRemoteObject(taskInfo, connector, provision, actions, true)
+                                : getRemoteObject(taskInfo, connector, orgUnit, actions, true);
+                        fetchedAfter.incrementAndGet();
+                    } catch (Exception ignore) {
+                        // ignore exception
+                        LOG.error("Error retrieving after object", ignore);
+                    }
                 }
             }
 
@@ -669,7 +778,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 exec.setTask(task);
                 task.add(exec);
 
-                taskInfo.setKey(taskDAO.save(task).getKey());
+                store(taskInfo, task, exec);
             });
 
             String fiql = provision == null
@@ -750,7 +859,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             execution.setTask(task);
             task.add(execution);
 
-            taskDAO.save(task);
+            store(taskInfo, task, execution);
         });
 
         reporter.onSuccessOrNonPriorityResourceFailures(
@@ -764,6 +873,31 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         return execution;
     }
 
+    /**
+     * Stores the given task, together with its executions: new tasks are handed over to {@link PropagationTaskWriter},
+     * if enabled, while existing tasks - and failed tasks which might be attempted again, according to the
+     * propagation policy - are stored straight away.
+     *
+     * @param taskInfo propagation task info
+     * @param task propagation task to store
+     * @param exec latest execution of the given task
+     */
+    protected void store(
+            final PropagationTaskInfo taskInfo,
+            final PropagationTask task,
+            final TaskExec<PropagationTask> exec) {
+
+        boolean retriable = !ExecStatus.SUCCESS.name().equals(exec.getStatus())
+                && Optional.ofNullable(taskInfo.getResource().getPropagationPolicy()).
+                        map(policy -> policy.getMaxAttempts() > 1).orElse(false);
+
+        if (taskInfo.getKey() == null && !retriable && taskWriter.enqueue(task)) {
+            taskInfo.setKey(task.getKey());
+        } else {
+            taskInfo.setKey(taskDAO.save(task).getKey());
+        }
+    }
+
     /**
      * Check whether an execution has to be stored, for a given task.
      *
@@ -795,6 +929,12 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         };
 
         if (!result) {
+            // discard any pending task persisted before execution, e.g. by PropagationTaskCoalescer
+            Optional.ofNullable(taskInfo.getKey()).
+                    flatMap(key -> taskDAO.findById(TaskType.PROPAGATION, key)).
+                    map(PropagationTask.class::cast).
+                    filter(task -> task.getExecs().isEmpty()).
+                    ifPresent(task -> taskDAO.delete(TaskType.PROPAGATION, task.getKey()));
             return Optional.empty();
         }
 
@@ -22,9 +22,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
@@ -53,7 +52,8 @@ import org.springframework.context.ApplicationEventPublisher;
 /**
  * Sorts the tasks to be executed according to related
  * {@link org.apache.syncope.core.persistence.api.entity.ExternalResource}'s priority, then execute.
- * Tasks related to resources with NULL priority are executed after other tasks, concurrently.
+ * Tasks related to resources with NULL priority are executed after other tasks, concurrently, within the per-resource
+ * limits set by {@link PropagationBulkhead}.
  * Failure during execution of a task related to resource with non-NULL priority are treated as fatal and will interrupt
  * the whole process, resulting in a global failure.
  */
@@ -83,6 +83,10 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
 
     protected final VirtualThreadPoolTaskExecutor taskExecutor;
 
+    protected final PropagationTaskCoalescer coalescer;
+
+    protected final PropagationBulkhead bulkhead;
+
     public PriorityPropagationTaskExecutor(
             final ConnectorManager connectorManager,
             final ConnObjectUtils connObjectUtils,
@@ -97,7 +101,10 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
             final ApplicationEventPublisher publisher,
-            final VirtualThreadPoolTaskExecutor taskExecutor) {
+            final PropagationTaskWriter taskWriter,
+            final VirtualThreadPoolTaskExecutor taskExecutor,
+            final PropagationTaskCoalescer coalescer,
+            final PropagationBulkhead bulkhead) {
 
         super(connectorManager,
                 connObjectUtils,
@@ -111,8 +118,37 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                 taskUtilsFactory,
                 outboundMatcher,
                 validator,
-                publisher);
+                publisher,
+                taskWriter);
         this.taskExecutor = taskExecutor;
+        this.coalescer = coalescer;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Submits the given remote object read to {@link PropagationBulkhead}: reads are then bounded by the limits of the
+     * related resource, and still executed upon shutdown.
+     *
+     * @param taskInfo propagation task whose remote object is read
+     * @param fetch remote object read
+     */
+    @Override
+    protected void defer(final PropagationTaskInfo taskInfo, final Runnable fetch) {
+        bulkhead.submit(taskInfo.getResource().getKey(), fetch);
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = super.getStatistics();
+        stats.put("coalescing", coalescer.getStatistics());
+        stats.put("resources", bulkhead.getStatistics());
+        return stats;
+    }
+
+    @Override
+    public void resetStatistics() {
+        super.resetStatistics();
+        bulkhead.resetStatistics();
     }
 
     @Override
@@ -140,6 +176,7 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                 ExecStatus execStatus;
                 String errorMessage = null;
                 try {
+                    coalescer.flush(taskInfo);
                     exec = newPropagationTaskCallable(taskInfo, reporter, executor).call();
                     execStatus = ExecStatus.valueOf(exec.getStatus());
                 } catch (Exception e) {
@@ -156,13 +193,23 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
 
             // then process non-priority resources concurrently...
             if (!concurrentTasks.isEmpty()) {
-                CompletionService<TaskExec<PropagationTask>> completionService =
-                        new ExecutorCompletionService<>(taskExecutor);
                 List<Future<TaskExec<PropagationTask>>> futures = new ArrayList<>();
 
                 concurrentTasks.forEach(taskInfo -> {
                     try {
-                        futures.add(completionService.submit(newPropagationTaskCallable(taskInfo, reporter, executor)));
+                        if (nullPriorityAsync && coalescer.accepts(taskInfo)) {
+                            // successive updates to the same connector object are merged before being propagated
+                            coalescer.enqueue(
+                                    taskInfo,
+                                    () -> newPropagationTaskCallable(
+                                            taskInfo, new DefaultPropagationReporter(), executor));
+                        } else {
+                            // any pending update to the same connector object is delivered first
+                            coalescer.flush(taskInfo);
+                            futures.add(bulkhead.submit(
+                                    taskInfo.getResource().getKey(),
+                                    newPropagationTaskCallable(taskInfo, reporter, executor)));
+                        }
 
                         if (nullPriorityAsync) {
                             reporter.onSuccessOrNonPriorityResourceFailures(
@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.provisioning.java.PropagationBulkheadProperties;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Bounds the number of propagation tasks concurrently executed for each
+ * {@link org.apache.syncope.core.persistence.api.entity.ExternalResource}, so that a slow or unavailable resource
+ * cannot monopolize the shared executor.
+ *
+ * Each resource limit is adapted via AIMD: it is increased by {@code 1 / limit} upon each fast, successful execution
+ * and multiplied by the configured back-off ratio upon each failed or slow execution.
+ * After the configured number of consecutive failures, new tasks for the resource are rejected until the configured
+ * time has elapsed; then a single task is attempted, whose outcome determines whether to accept or reject again.
+ *
+ * Admitted tasks are handed over to the executor by a single dispatcher thread, which keeps running upon shutdown
+ * until all accepted tasks were executed, or {@link PropagationBulkheadProperties#getAwaitTerminationSeconds()}
+ * have elapsed.
+ */
+public class PropagationBulkhead implements InitializingBean, DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PropagationBulkhead.class);
+
+    protected static final double LATENCY_WEIGHT = 0.2;
+
+    protected static final long DISPATCH_POLL_MILLIS = 100;
+
+    public enum CircuitState {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+
+    }
+
+    protected class Compartment {
+
+        protected final String resource;
+
+        protected final Queue<Runnable> queued = new ArrayDeque<>();
+
+        protected double limit = props.getInitialLimit();
+
+        protected int inFlight;
+
+        protected CircuitState state = CircuitState.CLOSED;
+
+        protected int consecutiveFailures;
+
+        protected long openedAt;
+
+        protected long completed;
+
+        protected long failed;
+
+        protected long rejected;
+
+        protected double latency;
+
+        protected Compartment(final String resource) {
+            this.resource = resource;
+        }
+
+        /**
+         * Admits the given task, unless rejected.
+         *
+         * @param task task to execute
+         * @return whether the given task shall be dispatched immediately, rather than being queued
+         */
+        protected synchronized boolean admit(final Runnable task) {
+            if (state == CircuitState.OPEN) {
+                if (System.currentTimeMillis() - openedAt < props.getOpenDuration().toMillis()) {
+                    rejected++;
+                    throw new RejectedExecutionException("Propagation to " + resource + " suspended after "
+                            + consecutiveFailures + " consecutive failures");
+                }
+
+                LOG.info("Attempting propagation to {} again", resource);
+                state = CircuitState.HALF_OPEN;
+                inFlight++;
+                return true;
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                rejected++;
+                throw new RejectedExecutionException("Propagation to " + resource + " is being attempted again");
+            }
+
+            if (inFlight < Math.max(1, (int) limit)) {
+                inFlight++;
+                return true;
+            }
+            if (queued.size() >= props.getMaxQueued()) {
+                rejected++;
+                throw new RejectedExecutionException(
+                        "Too many propagation tasks waiting for " + resource + ": " + queued.size());
+            }
+
+            queued.add(task);
+            return false;
+        }
+
+        /**
+         * Records the outcome of a completed task and adapts the limit accordingly.
+         *
+         * @param success whether the task was successful
+         * @param elapsed task duration, in milliseconds
+         * @return queued tasks which can now be dispatched
+         */
+        protected synchronized List<Runnable> release(final boolean success, final long elapsed) {
+            inFlight--;
+            completed++;
+            latency = latency == 0 ? elapsed : LATENCY_WEIGHT * elapsed + (1 - LATENCY_WEIGHT) * latency;
+
+            if (success) {
+                consecutiveFailures = 0;
+                if (state == CircuitState.HALF_OPEN) {
+                    LOG.info("Propagation to {} resumed", resource);
+                    state = CircuitState.CLOSED;
+                }
+
+                limit = elapsed <= props.getLatencyThreshold().toMillis()
+                        ? Math.min(props.getMaxLimit(), limit + 1 / limit)
+                        : Math.max(props.getMinLimit(), limit * props.getBackoffRatio());
+            } else {
+                failed++;
+                consecutiveFailures++;
+                limit = Math.max(props.getMinLimit(), limit * props.getBackoffRatio());
+
+                if (state == CircuitState.HALF_OPEN || consecutiveFailures >= props.getFailureThreshold()) {
+                    if (state != CircuitState.OPEN) {
+                        LOG.warn("Propagation to {} suspended after {} consecutive failures",
+                                resource, consecutiveFailures);
+                    }
+                    state = CircuitState.OPEN;
+                    openedAt = System.currentTimeMillis();
+                }
+            }
+
+            // tasks already admitted are executed anyway, even while suspended
+            List<Runnable> next = new ArrayList<>();
+            while (!queued.isEmpty() && inFlight < Math.max(1, (int) limit)) {
+                next.add(queued.poll());
+                inFlight++;
+            }
+            return next;
+        }
+
+        protected synchronized boolean isIdle() {
+            return inFlight == 0 && queued.isEmpty();
+        }
+
+        protected synchronized Map<String, Object> getStatistics() {
+            Map<String, Object> statistics = new LinkedHashMap<>();
+            statistics.put("state", state);
+            statistics.put("limit", (int) limit);
+            statistics.put("inFlight", inFlight);
+            statistics.put("queued", queued.size());
+            statistics.put("completed", completed);
+            statistics.put("failed", failed);
+            statistics.put("rejected", rejected);
+            statistics.put("latencyMillis", Math.round(latency));
+            return statistics;
+        }
+
+        protected synchronized void resetStatistics() {
+            completed = 0;
+            failed = 0;
+            rejected = 0;
+            latency = 0;
+        }
+    }
+
+    protected final PropagationBulkheadProperties props;
+
+    protected final VirtualThreadPoolTaskExecutor taskExecutor;
+
+    protected final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    /**
+     * Tasks to be handed over to the executor by the dispatcher thread: as the executor blocks once its concurrency
+     * limit is reached, it is never invoked by running tasks, which could otherwise wait for their own slot.
+     */
+    protected final BlockingQueue<Runnable> ready = new LinkedBlockingQueue<>();
+
+    protected volatile boolean running;
+
+    protected boolean terminated;
+
+    protected Thread dispatcher;
+
+    public PropagationBulkhead(
+            final PropagationBulkheadProperties props,
+            final VirtualThreadPoolTaskExecutor taskExecutor) {
+
+        this.props = props;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        dispatcher = Thread.ofVirtual().name("PropagationBulkheadDispatcher").start(this::dispatch);
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+
+        boolean drained = true;
+        if (dispatcher != null) {
+            try {
+                drained = dispatcher.join(Duration.ofSeconds(props.getAwaitTerminationSeconds()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                drained = false;
+            }
+            if (!drained) {
+                dispatcher.interrupt();
+            }
+        }
+
+        List<Runnable> remaining = new ArrayList<>();
+        synchronized (ready) {
+            terminated = true;
+            ready.drainTo(remaining);
+        }
+        if (drained) {
+            remaining.forEach(Runnable::run);
+        } else {
+            LOG.warn("Propagation bulkhead did not terminate in time, {} task(s) not executed", remaining.size());
+        }
+    }
+
+    /**
+     * Submits the given propagation task for execution, within the limits of the given resource.
+     *
+     * @param resource resource key
+     * @param callable propagation task
+     * @return future for the given propagation task
+     * @throws RejectedExecutionException if the given resource is suspended or too many tasks are waiting for it
+     */
+    public Future<TaskExec<PropagationTask>> submit(
+            final String resource, final Callable<TaskExec<PropagationTask>> callable) {
+
+        return submit(
+                resource,
+                callable,
+                exec -> exec == null || !ExecStatus.FAILURE.name().equals(exec.getStatus()));
+    }
+
+    /**
+     * Submits the given task for execution, within the limits of the given resource; the task is deemed failed when
+     * throwing any exception.
+     *
+     * @param resource resource key
+     * @param task task accessing the given resource, e.g. a remote object read
+     * @return future for the given task
+     * @throws RejectedExecutionException if the given resource is suspended or too many tasks are waiting for it
+     */
+    public Future<?> submit(final String resource, final Runnable task) {
+        return submit(resource, Executors.callable(task), result -> true);
+    }
+
+    protected <T> Future<T> submit(final String resource, final Callable<T> callable, final Predicate<T> success) {
+        if (!props.isEnabled()) {
+            FutureTask<T> task = new FutureTask<>(callable);
+            enqueue(task);
+            return task;
+        }
+
+        Compartment compartment = compartments.computeIfAbsent(resource, Compartment::new);
+
+        FutureTask<T> task = new FutureTask<>(() -> {
+            long start = System.currentTimeMillis();
+            boolean succeeded = false;
+            try {
+                T result = callable.call();
+                succeeded = success.test(result);
+                return result;
+            } finally {
+                compartment.release(succeeded, System.currentTimeMillis() - start).forEach(this::enqueue);
+            }
+        });
+
+        if (compartment.admit(task)) {
+            enqueue(task);
+        }
+
+        return task;
+    }
+
+    protected void enqueue(final Runnable task) {
+        synchronized (ready) {
+            if (!terminated) {
+                ready.add(task);
+                return;
+            }
+        }
+
+        LOG.warn("Propagation bulkhead terminated, running task in current thread");
+        task.run();
+    }
+
+    protected boolean isIdle() {
+        return ready.isEmpty() && compartments.values().stream().allMatch(Compartment::isIdle);
+    }
+
+    protected void dispatch() {
+        // once stopped, keeps dispatching until all accepted tasks were executed
+        while (running || !isIdle()) {
+            Runnable task;
+            try {
+                task = ready.poll(DISPATCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (task != null) {
+                try {
+                    taskExecutor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    LOG.error("Could not dispatch propagation task, running in dispatcher thread", e);
+                    task.run();
+                }
+            }
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new TreeMap<>();
+        compartments.forEach((resource, compartment) -> statistics.put(resource, compartment.getStatistics()));
+        return statistics;
+    }
+
+    public void resetStatistics() {
+        compartments.values().forEach(Compartment::resetStatistics);
+    }
+}
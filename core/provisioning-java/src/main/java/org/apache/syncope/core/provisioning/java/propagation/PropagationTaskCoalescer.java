@@ -0,0 +1,485 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskCallable;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.PropagationCoalescingProperties;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.AttributeDeltaBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Merges successive UPDATE propagation tasks targeting the same connector object, for resources whose propagation
+ * policy enables {@link PropagationPolicy#isCoalesceUpdates()}; the merged task is executed once the configured window
+ * has elapsed since the first update was received, or as soon as the configured number of updates was merged.
+ *
+ * Each pending merged task is also persisted, in its own transaction, as a propagation task without executions, so
+ * that it can be found and executed again if the merged update could not be delivered, e.g. because of a shutdown.
+ *
+ * Any other task for the same connector object must be preceded by {@link #flush(PropagationTaskInfo)}, so that the
+ * pending update is not delivered after it, e.g. re-creating a deleted object.
+ *
+ * Upon shutdown, no more updates are accepted and all pending ones are delivered.
+ */
+public class PropagationTaskCoalescer implements DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PropagationTaskCoalescer.class);
+
+    protected record PendingKey(String domain, String resource, String connObjectKey) {
+
+    }
+
+    protected static class Pending {
+
+        protected final PendingKey key;
+
+        protected final PropagationTaskCallable callable;
+
+        /**
+         * Serializes persistence of the pending task, which happens outside of the monitor.
+         */
+        protected final Lock persistLock = new ReentrantLock();
+
+        /**
+         * Completed once the pending task was delivered.
+         */
+        protected final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        protected PropagationTaskInfo taskInfo;
+
+        protected String taskKey;
+
+        protected int size;
+
+        protected boolean flushed;
+
+        protected Pending(final PendingKey key, final PropagationTaskCallable callable) {
+            this.key = key;
+            this.callable = callable;
+        }
+    }
+
+    /**
+     * Merges the given attributes by name, case-insensitively: later values win.
+     *
+     * @param earlier attributes from earlier update
+     * @param later attributes from later update
+     * @return merged attributes
+     */
+    protected static Set<Attribute> mergeAttributes(final Set<Attribute> earlier, final Set<Attribute> later) {
+        if (earlier == null && later == null) {
+            return null;
+        }
+
+        Map<String, Attribute> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Optional.ofNullable(earlier).ifPresent(attrs -> attrs.forEach(attr -> merged.put(attr.getName(), attr)));
+        Optional.ofNullable(later).ifPresent(attrs -> attrs.forEach(attr -> merged.put(attr.getName(), attr)));
+        return new HashSet<>(merged.values());
+    }
+
+    protected static List<Object> nullSafe(final List<Object> values) {
+        return Optional.ofNullable(values).orElseGet(List::of);
+    }
+
+    /**
+     * Composes two deltas for the same attribute, so that applying the result is equivalent to applying
+     * {@code earlier} and then {@code later}.
+     *
+     * @param earlier earlier delta
+     * @param later later delta
+     * @return composed delta
+     */
+    protected static AttributeDelta compose(final AttributeDelta earlier, final AttributeDelta later) {
+        if (later.getValuesToReplace() != null) {
+            return later;
+        }
+
+        if (earlier.getValuesToReplace() != null) {
+            List<Object> replace = new ArrayList<>(earlier.getValuesToReplace());
+            replace.removeAll(nullSafe(later.getValuesToRemove()));
+            nullSafe(later.getValuesToAdd()).stream().filter(v -> !replace.contains(v)).forEach(replace::add);
+            return AttributeDeltaBuilder.build(earlier.getName(), replace);
+        }
+
+        List<Object> add = new ArrayList<>(nullSafe(earlier.getValuesToAdd()));
+        add.removeAll(nullSafe(later.getValuesToRemove()));
+        nullSafe(later.getValuesToAdd()).stream().filter(v -> !add.contains(v)).forEach(add::add);
+
+        List<Object> remove = new ArrayList<>(nullSafe(earlier.getValuesToRemove()));
+        remove.removeAll(nullSafe(later.getValuesToAdd()));
+        nullSafe(later.getValuesToRemove()).stream().filter(v -> !remove.contains(v)).forEach(remove::add);
+
+        return AttributeDeltaBuilder.build(
+                earlier.getName(), add.isEmpty() ? null : add, remove.isEmpty() ? null : remove);
+    }
+
+    protected static Set<AttributeDelta> mergeAttributeDeltas(
+            final Set<AttributeDelta> earlier, final Set<AttributeDelta> later) {
+
+        Map<String, AttributeDelta> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        earlier.forEach(delta -> merged.put(delta.getName(), delta));
+        later.forEach(delta -> merged.merge(delta.getName(), delta, PropagationTaskCoalescer::compose));
+        return new HashSet<>(merged.values());
+    }
+
+    /**
+     * Merges the propagation data of two successive updates.
+     *
+     * @param earlier propagation data from earlier update
+     * @param later propagation data from later update
+     * @return merged propagation data, or empty if the two cannot be merged, e.g. when only one of them carries
+     * attribute deltas
+     */
+    protected static Optional<PropagationData> merge(final PropagationData earlier, final PropagationData later) {
+        if ((earlier.getAttributeDeltas() == null) != (later.getAttributeDeltas() == null)) {
+            return Optional.empty();
+        }
+
+        PropagationData merged = new PropagationData(mergeAttributes(earlier.getAttributes(), later.getAttributes()));
+        if (later.getAttributeDeltas() != null) {
+            merged.setAttributeDeltas(mergeAttributeDeltas(earlier.getAttributeDeltas(), later.getAttributeDeltas()));
+        }
+        return Optional.of(merged);
+    }
+
+    protected final PropagationCoalescingProperties props;
+
+    protected final TaskDAO taskDAO;
+
+    protected final ExternalResourceDAO resourceDAO;
+
+    protected final TaskUtilsFactory taskUtilsFactory;
+
+    protected final PropagationBulkhead bulkhead;
+
+    protected final TransactionTemplate txTemplate;
+
+    protected final Map<PendingKey, Pending> pending = new ConcurrentHashMap<>();
+
+    protected final Map<PendingKey, Pending> delivering = new ConcurrentHashMap<>();
+
+    protected final AtomicLong received = new AtomicLong();
+
+    protected final AtomicLong delivered = new AtomicLong();
+
+    protected volatile boolean running = true;
+
+    public PropagationTaskCoalescer(
+            final PropagationCoalescingProperties props,
+            final TaskDAO taskDAO,
+            final ExternalResourceDAO resourceDAO,
+            final TaskUtilsFactory taskUtilsFactory,
+            final PropagationBulkhead bulkhead,
+            final PlatformTransactionManager transactionManager) {
+
+        this.props = props;
+        this.taskDAO = taskDAO;
+        this.resourceDAO = resourceDAO;
+        this.taskUtilsFactory = taskUtilsFactory;
+        this.bulkhead = bulkhead;
+
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+
+        // delivers whatever is pending, then waits for all deliveries, including those already ongoing
+        List<Pending> toFlush = new ArrayList<>(pending.values());
+        LOG.debug("Delivering {} pending update(s) upon shutdown", toFlush.size());
+        toFlush.forEach(this::flush);
+
+        try {
+            CompletableFuture.allOf(delivering.values().stream().
+                    map(p -> p.done).toArray(CompletableFuture[]::new)).
+                    get(props.getAwaitTerminationSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.warn("Pending updates were not delivered in time: {}", delivering.keySet(), e);
+        }
+    }
+
+    /**
+     * Whether the given task can be coalesced with other updates to the same connector object.
+     *
+     * @param taskInfo propagation task
+     * @return true if the given task can be coalesced
+     */
+    public boolean accepts(final PropagationTaskInfo taskInfo) {
+        return running
+                && taskInfo.getOperation() == ResourceOperation.UPDATE
+                && taskInfo.getConnObjectKey() != null
+                && taskInfo.getOldConnObjectKey() == null
+                && taskInfo.getBeforeObj().isEmpty()
+                && Optional.ofNullable(taskInfo.getResource().getPropagationPolicy()).
+                        map(PropagationPolicy::isCoalesceUpdates).orElse(false);
+    }
+
+    /**
+     * Enqueues the given task, merging it with any pending update to the same connector object.
+     *
+     * @param taskInfo propagation task
+     * @param callable supplies the callable which will execute the merged task; invoked only when no update is
+     * pending for the same connector object, so that the current authentication is captured
+     */
+    public void enqueue(final PropagationTaskInfo taskInfo, final Supplier<PropagationTaskCallable> callable) {
+        received.incrementAndGet();
+
+        PendingKey key = new PendingKey(
+                AuthContextUtils.getDomain(), taskInfo.getResource().getKey(), taskInfo.getConnObjectKey());
+        Pending p;
+        boolean full;
+        while (true) {
+            Pending candidate = pending.computeIfAbsent(key, k -> new Pending(k, callable.get()));
+            synchronized (candidate) {
+                if (candidate.flushed) {
+                    continue;
+                }
+
+                if (candidate.taskInfo == null) {
+                    candidate.taskInfo = taskInfo;
+                    CompletableFuture.delayedExecutor(props.getWindow().toMillis(), TimeUnit.MILLISECONDS).
+                            execute(() -> flush(candidate));
+                } else {
+                    Optional<PropagationData> merged = merge(
+                            candidate.taskInfo.getPropagationData(), taskInfo.getPropagationData());
+                    if (merged.isEmpty()) {
+                        LOG.debug("Cannot merge {} with pending {}, flushing the latter",
+                                taskInfo, candidate.taskInfo);
+                        flush(candidate);
+                        continue;
+                    }
+
+                    candidate.taskInfo = coalesce(candidate.taskInfo, taskInfo, merged.get());
+                }
+                candidate.size++;
+
+                p = candidate;
+                full = candidate.size >= props.getMaxSize();
+                break;
+            }
+        }
+
+        // persistence happens outside of the monitor, in its own transaction
+        persist(p);
+
+        if (full) {
+            flush(p);
+        }
+    }
+
+    /**
+     * Delivers any pending update for the connector object targeted by the given task, and waits for its completion:
+     * to be invoked before executing any task which is not enqueued.
+     *
+     * @param taskInfo propagation task about to be executed
+     */
+    public void flush(final PropagationTaskInfo taskInfo) {
+        String domain = AuthContextUtils.getDomain();
+        Stream.of(taskInfo.getConnObjectKey(), taskInfo.getOldConnObjectKey()).
+                filter(Objects::nonNull).
+                distinct().
+                map(connObjectKey -> new PendingKey(domain, taskInfo.getResource().getKey(), connObjectKey)).
+                forEach(key -> {
+                    Optional.ofNullable(pending.get(key)).ifPresent(this::flush);
+
+                    Optional.ofNullable(delivering.get(key)).ifPresent(p -> {
+                        LOG.debug("Waiting for pending update to {} on {} before {}",
+                                key.connObjectKey(), key.resource(), taskInfo.getOperation());
+                        p.done.join();
+                    });
+                });
+    }
+
+    protected PropagationTaskInfo coalesce(
+            final PropagationTaskInfo earlier,
+            final PropagationTaskInfo later,
+            final PropagationData propagationData) {
+
+        PropagationTaskInfo coalesced = new PropagationTaskInfo(
+                later.getResource(),
+                ResourceOperation.UPDATE,
+                later.getObjectClass(),
+                later.getAnyTypeKind(),
+                later.getAnyType(),
+                later.getEntityKey(),
+                later.getConnObjectKey(),
+                propagationData);
+        coalesced.setConnector(later.getConnector());
+        coalesced.setUpdateRequest(later.getUpdateRequest());
+        return coalesced;
+    }
+
+    /**
+     * Persists the given pending task in a new transaction, so that it is not lost if the merged update cannot be
+     * delivered, nor rolled back with the transaction which enqueued it.
+     *
+     * @param p pending task
+     */
+    protected void persist(final Pending p) {
+        p.persistLock.lock();
+        try {
+            PropagationTaskInfo taskInfo;
+            synchronized (p) {
+                if (p.flushed) {
+                    // being delivered, with all merged updates
+                    return;
+                }
+                taskInfo = p.taskInfo;
+            }
+
+            p.taskKey = txTemplate.execute(status -> persist(p.taskKey, taskInfo));
+        } catch (Exception e) {
+            LOG.error("While persisting pending {}", p.taskInfo, e);
+        } finally {
+            p.persistLock.unlock();
+        }
+    }
+
+    protected String persist(final String taskKey, final PropagationTaskInfo taskInfo) {
+        PropagationTask task = Optional.ofNullable(taskKey).
+                flatMap(key -> taskDAO.findById(TaskType.PROPAGATION, key)).
+                map(PropagationTask.class::cast).
+                orElseGet(() -> {
+                    PropagationTask t = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTask();
+                    t.setResource(resourceDAO.findById(taskInfo.getResource().getKey()).
+                            orElseThrow(() -> new NotFoundException("Resource " + taskInfo.getResource().getKey())));
+                    t.setObjectClassName(taskInfo.getObjectClass().getObjectClassValue());
+                    t.setAnyTypeKind(taskInfo.getAnyTypeKind());
+                    t.setAnyType(taskInfo.getAnyType());
+                    t.setEntityKey(taskInfo.getEntityKey());
+                    t.setOperation(taskInfo.getOperation());
+                    t.setConnObjectKey(taskInfo.getConnObjectKey());
+                    return t;
+                });
+        task.setPropagationData(taskInfo.getPropagationData());
+
+        return taskDAO.save(task).getKey();
+    }
+
+    /**
+     * Removes the given pending task from the queue, unless already done.
+     *
+     * @param p pending task
+     * @return whether the pending task was removed by this invocation, hence needs to be delivered
+     */
+    protected boolean detach(final Pending p) {
+        synchronized (p) {
+            if (p.flushed) {
+                return false;
+            }
+
+            p.flushed = true;
+            pending.remove(p.key, p);
+            delivering.put(p.key, p);
+            return true;
+        }
+    }
+
+    /**
+     * Submits the given pending task for delivery, within the limits set by {@link PropagationBulkhead}, unless already
+     * done; if rejected, the persisted pending task is left to be executed again.
+     *
+     * @param p pending task
+     */
+    protected void flush(final Pending p) {
+        if (!detach(p)) {
+            return;
+        }
+
+        try {
+            bulkhead.submit(p.key.resource(), () -> deliver(p));
+        } catch (RejectedExecutionException e) {
+            LOG.error("Could not deliver coalesced {}, left as propagation task {}", p.taskInfo, p.taskKey, e);
+            delivering.remove(p.key, p);
+            p.done.complete(null);
+        }
+    }
+
+    protected TaskExec<PropagationTask> deliver(final Pending p) {
+        LOG.debug("Delivering {} update(s) to {} on {}", p.size, p.key.connObjectKey(), p.key.resource());
+
+        delivered.incrementAndGet();
+        try {
+            // waits for any ongoing persistence, so that the persisted pending task is the one executed
+            p.persistLock.lock();
+            try {
+                p.taskInfo.setKey(p.taskKey);
+            } finally {
+                p.persistLock.unlock();
+            }
+
+            p.callable.setTaskInfo(p.taskInfo);
+            return p.callable.call();
+        } catch (Exception e) {
+            LOG.error("While delivering coalesced {}", p.taskInfo, e);
+            return null;
+        } finally {
+            delivering.remove(p.key, p);
+            p.done.complete(null);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("received", received.get());
+        stats.put("delivered", delivered.get());
+        stats.put("pending", pending.size());
+        return stats;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.provisioning.java.PropagationTaskWriterProperties;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * New propagation tasks - together with their executions - are queued into a bounded buffer and stored by a single
+ * writer, in batches of up to {@link PropagationTaskWriterProperties#getBatchSize()} tasks; each batch is stored at
+ * most {@link PropagationTaskWriterProperties#getFlushInterval()} after its first task was received.
+ */
+public class PropagationTaskWriter implements InitializingBean, DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PropagationTaskWriter.class);
+
+    protected record QueuedTask(String domain, PropagationTask task) {
+
+    }
+
+    protected final TaskDAO taskDAO;
+
+    protected final AsyncTaskExecutor taskExecutor;
+
+    protected final PropagationTaskWriterProperties props;
+
+    protected final BlockingQueue<QueuedTask> queue;
+
+    protected final AtomicLong enqueued = new AtomicLong();
+
+    protected final AtomicLong written = new AtomicLong();
+
+    protected final AtomicLong failed = new AtomicLong();
+
+    protected final AtomicLong flushes = new AtomicLong();
+
+    protected final AtomicLong flushNanos = new AtomicLong();
+
+    protected volatile boolean running;
+
+    protected Future<?> writer;
+
+    public PropagationTaskWriter(
+            final TaskDAO taskDAO,
+            final AsyncTaskExecutor taskExecutor,
+            final PropagationTaskWriterProperties props) {
+
+        this.taskDAO = taskDAO;
+        this.taskExecutor = taskExecutor;
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (props.isEnabled()) {
+            running = true;
+            writer = taskExecutor.submit(this::write);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.get(props.getAwaitTerminationSeconds(), TimeUnit.SECONDS);
+            } catch (Exception e) {
+                LOG.warn("Propagation task writer did not terminate in time", e);
+                writer.cancel(true);
+            }
+        }
+
+        // store whatever could not be handled by the writer
+        List<QueuedTask> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    /**
+     * Queues the given propagation task for storage, if enabled.
+     *
+     * @param task new propagation task, with its executions
+     * @return whether the given task was queued; if not, the caller is in charge of storing it
+     */
+    public boolean enqueue(final PropagationTask task) {
+        if (!running) {
+            return false;
+        }
+
+        try {
+            queue.put(new QueuedTask(AuthContextUtils.getDomain(), task));
+            enqueued.incrementAndGet();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    protected void write() {
+        List<QueuedTask> batch = new ArrayList<>(props.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedTask first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, props.getBatchSize() - batch.size());
+
+                    // wait for the batch to fill up, within the flush interval
+                    long deadline = System.nanoTime() + props.getFlushInterval().toNanos();
+                    boolean waiting = true;
+                    while (waiting && running && batch.size() < props.getBatchSize()) {
+                        QueuedTask next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            waiting = false;
+                        } else {
+                            batch.add(next);
+                            queue.drainTo(batch, props.getBatchSize() - batch.size());
+                        }
+                    }
+
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOG.error("Unexpected error while writing propagation tasks", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void flush(final List<QueuedTask> batch) {
+        long start = System.nanoTime();
+
+        Map<String, List<PropagationTask>> byDomain = batch.stream().collect(Collectors.groupingBy(
+                QueuedTask::domain,
+                LinkedHashMap::new,
+                Collectors.mapping(QueuedTask::task, Collectors.toList())));
+        byDomain.forEach((domain, tasks) -> {
+            try {
+                AuthContextUtils.runAsAdmin(domain, () -> taskDAO.saveAll(tasks));
+                written.addAndGet(tasks.size());
+            } catch (Exception e) {
+                LOG.error("While storing {} propagation tasks for domain {}, now storing one by one",
+                        tasks.size(), domain, e);
+
+                tasks.forEach(task -> {
+                    try {
+                        AuthContextUtils.runAsAdmin(domain, () -> taskDAO.save(task));
+                        written.incrementAndGet();
+                    } catch (Exception ex) {
+                        failed.incrementAndGet();
+                        LOG.error("While storing propagation task {} for domain {}", task.getKey(), domain, ex);
+                    }
+                });
+            }
+        });
+
+        flushes.incrementAndGet();
+        flushNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    public Map<String, Object> getStatistics() {
+        long flushCount = flushes.get();
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("queueDepth", queue.size());
+        statistics.put("enqueued", enqueued.get());
+        statistics.put("written", written.get());
+        statistics.put("failed", failed.get());
+        statistics.put("flushes", flushCount);
+        statistics.put("avgBatchSize", flushCount == 0 ? 0 : written.get() / flushCount);
+        statistics.put("avgFlushMillis",
+                flushCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(flushNanos.get() / flushCount));
+        return statistics;
+    }
+
+    public void resetStatistics() {
+        enqueued.set(0);
+        written.set(0);
+        failed.set(0);
+        flushes.set(0);
+        flushNanos.set(0);
+    }
+}
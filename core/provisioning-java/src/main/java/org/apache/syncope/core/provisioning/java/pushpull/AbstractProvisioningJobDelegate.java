@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.lang.reflect.ParameterizedType;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -42,6 +43,7 @@ import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ProvisionSorter;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.provisioning.java.job.AbstractSchedTaskJobDelegate;
 import org.apache.syncope.core.provisioning.java.job.TaskJob;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
@@ -83,8 +85,13 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
     @Autowired
     protected PolicyDAO policyDAO;
 
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
     protected Optional<ProvisionSorter> perContextProvisionSorter = Optional.empty();
 
+    protected ProvisioningReportSpool spool;
+
     protected ProvisionSorter getProvisionSorter(final T task) {
         if (task.getResource().getProvisionSorter() != null) {
             try {
@@ -103,6 +110,25 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
         return perContextProvisionSorter.get();
     }
 
+    /**
+     * Builds the spool keeping the given provisioning results bounded in memory; it will be closed once the
+     * execution is completed.
+     *
+     * @param results provisioning results
+     * @return provisioning report spool
+     */
+    protected ProvisioningReportSpool buildSpool(final List<ProvisioningReport> results) {
+        Path directory = Optional.ofNullable(provisioningProperties.getPushPullReport().getDirectory()).
+                map(Path::of).
+                orElseGet(() -> Path.of(System.getProperty("java.io.tmpdir")));
+        spool = new ProvisioningReportSpool(
+                results,
+                provisioningProperties.getPushPullReport().getInMemoryThreshold(),
+                directory,
+                provisioningProperties.getPushPullReport().getRetainedReports());
+        return spool;
+    }
+
     /**
      * Helper method to invoke logging per provisioning result, for the given trace level.
      *
@@ -631,6 +657,67 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
         return report.toString();
     }
 
+    /**
+     * Create a textual report of the provisioning operation, based on the trace level; if provisioning results were
+     * spilled, the report only includes the summary and a reference to the file containing the full details.
+     *
+     * @param spool Provisioning report spool
+     * @param resource Provisioning resource
+     * @param dryRun dry run?
+     * @return report as string
+     */
+    protected String createReport(
+            final ProvisioningReportSpool spool,
+            final ExternalResource resource,
+            final boolean dryRun) {
+
+        if (!spool.isSpilled()) {
+            return createReport(spool.getResults(), resource, dryRun);
+        }
+
+        TraceLevel traceLevel = resource.getProvisioningTraceLevel();
+        if (traceLevel == TraceLevel.NONE) {
+            return null;
+        }
+
+        spool.finish();
+
+        StringBuilder report = new StringBuilder();
+
+        if (dryRun) {
+            report.append("==> Dry run only, no modifications were made <==\n\n");
+        }
+
+        spool.getCounters().forEach((category, counters) -> report.append(category).append(' ').
+                append("[created/failures]: ").append(counters[0]).append('/').append(counters[1]).
+                append(' ').
+                append("[updated/failures]: ").append(counters[2]).append('/').append(counters[3]).
+                append(' ').
+                append("[deleted/failures]: ").append(counters[4]).append('/').append(counters[5]).
+                append(' ').
+                append("[no operation/ignored]: ").append(counters[6]).append('/').append(counters[7]).
+                append('\n'));
+
+        if (traceLevel == TraceLevel.FAILURES || traceLevel == TraceLevel.ALL) {
+            try {
+                Path details = spool.export(
+                        "provisioningReport-" + task.getKey() + '-',
+                        result -> traceLevel == TraceLevel.ALL
+                        || result.getStatus() == ProvisioningReport.Status.FAILURE
+                        ? generate(List.of(result), traceLevel)
+                        : null);
+                report.append("\nFull report for ").append(spool.size()).append(" results available at ").
+                        append(details.toAbsolutePath());
+            } catch (Exception e) {
+                LOG.error("While writing full provisioning report", e);
+                report.append("\nFull report for ").append(spool.size()).append(" results not available: ").
+                        append(e.getMessage());
+            }
+        }
+
+        return report.toString();
+    }
+
     protected Connector getConnector(final T provisioningTask) throws JobExecutionException {
         Connector connector;
         try {
@@ -679,6 +766,8 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
         } catch (Throwable t) {
             LOG.error("While executing provisioning job {}", getClass().getName(), t);
             throw t;
+        } finally {
+            Optional.ofNullable(spool).ifPresent(ProvisioningReportSpool::close);
         }
     }
 
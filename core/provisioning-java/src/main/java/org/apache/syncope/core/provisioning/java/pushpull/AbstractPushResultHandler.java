@@ -128,6 +128,15 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
     @Autowired
     protected SyncopeTaskScheduler scheduler;
 
+    /**
+     * Remote objects matched in advance by entity key, consumed while handling.
+     */
+    protected Map<String, List<ConnectorObject>> prefetched;
+
+    public void setPrefetched(final Map<String, List<ConnectorObject>> prefetched) {
+        this.prefetched = prefetched;
+    }
+
     protected abstract String getName(Any<?> any);
 
     protected void update(
@@ -301,12 +310,14 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         // Try to read remote object BEFORE any actual operation
         Set<String> moreAttrsToGet = new HashSet<>();
         profile.getActions().forEach(action -> moreAttrsToGet.addAll(action.moreAttrsToGet(profile, any)));
-        List<ConnectorObject> connObjs = outboundMatcher.match(
-                profile.getConnector(),
-                any,
-                profile.getTask().getResource(),
-                provision,
-                Optional.of(moreAttrsToGet.toArray(String[]::new)));
+        List<ConnectorObject> connObjs = Optional.ofNullable(prefetched).
+                map(p -> p.remove(any.getKey())).
+                orElseGet(() -> outboundMatcher.match(
+                        profile.getConnector(),
+                        any,
+                        profile.getTask().getResource(),
+                        provision,
+                        Optional.of(moreAttrsToGet.toArray(String[]::new))));
         LOG.debug("Match(es) found for {} as {}: {}", any, provision.getObjectClass(), connObjs);
 
         if (connObjs.size() > 1) {
@@ -20,8 +20,11 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -48,11 +51,13 @@ import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.apache.syncope.core.provisioning.api.rules.PushCorrelationRule;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.SearchResult;
 import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -189,6 +194,18 @@ public class OutboundMatcher {
         return result;
     }
 
+    protected Optional<String[]> effectiveMoreAttrsToGet(
+            final ExternalResource resource,
+            final Provision provision,
+            final Optional<String[]> moreAttrsToGet) {
+
+        Stream<String> matgFromPropagationActions = getPropagationActions(resource).stream().
+                flatMap(a -> a.moreAttrsToGet(Optional.empty(), provision).stream());
+        return Optional.of(Stream.concat(
+                moreAttrsToGet.stream().flatMap(Stream::of),
+                matgFromPropagationActions).toArray(String[]::new));
+    }
+
     @Transactional(readOnly = true)
     public List<ConnectorObject> match(
             final Connector connector,
@@ -198,11 +215,7 @@ public class OutboundMatcher {
             final Optional<String[]> moreAttrsToGet,
             final Item... linkingItems) {
 
-        Stream<String> matgFromPropagationActions = getPropagationActions(resource).stream().
-                flatMap(a -> a.moreAttrsToGet(Optional.empty(), provision).stream());
-        Optional<String[]> effectiveMATG = Optional.of(Stream.concat(
-                moreAttrsToGet.stream().flatMap(Stream::of),
-                matgFromPropagationActions).toArray(String[]::new));
+        Optional<String[]> effectiveMATG = effectiveMoreAttrsToGet(resource, provision, moreAttrsToGet);
 
         Optional<PushCorrelationRule> rule = rule(resource, provision);
 
@@ -245,6 +258,93 @@ public class OutboundMatcher {
         return result;
     }
 
+    /**
+     * Matches the given entities with a single connector query, by looking up all their connObjectKey values at
+     * once; this is not available when a push correlation rule is defined for the given provision.
+     *
+     * @param connector connector
+     * @param anys entities to match
+     * @param resource external resource
+     * @param provision provision
+     * @param moreAttrsToGet additional attributes to get
+     * @return matching remote objects by entity key, empty if no prefetch was possible; entities without matches
+     * are not reported, so that they can be matched individually
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<ConnectorObject>> prefetch(
+            final Connector connector,
+            final List<? extends Any<?>> anys,
+            final ExternalResource resource,
+            final Provision provision,
+            final Optional<String[]> moreAttrsToGet) {
+
+        Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (anys.isEmpty() || connObjectKeyItem.isEmpty() || rule(resource, provision).isPresent()) {
+            return Map.of();
+        }
+        String extAttrName = connObjectKeyItem.get().getExtAttrName();
+
+        Map<String, List<ConnectorObject>> matches = new LinkedHashMap<>();
+        Map<String, Set<String>> anyKeysByValue = new HashMap<>();
+        List<Filter> filters = new ArrayList<>();
+        anys.forEach(any -> mappingManager.getConnObjectKeyValue(any, resource, provision).ifPresent(value -> {
+            Set<String> anyKeys = anyKeysByValue.computeIfAbsent(
+                    normalize(value, provision), k -> new HashSet<>());
+            if (anyKeys.isEmpty()) {
+                Attribute attr = AttributeBuilder.build(extAttrName, value);
+                filters.add(provision.isIgnoreCaseMatch()
+                        ? FilterBuilder.equalsIgnoreCase(attr)
+                        : FilterBuilder.equalTo(attr));
+            }
+            anyKeys.add(any.getKey());
+        }));
+        if (filters.isEmpty()) {
+            return Map.of();
+        }
+
+        Filter filter = filters.stream().reduce(FilterBuilder::or).get();
+        Stream<Item> items = Stream.concat(
+                provision.getMapping().getItems().stream(),
+                virSchemaDAO.findByResourceAndAnyType(resource.getKey(), provision.getAnyType()).stream().
+                        map(VirSchema::asLinkingMappingItem));
+        Optional<String[]> effectiveMATG = effectiveMoreAttrsToGet(resource, provision, moreAttrsToGet);
+
+        try {
+            connector.search(new ObjectClass(provision.getObjectClass()), filter, new SearchResultsHandler() {
+
+                @Override
+                public void handleResult(final SearchResult result) {
+                    // nothing to do
+                }
+
+                @Override
+                public boolean handle(final ConnectorObject connectorObject) {
+                    Optional.ofNullable(connectorObject.getAttributeByName(extAttrName)).
+                            map(Attribute::getValue).stream().flatMap(List::stream).
+                            filter(value -> value != null).
+                            map(value -> normalize(value.toString(), provision)).distinct().
+                            flatMap(value -> anyKeysByValue.getOrDefault(value, Set.of()).stream()).
+                            forEach(anyKey -> matches.computeIfAbsent(anyKey, k -> new ArrayList<>()).
+                            add(connectorObject));
+                    return true;
+                }
+            }, MappingUtils.buildOperationOptions(items, effectiveMATG.orElse(null)));
+        } catch (RuntimeException e) {
+            LOG.warn("Could not prefetch {} for {} entities, falling back to individual matching",
+                    provision.getObjectClass(), anys.size(), e);
+            return Map.of();
+        }
+
+        anys.stream().filter(any -> matches.getOrDefault(any.getKey(), List.of()).size() == 1).
+                forEach(any -> virAttrHandler.setValues(any, matches.get(any.getKey()).get(0)));
+
+        return matches;
+    }
+
+    protected static String normalize(final String value, final Provision provision) {
+        return provision.isIgnoreCaseMatch() ? value.toLowerCase(Locale.ROOT) : value;
+    }
+
     protected List<ConnectorObject> matchByCorrelationRule(
             final Connector connector,
             final Filter filter,
@@ -0,0 +1,359 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the memory used by the {@link ProvisioningReport} instances of a pull or push execution bounded: once the
+ * given threshold is exceeded, the reports whose handling is completed are moved from the profile's results to a
+ * temporary file, while per type / operation / status counters are kept in memory.
+ *
+ * Handling completion is tracked via {@link #begin()} and {@link #end(long)}: reports are in fact added to the
+ * profile's results before being fully populated, so only the ones added before the oldest in-flight handling can be
+ * safely spilled.
+ *
+ * Reports are added to the profile's results by the handlers without holding the spool's lock, so the results list is
+ * expected to support concurrent modifications, as {@link java.util.concurrent.CopyOnWriteArrayList} does.
+ */
+public class ProvisioningReportSpool implements AutoCloseable {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ProvisioningReportSpool.class);
+
+    public static final String[] CATEGORIES = { "Users", "Accounts", "Groups", "Any objects", "Realms" };
+
+    protected static String category(final ProvisioningReport report) {
+        if (StringUtils.isBlank(report.getAnyType())) {
+            return CATEGORIES[4];
+        }
+
+        return switch (report.getAnyType()) {
+            case "USER" ->
+                CATEGORIES[0];
+
+            case "LINKED_ACCOUNT" ->
+                CATEGORIES[1];
+
+            case "GROUP" ->
+                CATEGORIES[2];
+
+            default ->
+                CATEGORIES[3];
+        };
+    }
+
+    protected static int counterIndex(final ProvisioningReport report) {
+        if (report.getStatus() == null || report.getOperation() == null) {
+            return -1;
+        }
+
+        return switch (report.getStatus()) {
+            case IGNORE ->
+                7;
+
+            case SUCCESS, FAILURE -> {
+                int failure = report.getStatus() == ProvisioningReport.Status.FAILURE ? 1 : 0;
+                yield switch (report.getOperation()) {
+                    case CREATE ->
+                        failure;
+
+                    case UPDATE ->
+                        2 + failure;
+
+                    case DELETE ->
+                        4 + failure;
+
+                    case NONE ->
+                        failure == 0 ? 6 : -1;
+                };
+            }
+        };
+    }
+
+    protected final List<ProvisioningReport> results;
+
+    protected final int threshold;
+
+    protected final Path directory;
+
+    protected final int retainedExports;
+
+    /**
+     * In-flight handlings, as number of handlings started at a given position.
+     */
+    protected final TreeMap<Long, Integer> inFlight = new TreeMap<>();
+
+    /**
+     * Counters by category: [created, failed create, updated, failed update, deleted, failed delete, no operation,
+     * ignored].
+     */
+    protected final Map<String, long[]> counters = new LinkedHashMap<>();
+
+    protected Path spillFile;
+
+    protected BufferedWriter spillWriter;
+
+    protected long spilled;
+
+    protected boolean failed;
+
+    public ProvisioningReportSpool(
+            final List<ProvisioningReport> results,
+            final int threshold,
+            final Path directory) {
+
+        this(results, threshold, directory, 0);
+    }
+
+    /**
+     * @param results profile's results
+     * @param threshold number of reports in memory above which completed reports are spilled
+     * @param directory directory where spilled reports and exports are written
+     * @param retainedExports number of files written by {@link #export(String, Function)} to keep for the same prefix,
+     * the oldest being removed; zero or negative values keep all files
+     */
+    public ProvisioningReportSpool(
+            final List<ProvisioningReport> results,
+            final int threshold,
+            final Path directory,
+            final int retainedExports) {
+
+        this.results = results;
+        this.threshold = threshold;
+        this.directory = directory;
+        this.retainedExports = retainedExports;
+    }
+
+    /**
+     * Marks the beginning of an handling: reports added from now on will not be spilled until {@link #end(long)} is
+     * invoked with the returned mark.
+     *
+     * @return mark to be passed to {@link #end(long)}
+     */
+    public synchronized long begin() {
+        long mark = spilled + results.size();
+        inFlight.merge(mark, 1, Integer::sum);
+        return mark;
+    }
+
+    /**
+     * Marks the end of the handling started with the given mark, and spills completed reports if the threshold was
+     * exceeded.
+     *
+     * @param mark as returned by {@link #begin()}
+     */
+    public synchronized void end(final long mark) {
+        inFlight.computeIfPresent(mark, (k, v) -> v == 1 ? null : v - 1);
+
+        if (threshold > 0 && results.size() >= threshold) {
+            long limit = inFlight.isEmpty() ? spilled + results.size() : inFlight.firstKey();
+            spill((int) Math.min(limit - spilled, results.size()));
+        }
+    }
+
+    protected void spill(final int count) {
+        if (count <= 0 || failed) {
+            return;
+        }
+
+        List<ProvisioningReport> toSpill = results.stream().limit(count).toList();
+        try {
+            if (spillWriter == null) {
+                spillFile = Files.createTempFile(directory, "provisioningReports", ".json");
+                spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+            }
+            for (ProvisioningReport report : toSpill) {
+                spillWriter.write(POJOHelper.serialize(report));
+                spillWriter.newLine();
+                count(report);
+            }
+            spillWriter.flush();
+        } catch (IOException e) {
+            LOG.error("While spilling provisioning reports to {}, keeping them in memory", spillFile, e);
+            failed = true;
+            return;
+        }
+
+        // reports may be added concurrently, so the spilled ones are removed by identity rather than by position
+        Set<ProvisioningReport> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(toSpill);
+        results.removeIf(removed::contains);
+        spilled += count;
+    }
+
+    protected void count(final ProvisioningReport report) {
+        int index = counterIndex(report);
+        if (index >= 0) {
+            counters.computeIfAbsent(category(report), k -> new long[8])[index]++;
+        }
+    }
+
+    /**
+     * @return reports still in memory
+     */
+    public List<ProvisioningReport> getResults() {
+        return results;
+    }
+
+    public synchronized boolean isSpilled() {
+        return spilled > 0;
+    }
+
+    /**
+     * Spills all reports still in memory, to be invoked once all handlings are completed.
+     */
+    public synchronized void finish() {
+        if (isSpilled()) {
+            spill(results.size());
+        }
+    }
+
+    /**
+     * @return total number of reports, both spilled and in memory
+     */
+    public synchronized long size() {
+        return spilled + results.size();
+    }
+
+    /**
+     * @return counters by category, only accounting spilled reports
+     */
+    public synchronized Map<String, long[]> getCounters() {
+        return counters;
+    }
+
+    /**
+     * Feeds the given consumer with all reports, first the spilled ones (read back one at a time) then the ones in
+     * memory.
+     *
+     * @param consumer report consumer
+     */
+    public synchronized void forEach(final Consumer<ProvisioningReport> consumer) {
+        if (spillWriter != null) {
+            try (BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    consumer.accept(POJOHelper.deserialize(line, ProvisioningReport.class));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("While reading spilled provisioning reports from " + spillFile, e);
+            }
+        }
+
+        results.forEach(consumer);
+    }
+
+    /**
+     * Writes all reports, formatted by the given function, to a new file which is not removed by {@link #close()};
+     * older files written with the same prefix are removed beyond the configured number of retained exports.
+     *
+     * @param prefix file name prefix
+     * @param formatter report formatter, returning {@code null} for reports to skip
+     * @return path of the written file
+     * @throws IOException if the file could not be written
+     */
+    public synchronized Path export(final String prefix, final Function<ProvisioningReport, String> formatter)
+            throws IOException {
+
+        Path file = Files.createTempFile(directory, prefix, ".log");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            forEach(report -> Optional.ofNullable(formatter.apply(report)).ifPresent(line -> {
+                try {
+                    writer.write(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(file);
+            throw e.getCause();
+        }
+
+        if (retainedExports > 0) {
+            purgeExports(prefix, file);
+        }
+        return file;
+    }
+
+    protected void purgeExports(final String prefix, final Path latest) {
+        List<Path> exports;
+        try (Stream<Path> files = Files.list(directory)) {
+            exports = files.filter(path -> path.getFileName().toString().startsWith(prefix)
+                    && path.getFileName().toString().endsWith(".log")
+                    && !path.equals(latest)).
+                    sorted(Comparator.comparing(ProvisioningReportSpool::lastModified).reversed()).
+                    toList();
+        } catch (IOException e) {
+            LOG.warn("While listing {}", directory, e);
+            return;
+        }
+
+        exports.stream().skip(retainedExports - 1).forEach(path -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                LOG.warn("While removing {}", path, e);
+            }
+        });
+    }
+
+    protected static FileTime lastModified(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                LOG.warn("While removing {}", spillFile, e);
+            }
+            spillWriter = null;
+        }
+    }
+}
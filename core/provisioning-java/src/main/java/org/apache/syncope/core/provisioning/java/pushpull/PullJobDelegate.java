@@ -34,6 +34,7 @@ import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
+import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -63,6 +64,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPullResultHandler;
 import org.apache.syncope.core.provisioning.api.rules.PullMatch;
+import org.apache.syncope.core.provisioning.java.PullCheckpointProperties;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -70,6 +72,7 @@ import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.identityconnectors.framework.common.objects.SyncToken;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -93,6 +96,9 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
     @Autowired
     protected PlainAttrValidationManager validator;
 
+    @Autowired
+    protected SyncTokenCheckpointer syncTokenCheckpointer;
+
     protected final Map<String, SyncToken> latestSyncTokens = Collections.synchronizedMap(new HashMap<>());
 
     protected ProvisioningProfile<PullTask, PullActions> profile;
@@ -103,6 +109,10 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
     protected Optional<ReconFilterBuilder> perContextReconFilterBuilder = Optional.empty();
 
+    protected long deltasSinceCheckpoint;
+
+    protected long lastCheckpoint;
+
     @Override
     public void setLatestSyncToken(final String objectClass, final SyncToken latestSyncToken) {
         latestSyncTokens.put(objectClass, latestSyncToken);
@@ -200,6 +210,57 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         return ApplicationContextProvider.getBeanFactory().createBean(DefaultGroupPullResultHandler.class);
     }
 
+    /**
+     * Persists the latest sync tokens, so that a later execution can resume from there in case the current one does
+     * not complete.
+     *
+     * @param pullTask pull task
+     */
+    protected void checkpoint(final PullTask pullTask) {
+        Map<String, String> syncTokens = new HashMap<>();
+        synchronized (latestSyncTokens) {
+            latestSyncTokens.forEach((objectClass, syncToken) -> syncTokens.put(
+                    objectClass, ConnObjectUtils.toString(syncToken)));
+        }
+
+        try {
+            syncTokenCheckpointer.checkpoint(pullTask.getResource().getKey(), syncTokens);
+        } catch (Exception e) {
+            LOG.error("While storing sync tokens {} for {}", syncTokens, pullTask.getResource().getKey(), e);
+        }
+
+        deltasSinceCheckpoint = 0;
+        lastCheckpoint = System.currentTimeMillis();
+    }
+
+    protected boolean isCheckpointDue() {
+        PullCheckpointProperties props = provisioningProperties.getPullCheckpoint();
+        return (props.getDeltas() > 0 && deltasSinceCheckpoint >= props.getDeltas())
+                || (props.getInterval() != null && props.getInterval().isPositive()
+                && System.currentTimeMillis() - lastCheckpoint >= props.getInterval().toMillis());
+    }
+
+    /**
+     * Wraps the given handler for incremental pull, in order to periodically persist the latest sync tokens.
+     *
+     * @param pullTask pull task
+     * @param handler handler to wrap
+     * @return handler persisting the latest sync tokens according to the configured checkpoint settings
+     */
+    protected SyncResultsHandler checkpointing(final PullTask pullTask, final SyncResultsHandler handler) {
+        lastCheckpoint = System.currentTimeMillis();
+        return delta -> {
+            boolean result = handler.handle(delta);
+
+            deltasSinceCheckpoint++;
+            if (isCheckpointDue()) {
+                checkpoint(pullTask);
+            }
+
+            return result;
+        };
+    }
+
     @Override
     protected String doExecuteProvisioning(
             final PullTask pullTask,
@@ -219,7 +280,8 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         orElse(ConflictResolutionAction.IGNORE));
         profile.setExecutor(executor);
 
-        PullResultHandlerDispatcher dispatcher = new PullResultHandlerDispatcher(profile, this);
+        ProvisioningReportSpool reportSpool = buildSpool(profile.getResults());
+        PullResultHandlerDispatcher dispatcher = new PullResultHandlerDispatcher(profile, this, reportSpool);
 
         latestSyncTokens.clear();
 
@@ -259,13 +321,11 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
                         connector.sync(new ObjectClass(orgUnit.getObjectClass()),
                                 ConnObjectUtils.toSyncToken(orgUnit.getSyncToken()),
-                                dispatcher,
+                                dryRun ? dispatcher : checkpointing(pullTask, dispatcher),
                                 options);
 
                         if (!dryRun) {
-                            orgUnit.setSyncToken(
-                                    ConnObjectUtils.toString(latestSyncTokens.get(orgUnit.getObjectClass())));
-                            resourceDAO.save(pullTask.getResource());
+                            checkpoint(pullTask);
                         }
                         break;
 
@@ -344,7 +404,7 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         connector.sync(
                                 new ObjectClass(provision.getObjectClass()),
                                 ConnObjectUtils.toSyncToken(provision.getSyncToken()),
-                                dispatcher,
+                                dryRun ? dispatcher : checkpointing(pullTask, dispatcher),
                                 options);
 
                         if (!dryRun) {
@@ -370,16 +430,18 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                 throw new JobExecutionException("While pulling from connector", t);
             } finally {
                 if (setSyncTokens) {
-                    latestSyncTokens.forEach((objectClass, syncToken) -> pullTask.getResource().
-                            getProvisionByObjectClass(objectClass).
-                            ifPresent(p -> p.setSyncToken(ConnObjectUtils.toString(syncToken))));
-                    resourceDAO.save(pullTask.getResource());
+                    checkpoint(pullTask);
                 }
             }
         }
 
         dispatcher.shutdown();
 
+        // with concurrent handling, sync tokens might have moved forward after the last checkpoint
+        if (pullTask.getPullMode() == PullMode.INCREMENTAL && !dryRun) {
+            checkpoint(pullTask);
+        }
+
         for (Provision provision : pullTask.getResource().getProvisions().stream().
                 filter(provision -> provision.getMapping() != null && provision.getUidOnCreate() != null).
                 sorted(provisionSorter).toList()) {
@@ -388,17 +450,20 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                 AnyType anyType = anyTypeDAO.findById(provision.getAnyType()).
                         orElseThrow(() -> new NotFoundException("AnyType" + provision.getAnyType()));
                 AnyUtils anyUtils = anyUtilsFactory.getInstance(anyType.getKind());
-                profile.getResults().stream().
-                        filter(result -> result.getUidValue() != null && result.getKey() != null
-                        && result.getOperation() == ResourceOperation.CREATE
-                        && result.getAnyType().equals(provision.getAnyType())).
-                        forEach(result -> anyUtils.addAttr(
-                        validator,
-                        result.getKey(),
-                        plainSchemaDAO.findById(provision.getUidOnCreate()).
-                                orElseThrow(() -> new NotFoundException("PlainSchema " + provision.getUidOnCreate())),
-                        result.getUidValue())
-                        );
+                reportSpool.forEach(result -> {
+                    if (result.getUidValue() != null && result.getKey() != null
+                            && result.getOperation() == ResourceOperation.CREATE
+                            && result.getAnyType().equals(provision.getAnyType())) {
+
+                        anyUtils.addAttr(
+                                validator,
+                                result.getKey(),
+                                plainSchemaDAO.findById(provision.getUidOnCreate()).
+                                        orElseThrow(() -> new NotFoundException(
+                                        "PlainSchema " + provision.getUidOnCreate())),
+                                result.getUidValue());
+                    }
+                });
             } catch (Throwable t) {
                 LOG.error("While setting UID on create", t);
             }
@@ -418,7 +483,7 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
         setStatus("Pull done");
 
-        String result = createReport(profile.getResults(), pullTask.getResource(), dryRun);
+        String result = createReport(reportSpool, pullTask.getResource(), dryRun);
         LOG.debug("Pull result: {}", result);
         return result;
     }
@@ -18,7 +18,14 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
@@ -26,19 +33,63 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+import org.identityconnectors.framework.common.objects.SyncToken;
 import org.springframework.transaction.annotation.Transactional;
 
 public class PullResultHandlerDispatcher
         extends SyncopeResultHandlerDispatcher<PullTask, PullActions, SyncopePullResultHandler>
         implements SyncResultsHandler {
 
+    /**
+     * Tracks the sync tokens of the deltas dispatched for concurrent handling: the latest sync token is only moved
+     * forward once all the deltas received up to it were handled, so that it can be safely persisted at any time.
+     */
+    protected static class SyncTokenWatermark {
+
+        protected final NavigableMap<Long, SyncToken> pending = new TreeMap<>();
+
+        protected final Set<Long> completed = new HashSet<>();
+
+        protected long sequence;
+
+        public synchronized long dispatched(final SyncToken token) {
+            long current = sequence++;
+            pending.put(current, token);
+            return current;
+        }
+
+        public synchronized void completed(final long current, final Consumer<SyncToken> onAdvance) {
+            completed.add(current);
+
+            boolean advanced = false;
+            SyncToken token = null;
+            while (!pending.isEmpty() && completed.remove(pending.firstKey())) {
+                token = pending.pollFirstEntry().getValue();
+                advanced = true;
+            }
+            if (advanced) {
+                onAdvance.accept(token);
+            }
+        }
+    }
+
     protected final SyncopePullExecutor executor;
 
+    protected final Map<String, SyncTokenWatermark> watermarks = new ConcurrentHashMap<>();
+
     public PullResultHandlerDispatcher(
             final ProvisioningProfile<PullTask, PullActions> profile,
             final SyncopePullExecutor executor) {
 
-        super(profile);
+        this(profile, executor, null);
+    }
+
+    public PullResultHandlerDispatcher(
+            final ProvisioningProfile<PullTask, PullActions> profile,
+            final SyncopePullExecutor executor,
+            final ProvisioningReportSpool spool) {
+
+        super(profile, spool);
         this.executor = executor;
     }
 
@@ -46,7 +97,13 @@ public class PullResultHandlerDispatcher
     @Override
     public boolean handle(final SyncDelta delta) {
         if (tpte.isEmpty()) {
-            boolean result = nonConcurrentHandler(delta.getObjectClass().getObjectClassValue()).handle(delta);
+            boolean result;
+            long mark = begin();
+            try {
+                result = nonConcurrentHandler(delta.getObjectClass().getObjectClassValue()).handle(delta);
+            } finally {
+                end(mark);
+            }
 
             executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
             if (result) {
@@ -56,18 +113,24 @@ public class PullResultHandlerDispatcher
             return result;
         }
 
+        String objectClass = delta.getObjectClass().getObjectClassValue();
+        SyncTokenWatermark watermark = watermarks.computeIfAbsent(objectClass, k -> new SyncTokenWatermark());
+        long sequence = watermark.dispatched(delta.getToken());
         try {
-            submit(() -> {
-                executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
-
-                suppliers.get(delta.getObjectClass().getObjectClassValue()).get().handle(delta);
+            submit(delta.getUid().getUidValue(), () -> {
+                long mark = begin();
+                try {
+                    suppliers.get(objectClass).get().handle(delta);
+                } finally {
+                    end(mark);
+                    watermark.completed(sequence, token -> executor.setLatestSyncToken(objectClass, token));
+                }
 
-                executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
+                executor.reportHandled(objectClass, delta.getObject().getName());
             });
             return true;
         } catch (RejectedExecutionException e) {
-            LOG.error("Could not submit pull handler for {} {}",
-                    delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
+            LOG.error("Could not submit pull handler for {} {}", objectClass, delta.getObject().getName());
             return false;
         }
     }
@@ -19,11 +19,14 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -58,8 +61,8 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandle
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> implements SyncopePushExecutor {
@@ -76,8 +79,13 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
     @Autowired
     protected SearchCondVisitor searchCondVisitor;
 
+    @Autowired
+    protected OutboundMatcher outboundMatcher;
+
     protected ProvisioningProfile<PushTask, PushActions> profile;
 
+    protected final Map<String, List<ConnectorObject>> prefetched = new ConcurrentHashMap<>();
+
     protected final Map<String, MutablePair<Integer, String>> handled = new ConcurrentHashMap<>();
 
     protected final Map<String, PushActions> perContextActions = new ConcurrentHashMap<>();
@@ -108,13 +116,62 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
             final ExternalResource resource)
             throws JobExecutionException {
 
+        return doHandle(anys.stream(), dispatcher, resource);
+    }
+
+    protected boolean doHandle(
+            final Stream<? extends Any<?>> anys,
+            final PushResultHandlerDispatcher dispatcher,
+            final ExternalResource resource)
+            throws JobExecutionException {
+
         boolean result = true;
-        for (int i = 0; i < anys.size() && result; i++) {
+        for (Iterator<? extends Any<?>> itor = anys.iterator(); itor.hasNext() && result;) {
+            Any<?> any = itor.next();
             try {
-                result = dispatcher.handle(anys.get(i).getType().getKey(), anys.get(i).getKey());
+                result = dispatcher.handle(any.getType().getKey(), any.getKey());
             } catch (Exception e) {
-                LOG.warn("Failure pushing '{}' on '{}'", anys.get(i), resource, e);
-                throw new JobExecutionException("While pushing " + anys.get(i) + " on " + resource, e);
+                LOG.warn("Failure pushing '{}' on '{}'", any, resource, e);
+                throw new JobExecutionException("While pushing " + any + " on " + resource, e);
+            }
+        }
+        return result;
+    }
+
+    protected void prefetch(final List<? extends Any<?>> page, final Provision provision) {
+        Set<String> moreAttrsToGet = new HashSet<>();
+        page.forEach(any -> profile.getActions().
+                forEach(action -> moreAttrsToGet.addAll(action.moreAttrsToGet(profile, any))));
+
+        prefetched.putAll(outboundMatcher.prefetch(
+                profile.getConnector(),
+                page,
+                profile.getTask().getResource(),
+                provision,
+                Optional.of(moreAttrsToGet.toArray(String[]::new))));
+    }
+
+    protected boolean doHandle(
+            final Stream<? extends Any<?>> anys,
+            final Provision provision,
+            final PushResultHandlerDispatcher dispatcher,
+            final ExternalResource resource)
+            throws JobExecutionException {
+
+        int pageSize = provisioningProperties.getPushPrefetch().getPageSize();
+        if (pageSize <= 0) {
+            return doHandle(anys, dispatcher, resource);
+        }
+
+        boolean result = true;
+        List<Any<?>> page = new ArrayList<>(pageSize);
+        for (Iterator<? extends Any<?>> itor = anys.iterator(); itor.hasNext() && result;) {
+            page.add(itor.next());
+
+            if (page.size() == pageSize || !itor.hasNext()) {
+                prefetch(page, provision);
+                result = doHandle(page, dispatcher, resource);
+                page.clear();
             }
         }
         return result;
@@ -172,7 +229,8 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
                         orElse(ConflictResolutionAction.IGNORE));
         profile.setExecutor(executor);
 
-        PushResultHandlerDispatcher dispatcher = new PushResultHandlerDispatcher(profile, this);
+        ProvisioningReportSpool reportSpool = buildSpool(profile.getResults());
+        PushResultHandlerDispatcher dispatcher = new PushResultHandlerDispatcher(profile, this, reportSpool);
 
         if (!profile.isDryRun()) {
             for (PushActions action : profile.getActions()) {
@@ -238,6 +296,9 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
                         handler = buildAnyObjectHandler();
                 }
                 handler.setProfile(profile);
+                if (handler instanceof AbstractPushResultHandler pushResultHandler) {
+                    pushResultHandler.setPrefetched(prefetched);
+                }
                 return handler;
             });
 
@@ -245,26 +306,19 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
             SearchCond cond = StringUtils.isBlank(filter)
                     ? anyDAO.getAllMatchingCond()
                     : SearchCondConverter.convert(searchCondVisitor, filter);
-            long count = searchDAO.count(
+            try (Stream<? extends Any<?>> anys = searchDAO.stream(
                     profile.getTask().getSourceRealm(),
                     true,
                     Set.of(profile.getTask().getSourceRealm().getFullPath()),
                     cond,
-                    anyType.getKind());
-            boolean result = true;
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) && result; page++) {
-                List<? extends Any<?>> anys = searchDAO.search(
-                        profile.getTask().getSourceRealm(),
-                        true,
-                        Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        anyType.getKind());
-                result = doHandle(anys, dispatcher, pushTask.getResource());
+                    anyType.getKind())) {
+
+                doHandle(anys, provision, dispatcher, pushTask.getResource());
             }
         }
 
         dispatcher.shutdown();
+        prefetched.clear();
 
         if (!profile.isDryRun()) {
             for (PushActions action : profile.getActions()) {
@@ -274,7 +328,7 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
 
         setStatus("Push done");
 
-        String result = createReport(profile.getResults(), pushTask.getResource(), dryRun);
+        String result = createReport(reportSpool, pushTask.getResource(), dryRun);
         LOG.debug("Push result: {}", result);
         return result;
     }
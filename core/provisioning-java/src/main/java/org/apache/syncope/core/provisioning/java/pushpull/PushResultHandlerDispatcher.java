@@ -34,13 +34,27 @@ public class PushResultHandlerDispatcher
             final ProvisioningProfile<PushTask, PushActions> profile,
             final SyncopePushExecutor executor) {
 
-        super(profile);
+        this(profile, executor, null);
+    }
+
+    public PushResultHandlerDispatcher(
+            final ProvisioningProfile<PushTask, PushActions> profile,
+            final SyncopePushExecutor executor,
+            final ProvisioningReportSpool spool) {
+
+        super(profile, spool);
         this.executor = executor;
     }
 
     public boolean handle(final String anyType, final String anyKey) {
         if (tpte.isEmpty()) {
-            boolean result = nonConcurrentHandler(anyType).handle(anyKey);
+            boolean result;
+            long mark = begin();
+            try {
+                result = nonConcurrentHandler(anyType).handle(anyKey);
+            } finally {
+                end(mark);
+            }
 
             executor.reportHandled(anyType, anyKey);
 
@@ -48,8 +62,13 @@ public class PushResultHandlerDispatcher
         }
 
         try {
-            submit(() -> {
-                suppliers.get(anyType).get().handle(anyKey);
+            submit(anyKey, () -> {
+                long mark = begin();
+                try {
+                    suppliers.get(anyType).get().handle(anyKey);
+                } finally {
+                    end(mark);
+                }
 
                 executor.reportHandled(anyType, anyKey);
             });
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.Map;
+import org.apache.syncope.common.lib.to.OrgUnit;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Persists the sync tokens reached by an incremental pull in a dedicated transaction, so that they survive an
+ * execution terminated before completion and the next execution can resume from there.
+ */
+public class SyncTokenCheckpointer {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(SyncTokenCheckpointer.class);
+
+    protected final ExternalResourceDAO resourceDAO;
+
+    public SyncTokenCheckpointer(final ExternalResourceDAO resourceDAO) {
+        this.resourceDAO = resourceDAO;
+    }
+
+    /**
+     * Stores the given sync tokens on the matching provisions and orgUnit of the given resource.
+     *
+     * @param resource resource key
+     * @param syncTokens sync tokens (as string), by object class
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void checkpoint(final String resource, final Map<String, String> syncTokens) {
+        ExternalResource found = resourceDAO.findById(resource).orElse(null);
+        if (found == null) {
+            LOG.warn("Resource {} not found, cannot store sync tokens {}", resource, syncTokens);
+            return;
+        }
+
+        syncTokens.forEach((objectClass, syncToken) -> {
+            OrgUnit orgUnit = found.getOrgUnit();
+            if (orgUnit != null && objectClass.equals(orgUnit.getObjectClass())) {
+                orgUnit.setSyncToken(syncToken);
+                found.setOrgUnit(orgUnit);
+            }
+            found.getProvisionByObjectClass(objectClass).ifPresent(provision -> provision.setSyncToken(syncToken));
+        });
+        resourceDAO.save(found);
+
+        LOG.debug("Stored sync tokens {} on {}", syncTokens, resource);
+    }
+}
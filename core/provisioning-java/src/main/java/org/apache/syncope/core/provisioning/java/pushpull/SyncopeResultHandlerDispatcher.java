@@ -18,16 +18,19 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningActions;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
@@ -49,20 +52,84 @@ public abstract class SyncopeResultHandlerDispatcher<
 
     private static final String PLACEHOLDER_PWD = "PLACEHOLDER_PWD";
 
+    /**
+     * Serializes the work items sharing the same lane: at most one worker per lane is running at any time, and it
+     * is retired as soon as the lane gets empty.
+     */
+    protected class OrderedLane implements Runnable {
+
+        protected final int index;
+
+        protected final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+        protected boolean running;
+
+        protected OrderedLane(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            boolean retired = false;
+            while (!retired) {
+                Runnable next = queue.poll();
+                if (next == null) {
+                    // lanes are updated atomically, so that no item can be enqueued while retiring
+                    retired = lanes.computeIfPresent(index, (k, lane) -> {
+                        if (lane.queue.isEmpty()) {
+                            lane.running = false;
+                            return null;
+                        }
+                        return lane;
+                    }) == null;
+                } else {
+                    next.run();
+                }
+            }
+        }
+    }
+
     protected final Optional<VirtualThreadPoolTaskExecutor> tpte;
 
     protected final Map<String, Supplier<RA>> suppliers = new ConcurrentHashMap<>();
 
     protected final Map<String, RA> handlers = new ConcurrentHashMap<>();
 
-    protected final List<Future<?>> futures = new ArrayList<>();
+    protected final Optional<ProvisioningReportSpool> spool;
+
+    protected final Optional<Semaphore> inFlight;
+
+    protected final int laneCount;
 
-    protected SyncopeResultHandlerDispatcher(final ProvisioningProfile<T, A> profile) {
-        if (profile.getTask().getConcurrentSettings() == null) {
+    protected final Map<Integer, OrderedLane> lanes = new ConcurrentHashMap<>();
+
+    protected final AtomicLong submitted = new AtomicLong();
+
+    protected final AtomicLong completed = new AtomicLong();
+
+    protected final AtomicLong failed = new AtomicLong();
+
+    protected final Object completion = new Object();
+
+    protected SyncopeResultHandlerDispatcher(
+            final ProvisioningProfile<T, A> profile,
+            final ProvisioningReportSpool spool) {
+
+        this.spool = Optional.ofNullable(spool);
+
+        ThreadPoolSettings settings = profile.getTask().getConcurrentSettings();
+        if (settings == null) {
             tpte = Optional.empty();
+            inFlight = Optional.empty();
+            laneCount = 0;
         } else {
+            inFlight = settings.getMaxInFlight() > 0 && settings.getMaxInFlight() < Integer.MAX_VALUE
+                    ? Optional.of(new Semaphore(settings.getMaxInFlight()))
+                    : Optional.empty();
+            laneCount = settings.isOrderedByKey() ? Math.max(1, settings.getPoolSize()) : 0;
+
             VirtualThreadPoolTaskExecutor t = new VirtualThreadPoolTaskExecutor();
-            t.setPoolSize(profile.getTask().getConcurrentSettings().getPoolSize());
+            t.setPoolSize(settings.getPoolSize());
             t.setWaitForTasksToCompleteOnShutdown(true);
             t.setThreadNamePrefix("provisioningTask-" + profile.getTask().getKey() + "-");
             t.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
@@ -98,16 +165,102 @@ public abstract class SyncopeResultHandlerDispatcher<
         });
     }
 
-    protected void submit(final Runnable runnable) {
-        tpte.ifPresent(executor -> futures.add(executor.submit(runnable)));
+    protected long begin() {
+        return spool.map(ProvisioningReportSpool::begin).orElse(-1L);
     }
 
-    protected void shutdown() {
-        for (Future<?> f : this.futures) {
+    protected void end(final long mark) {
+        spool.ifPresent(s -> s.end(mark));
+    }
+
+    /**
+     * Submits the given work item for concurrent execution.
+     * When ordered lanes are enabled, work items for the same key are executed in submission order; when the number
+     * of in-flight items is bounded, this method blocks the caller until some capacity is available.
+     *
+     * @param key key of the connector object or entity being handled
+     * @param runnable work item
+     */
+    protected void submit(final String key, final Runnable runnable) {
+        if (tpte.isEmpty()) {
+            return;
+        }
+
+        if (inFlight.isPresent()) {
+            try {
+                inFlight.get().acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for in-flight capacity", e);
+            }
+        }
+        submitted.incrementAndGet();
+
+        Runnable tracked = () -> {
             try {
-                f.get();
-            } catch (ExecutionException | InterruptedException e) {
-                LOG.error("Unexpected error when waiting for completion", e);
+                runnable.run();
+            } catch (Throwable t) {
+                failed.incrementAndGet();
+                LOG.error("Unexpected error while handling {}", key, t);
+            } finally {
+                done();
+            }
+        };
+
+        try {
+            if (laneCount > 0) {
+                int index = Math.floorMod(key == null ? 0 : key.hashCode(), laneCount);
+                AtomicReference<OrderedLane> start = new AtomicReference<>();
+                lanes.compute(index, (k, lane) -> {
+                    OrderedLane l = Optional.ofNullable(lane).orElseGet(() -> new OrderedLane(k));
+                    l.queue.add(tracked);
+                    if (!l.running) {
+                        l.running = true;
+                        start.set(l);
+                    }
+                    return l;
+                });
+                Optional.ofNullable(start.get()).ifPresent(tpte.get()::execute);
+            } else {
+                tpte.get().execute(tracked);
+            }
+        } catch (RejectedExecutionException e) {
+            failed.incrementAndGet();
+            done();
+            throw e;
+        }
+    }
+
+    protected void done() {
+        inFlight.ifPresent(Semaphore::release);
+        synchronized (completion) {
+            completed.incrementAndGet();
+            completion.notifyAll();
+        }
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    protected void shutdown() {
+        synchronized (completion) {
+            while (completed.get() < submitted.get()) {
+                try {
+                    completion.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.error("Interrupted while waiting for completion", e);
+                    break;
+                }
             }
         }
 
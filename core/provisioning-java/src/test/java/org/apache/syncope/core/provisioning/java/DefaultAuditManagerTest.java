@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
+import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
+import org.apache.syncope.core.persistence.api.entity.AuditConf;
+import org.apache.syncope.core.persistence.api.entity.AuditEvent;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class DefaultAuditManagerTest extends AbstractTest {
+
+    private AuditConfDAO auditConfDAO;
+
+    private AuditEventDAO auditEventDAO;
+
+    private EntityFactory entityFactory;
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private final List<AuditEvent> saved = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        auditConfDAO = mock(AuditConfDAO.class);
+        AuditConf active = mock(AuditConf.class);
+        when(active.isActive()).thenReturn(true);
+        when(auditConfDAO.findById(anyString())).thenAnswer(ic -> ((String) ic.getArgument(0)).contains("inactive")
+                ? Optional.empty()
+                : Optional.of(active));
+
+        auditEventDAO = mock(AuditEventDAO.class);
+        when(auditEventDAO.saveAll(any())).thenAnswer(ic -> {
+            Collection<AuditEvent> events = ic.getArgument(0);
+            batchSizes.add(events.size());
+            saved.addAll(events);
+            return List.copyOf(events);
+        });
+
+        entityFactory = mock(EntityFactory.class);
+        when(entityFactory.newEntity(AuditEvent.class)).thenAnswer(ic -> new JPAAuditEvent());
+    }
+
+    private DefaultAuditManager auditManager(final AuditManagerProperties props) {
+        return new DefaultAuditManager(
+                auditConfDAO,
+                auditEventDAO,
+                entityFactory,
+                List.of(),
+                new SimpleAsyncTaskExecutor(),
+                props);
+    }
+
+    private static void audit(final DefaultAuditManager auditManager, final String op) {
+        auditManager.audit(
+                SyncopeConstants.MASTER_DOMAIN,
+                "admin",
+                OpEvent.CategoryType.LOGIC,
+                "UserLogic",
+                null,
+                op,
+                OpEvent.Outcome.SUCCESS,
+                null,
+                "output",
+                "input");
+    }
+
+    @Test
+    public void batches() {
+        AuditManagerProperties props = new AuditManagerProperties();
+        props.setBatchSize(10);
+        DefaultAuditManager auditManager = auditManager(props);
+        auditManager.afterPropertiesSet();
+
+        for (int i = 0; i < 55; i++) {
+            audit(auditManager, "create");
+        }
+        audit(auditManager, "inactive");
+        auditManager.destroy();
+
+        assertEquals(55, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+
+        assertEquals(56L, auditManager.getStatistics().get("enqueued"));
+        assertEquals(55L, auditManager.getStatistics().get("written"));
+        assertEquals(0L, auditManager.getStatistics().get("dropped"));
+        assertEquals(0, auditManager.getStatistics().get("queueDepth"));
+    }
+
+    @Test
+    public void drop() {
+        AuditManagerProperties props = new AuditManagerProperties();
+        props.setQueueCapacity(2);
+        props.setOverflowPolicy(AuditManagerProperties.OverflowPolicy.DROP);
+        DefaultAuditManager auditManager = auditManager(props);
+        // accept events without starting the writer, so that the queue fills up
+        ReflectionTestUtils.setField(auditManager, "running", true);
+
+        for (int i = 0; i < 5; i++) {
+            audit(auditManager, "create");
+        }
+        verify(auditEventDAO, never()).saveAll(any());
+        assertEquals(2, auditManager.getStatistics().get("queueDepth"));
+        assertEquals(3L, auditManager.getStatistics().get("dropped"));
+
+        auditManager.destroy();
+        assertEquals(List.of(2), batchSizes);
+    }
+
+    @Test
+    public void keepWhen() {
+        DefaultAuditManager auditManager = auditManager(new AuditManagerProperties());
+        auditManager.afterPropertiesSet();
+
+        OffsetDateTime when = OffsetDateTime.now().minusHours(1);
+        auditManager.audit(
+                SyncopeConstants.MASTER_DOMAIN,
+                "admin",
+                when,
+                OpEvent.CategoryType.WA,
+                null,
+                "AuthenticationEvent",
+                "auth",
+                OpEvent.Outcome.SUCCESS,
+                null,
+                "output");
+        auditManager.destroy();
+
+        assertEquals(1, saved.size());
+        assertEquals(when, saved.get(0).getWhen());
+    }
+
+    @Test
+    public void discardSkewedWhen() {
+        AuditManagerProperties props = new AuditManagerProperties();
+        props.setMaxClientTimeSkewSeconds(60);
+        props.setMaxClientTimeAgeSeconds(3600);
+        DefaultAuditManager auditManager = auditManager(props);
+        auditManager.afterPropertiesSet();
+
+        OffsetDateTime start = OffsetDateTime.now();
+        List.of(start.minusDays(1), start.plusDays(1)).forEach(when -> auditManager.audit(
+                SyncopeConstants.MASTER_DOMAIN,
+                "admin",
+                when,
+                OpEvent.CategoryType.WA,
+                null,
+                "AuthenticationEvent",
+                "auth",
+                OpEvent.Outcome.SUCCESS,
+                null,
+                "output"));
+        auditManager.destroy();
+        OffsetDateTime end = OffsetDateTime.now();
+
+        assertEquals(2, saved.size());
+        saved.forEach(event -> assertTrue(!event.getWhen().isBefore(start) && !event.getWhen().isAfter(end)));
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.request.AttrPatch;
 import org.apache.syncope.common.lib.request.MembershipUR;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.attrvalue.InvalidEntityException;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -117,4 +118,15 @@ public class UserDataBinderTest extends AbstractTest {
         assertTrue(user.getPlainAttrs("obscure").stream().anyMatch(a -> a.getMembership() == null));
         assertTrue(user.getPlainAttrs("obscure").stream().anyMatch(a -> newM.equals(a.getMembership())));
     }
+
+    @Test
+    public void getUserTOs() {
+        List<? extends User> users = userDAO.findAll();
+
+        List<UserTO> userTOs = dataBinder.getUserTOs(users, true);
+        assertEquals(users.size(), userTOs.size());
+        for (int i = 0; i < users.size(); i++) {
+            assertEquals(dataBinder.getUserTO(users.get(i), true), userTOs.get(i));
+        }
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.persistence.api.entity.task.NotificationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.provisioning.java.NotificationDeliveryProperties;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class MailNotificationJobDelegateTest extends AbstractTest {
+
+    private static final int TASKS = 21;
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    @Autowired
+    private NotificationDAO notificationDAO;
+
+    @Autowired
+    private TaskUtilsFactory taskUtilsFactory;
+
+    @Autowired
+    private AuditManager auditManager;
+
+    @Autowired
+    private NotificationManager notificationManager;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
+    @Test
+    public void concurrentDelivery() throws Exception {
+        List<String> keys = domainTransactionTemplate.execute(status -> {
+            Notification notification = notificationDAO.findById("e00945b5-1184-4d43-8e45-4318a8dcdfd4").
+                    orElseThrow();
+
+            List<String> saved = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                NotificationTask task = taskUtilsFactory.getInstance(TaskType.NOTIFICATION).newTask();
+                task.setNotification(notification);
+                task.setAnyTypeKind(AnyTypeKind.USER);
+                task.setEntityKey("entity" + i);
+                task.setSender("admin@syncope.apache.org");
+                task.getRecipients().add("first" + i + "@syncope.apache.org");
+                task.getRecipients().add("second" + i + "@syncope.apache.org");
+                task.setSubject("Concurrent delivery " + i);
+                task.setTextBody("text " + i);
+                task.setHtmlBody("<p>html " + i + "</p>");
+                task.setTraceLevel(TraceLevel.FAILURES);
+                task.setExecuted(false);
+
+                saved.add(taskDAO.save(task).getKey());
+            }
+            return saved;
+        });
+
+        Set<String> recipients = ConcurrentHashMap.newKeySet();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(ic -> new MimeMessage(Session.getInstance(new Properties())));
+        doAnswer(ic -> {
+            MimeMessage message = ic.getArgument(0);
+            recipients.add(message.getAllRecipients()[0].toString());
+            threadNames.add(Thread.currentThread().getName());
+            return null;
+        }).when(mailSender).send(any(MimeMessage.class));
+
+        NotificationDeliveryProperties props = new NotificationDeliveryProperties();
+        props.setPoolSize(4);
+        props.setPageSize(5);
+
+        MailNotificationJobDelegate delegate = new MailNotificationJobDelegate(
+                taskDAO,
+                taskUtilsFactory,
+                auditManager,
+                notificationManager,
+                publisher,
+                props,
+                transactionManager,
+                mailSender) {
+
+            @Override
+            protected List<String> findToExec() {
+                // ignore any pending notification task from test content
+                return super.findToExec().stream().filter(keys::contains).toList();
+            }
+        };
+
+        AuthContextUtils.runAsAdmin(SyncopeConstants.MASTER_DOMAIN, () -> {
+            try {
+                delegate.execute("admin");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals(TASKS * 2, recipients.size());
+        assertTrue(threadNames.size() > 1);
+
+        Map<String, Object> statistics = delegate.getStatistics();
+        assertEquals(1L, statistics.get("runs"));
+        assertEquals((long) TASKS, statistics.get("tasks"));
+        assertEquals(TASKS * 2L, statistics.get("sent"));
+        assertEquals(0L, statistics.get("errors"));
+
+        domainTransactionTemplate.executeWithoutResult(status -> keys.forEach(key -> {
+            assertTrue(taskDAO.<NotificationTask>findById(TaskType.NOTIFICATION, key).orElseThrow().isExecuted());
+            taskDAO.delete(TaskType.NOTIFICATION, key);
+        }));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.provisioning.java.PropagationBulkheadProperties;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PropagationBulkheadTest {
+
+    @SuppressWarnings("unchecked")
+    private static TaskExec<PropagationTask> exec(final ExecStatus status) {
+        TaskExec<PropagationTask> exec = mock(TaskExec.class);
+        when(exec.getStatus()).thenReturn(status.name());
+        return exec;
+    }
+
+    private VirtualThreadPoolTaskExecutor taskExecutor;
+
+    private PropagationBulkheadProperties props;
+
+    private final List<PropagationBulkhead> bulkheads = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        taskExecutor = new VirtualThreadPoolTaskExecutor();
+        taskExecutor.setPoolSize(10);
+        taskExecutor.initialize();
+
+        props = new PropagationBulkheadProperties();
+        props.setEnabled(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bulkheads.forEach(PropagationBulkhead::destroy);
+        taskExecutor.shutdown();
+    }
+
+    private PropagationBulkhead bulkhead(final VirtualThreadPoolTaskExecutor executor) {
+        PropagationBulkhead bulkhead = new PropagationBulkhead(props, executor);
+        bulkhead.afterPropertiesSet();
+        bulkheads.add(bulkhead);
+        return bulkhead;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> statistics(final PropagationBulkhead bulkhead, final String resource) {
+        return (Map<String, Object>) bulkhead.getStatistics().get(resource);
+    }
+
+    @Test
+    public void limit() throws Exception {
+        props.setInitialLimit(1);
+        props.setMaxLimit(1);
+        PropagationBulkhead bulkhead = bulkhead(taskExecutor);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        TaskExec<PropagationTask> success = exec(ExecStatus.SUCCESS);
+        List<Future<TaskExec<PropagationTask>>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(bulkhead.submit("slow", () -> {
+                latch.await();
+                return success;
+            }));
+        }
+
+        Map<String, Object> stats = statistics(bulkhead, "slow");
+        assertEquals(1, stats.get("inFlight"));
+        assertEquals(2, stats.get("queued"));
+
+        // other resources are not affected
+        assertEquals(success, bulkhead.submit("fast", () -> success).get(5, TimeUnit.SECONDS));
+
+        latch.countDown();
+        for (Future<TaskExec<PropagationTask>> future : futures) {
+            assertEquals(success, future.get(5, TimeUnit.SECONDS));
+        }
+
+        stats = statistics(bulkhead, "slow");
+        assertEquals(0, stats.get("inFlight"));
+        assertEquals(0, stats.get("queued"));
+        assertEquals(3L, stats.get("completed"));
+    }
+
+    @Test
+    public void circuitBreaker() throws Exception {
+        props.setFailureThreshold(2);
+        props.setOpenDuration(Duration.ofMillis(200));
+        PropagationBulkhead bulkhead = bulkhead(taskExecutor);
+
+        TaskExec<PropagationTask> failure = exec(ExecStatus.FAILURE);
+        bulkhead.submit("down", () -> failure).get(5, TimeUnit.SECONDS);
+        assertEquals(PropagationBulkhead.CircuitState.CLOSED, statistics(bulkhead, "down").get("state"));
+        bulkhead.submit("down", () -> failure).get(5, TimeUnit.SECONDS);
+        assertEquals(PropagationBulkhead.CircuitState.OPEN, statistics(bulkhead, "down").get("state"));
+        assertEquals(5, statistics(bulkhead, "down").get("limit"));
+
+        TaskExec<PropagationTask> success = exec(ExecStatus.SUCCESS);
+        assertThrows(RejectedExecutionException.class, () -> bulkhead.submit("down", () -> success));
+        assertEquals(1L, statistics(bulkhead, "down").get("rejected"));
+
+        Thread.sleep(300);
+        assertEquals(success, bulkhead.submit("down", () -> success).get(5, TimeUnit.SECONDS));
+        assertEquals(PropagationBulkhead.CircuitState.CLOSED, statistics(bulkhead, "down").get("state"));
+    }
+
+    @Test
+    public void singleThread() throws Exception {
+        props.setInitialLimit(1);
+        props.setMaxLimit(1);
+
+        VirtualThreadPoolTaskExecutor singleThread = new VirtualThreadPoolTaskExecutor();
+        singleThread.setPoolSize(1);
+        singleThread.initialize();
+        PropagationBulkhead bulkhead = bulkhead(singleThread);
+
+        // queued tasks are dispatched once the running one has released its only executor thread
+        TaskExec<PropagationTask> success = exec(ExecStatus.SUCCESS);
+        List<Future<TaskExec<PropagationTask>>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(bulkhead.submit("resource", () -> success));
+        }
+        for (Future<TaskExec<PropagationTask>> future : futures) {
+            assertEquals(success, future.get(5, TimeUnit.SECONDS));
+        }
+
+        // plain tasks are also executed within the resource limit, and fail when throwing any exception
+        Runnable fetch = () -> {
+            throw new IllegalStateException("unreachable");
+        };
+        Future<?> future = bulkhead.submit("resource", fetch);
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertEquals(4L, statistics(bulkhead, "resource").get("completed"));
+        assertEquals(1L, statistics(bulkhead, "resource").get("failed"));
+    }
+
+    @Test
+    public void drainUponDestroy() throws Exception {
+        props.setInitialLimit(1);
+        props.setMaxLimit(1);
+        PropagationBulkhead bulkhead = new PropagationBulkhead(props, taskExecutor);
+        bulkhead.afterPropertiesSet();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            bulkhead.submit("slow", () -> {
+                latch.await();
+                executed.incrementAndGet();
+                return null;
+            });
+        }
+        assertEquals(2, statistics(bulkhead, "slow").get("queued"));
+
+        latch.countDown();
+        bulkhead.destroy();
+        assertEquals(3, executed.get());
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtils;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskCallable;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.PropagationBulkheadProperties;
+import org.apache.syncope.core.provisioning.java.PropagationCoalescingProperties;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.AttributeDeltaBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class PropagationTaskCoalescerTest {
+
+    private static PropagationData deltas(final AttributeDelta... deltas) {
+        PropagationData data = new PropagationData(null);
+        data.setAttributeDeltas(Set.of(deltas));
+        return data;
+    }
+
+    @Test
+    public void mergeAttributes() {
+        PropagationData earlier = new PropagationData(Set.of(
+                AttributeBuilder.build("email", "old@syncope.org"),
+                AttributeBuilder.build("surname", "Rossini")));
+        PropagationData later = new PropagationData(Set.of(
+                AttributeBuilder.build("EMAIL", "new@syncope.org"),
+                AttributeBuilder.build("firstname", "Gioacchino")));
+
+        Optional<PropagationData> merged = PropagationTaskCoalescer.merge(earlier, later);
+        assertTrue(merged.isPresent());
+        assertNull(merged.get().getAttributeDeltas());
+
+        Map<String, Attribute> attrs = merged.get().getAttributes().stream().
+                collect(Collectors.toMap(attr -> attr.getName().toLowerCase(), Function.identity()));
+        assertEquals(3, attrs.size());
+        assertEquals(List.of("new@syncope.org"), attrs.get("email").getValue());
+        assertEquals(List.of("Rossini"), attrs.get("surname").getValue());
+        assertEquals(List.of("Gioacchino"), attrs.get("firstname").getValue());
+    }
+
+    @Test
+    public void mergeAttributeDeltas() {
+        PropagationData earlier = deltas(
+                AttributeDeltaBuilder.build("groups", List.of("a", "b"), List.of("c")),
+                AttributeDeltaBuilder.build("email", List.of("old@syncope.org")));
+        PropagationData later = deltas(
+                AttributeDeltaBuilder.build("groups", List.of("c"), List.of("b", "d")),
+                AttributeDeltaBuilder.build("EMAIL", List.of("new@syncope.org"), null));
+
+        Map<String, AttributeDelta> deltas = PropagationTaskCoalescer.merge(earlier, later).
+                orElseThrow().getAttributeDeltas().stream().
+                collect(Collectors.toMap(delta -> delta.getName().toLowerCase(), Function.identity()));
+        assertEquals(2, deltas.size());
+
+        AttributeDelta groups = deltas.get("groups");
+        assertEquals(List.of("a", "c"), groups.getValuesToAdd());
+        assertEquals(List.of("b", "d"), groups.getValuesToRemove());
+
+        AttributeDelta email = deltas.get("email");
+        assertEquals(List.of("old@syncope.org", "new@syncope.org"), email.getValuesToReplace());
+    }
+
+    @Test
+    public void laterReplaceWins() {
+        PropagationData earlier = deltas(AttributeDeltaBuilder.build("groups", List.of("a"), List.of("b")));
+        PropagationData later = deltas(AttributeDeltaBuilder.build("groups", List.of("c")));
+
+        AttributeDelta groups = PropagationTaskCoalescer.merge(earlier, later).
+                orElseThrow().getAttributeDeltas().iterator().next();
+        assertEquals(List.of("c"), groups.getValuesToReplace());
+    }
+
+    @Test
+    public void cannotMergeMixedModes() {
+        PropagationData earlier = new PropagationData(Set.of(AttributeBuilder.build("email", "old@syncope.org")));
+        PropagationData later = deltas(AttributeDeltaBuilder.build("email", List.of("new@syncope.org")));
+
+        assertTrue(PropagationTaskCoalescer.merge(earlier, later).isEmpty());
+        assertTrue(PropagationTaskCoalescer.merge(later, earlier).isEmpty());
+    }
+
+    private ExternalResource resource;
+
+    private VirtualThreadPoolTaskExecutor taskExecutor;
+
+    private PropagationBulkhead bulkhead;
+
+    private PropagationTaskCoalescer coalescer;
+
+    private final List<PropagationTaskInfo> delivered = new CopyOnWriteArrayList<>();
+
+    private PropagationTaskCallable callable;
+
+    @BeforeEach
+    public void setUp() {
+        PropagationPolicy policy = mock(PropagationPolicy.class);
+        when(policy.isCoalesceUpdates()).thenReturn(true);
+        resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-ldap");
+        when(resource.getPropagationPolicy()).thenReturn(policy);
+
+        PropagationTask task = mock(PropagationTask.class);
+        when(task.getKey()).thenReturn("pending");
+        TaskUtils taskUtils = mock(TaskUtils.class);
+        doReturn(task).when(taskUtils).newTask();
+        TaskUtilsFactory taskUtilsFactory = mock(TaskUtilsFactory.class);
+        when(taskUtilsFactory.getInstance(TaskType.PROPAGATION)).thenReturn(taskUtils);
+        TaskDAO taskDAO = mock(TaskDAO.class);
+        doReturn(Optional.empty()).when(taskDAO).findById(any(TaskType.class), anyString());
+        doReturn(task).when(taskDAO).save(any());
+        ExternalResourceDAO resourceDAO = mock(ExternalResourceDAO.class);
+        doReturn(Optional.of(resource)).when(resourceDAO).findById("resource-ldap");
+
+        // the window is long enough for the pending update to be only delivered upon flush
+        PropagationCoalescingProperties props = new PropagationCoalescingProperties();
+        props.setWindow(Duration.ofMinutes(10));
+
+        taskExecutor = new VirtualThreadPoolTaskExecutor();
+        taskExecutor.initialize();
+        bulkhead = new PropagationBulkhead(new PropagationBulkheadProperties(), taskExecutor);
+        bulkhead.afterPropertiesSet();
+
+        coalescer = new PropagationTaskCoalescer(
+                props,
+                taskDAO,
+                resourceDAO,
+                taskUtilsFactory,
+                bulkhead,
+                mock(PlatformTransactionManager.class));
+
+        callable = mock(PropagationTaskCallable.class);
+        doAnswer(ic -> delivered.add(ic.getArgument(0))).when(callable).setTaskInfo(any());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bulkhead.destroy();
+        taskExecutor.shutdown();
+    }
+
+    private PropagationTaskInfo update(final String email) {
+        return new PropagationTaskInfo(
+                resource, ResourceOperation.UPDATE, ObjectClass.ACCOUNT, AnyTypeKind.USER, "USER",
+                "1417acbe-cbf6-4277-9372-e75e04f97000", "rossini",
+                new PropagationData(Set.of(AttributeBuilder.build("email", email))));
+    }
+
+    @Test
+    public void updateThenDelete() {
+        PropagationTaskInfo update1 = update("old@syncope.org");
+        PropagationTaskInfo update2 = update("new@syncope.org");
+        assertTrue(coalescer.accepts(update1));
+
+        coalescer.enqueue(update1, () -> callable);
+        coalescer.enqueue(update2, () -> callable);
+        assertTrue(delivered.isEmpty());
+        assertEquals(1, coalescer.getStatistics().get("pending"));
+
+        PropagationTaskInfo delete = new PropagationTaskInfo(
+                resource, ResourceOperation.DELETE, ObjectClass.ACCOUNT, AnyTypeKind.USER, "USER",
+                "1417acbe-cbf6-4277-9372-e75e04f97000", "rossini", null);
+        assertFalse(coalescer.accepts(delete));
+
+        // the merged update is delivered before flush returns, hence before the delete is executed
+        coalescer.flush(delete);
+        assertEquals(1, delivered.size());
+        assertEquals("pending", delivered.getFirst().getKey());
+        assertEquals(
+                List.of("new@syncope.org"),
+                delivered.getFirst().getPropagationData().getAttributes().iterator().next().getValue());
+        assertEquals(0, coalescer.getStatistics().get("pending"));
+
+        // nothing left to deliver
+        coalescer.flush(delete);
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    public void deliverUponDestroy() {
+        coalescer.enqueue(update("old@syncope.org"), () -> callable);
+        coalescer.enqueue(update("new@syncope.org"), () -> callable);
+        assertTrue(delivered.isEmpty());
+
+        // the merged update is delivered before destroy returns, without waiting for the window
+        coalescer.destroy();
+        assertEquals(1, delivered.size());
+        assertEquals(
+                List.of("new@syncope.org"),
+                delivered.getFirst().getPropagationData().getAttributes().iterator().next().getValue());
+        assertEquals(0, coalescer.getStatistics().get("pending"));
+
+        // later updates are no longer coalesced
+        assertFalse(coalescer.accepts(update("newer@syncope.org")));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.BackOffStrategy;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.policy.PropagationPolicy;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtils;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
+import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationActions;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+public class PropagationTaskExecutorTest extends AbstractTest {
+
+    private final List<Boolean> fetchBeforeOnUpdate = new CopyOnWriteArrayList<>();
+
+    private final List<Boolean> fetches = new CopyOnWriteArrayList<>();
+
+    private PropagationBulkhead bulkhead;
+
+    private PriorityPropagationTaskExecutor executor;
+
+    private PropagationTaskInfo taskInfo;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setUp() {
+        AtomicReference<String> status = new AtomicReference<>();
+        TaskExec<PropagationTask> exec = mock(TaskExec.class);
+        doAnswer(ic -> {
+            status.set(ic.getArgument(0));
+            return null;
+        }).when(exec).setStatus(anyString());
+        when(exec.getStatus()).thenAnswer(ic -> status.get());
+        TaskUtils taskUtils = mock(TaskUtils.class);
+        doReturn(exec).when(taskUtils).newTaskExec();
+        TaskUtilsFactory taskUtilsFactory = mock(TaskUtilsFactory.class);
+        when(taskUtilsFactory.getInstance(TaskType.PROPAGATION)).thenReturn(taskUtils);
+
+        bulkhead = mock(PropagationBulkhead.class);
+
+        executor = new PriorityPropagationTaskExecutor(
+                mock(ConnectorManager.class),
+                mock(ConnObjectUtils.class),
+                mock(TaskDAO.class),
+                mock(ExternalResourceDAO.class),
+                mock(PlainSchemaDAO.class),
+                mock(NotificationManager.class),
+                mock(AuditManager.class),
+                mock(TaskDataBinder.class),
+                mock(AnyUtilsFactory.class),
+                taskUtilsFactory,
+                mock(OutboundMatcher.class),
+                mock(PlainAttrValidationManager.class),
+                mock(ApplicationEventPublisher.class),
+                mock(PropagationTaskWriter.class),
+                mock(VirtualThreadPoolTaskExecutor.class),
+                mock(PropagationTaskCoalescer.class),
+                bulkhead) {
+
+            @Override
+            protected Uid createOrUpdate(
+                    final PropagationTaskInfo taskInfo,
+                    final boolean fetchRemoteObj,
+                    final ConnectorObject beforeObj,
+                    final Connector connector,
+                    final AtomicReference<Boolean> propagationAttempted) {
+
+                fetchBeforeOnUpdate.add(fetchRemoteObj);
+                propagationAttempted.set(true);
+                return new Uid(taskInfo.getConnObjectKey());
+            }
+
+            @Override
+            protected ConnectorObject getRemoteObject(
+                    final PropagationTaskInfo taskInfo,
+                    final Connector connector,
+                    final Provision provision,
+                    final List<PropagationActions> actions,
+                    final boolean latest) {
+
+                fetches.add(latest);
+                return null;
+            }
+        };
+
+        PropagationPolicy policy = mock(PropagationPolicy.class);
+        when(policy.isFetchAroundProvisioning()).thenReturn(true);
+        when(policy.isSkipFetchBefore()).thenReturn(true);
+        when(policy.isDeferFetchAfter()).thenReturn(true);
+        when(policy.getMaxAttempts()).thenReturn(1);
+        when(policy.getBackOffStrategy()).thenReturn(BackOffStrategy.FIXED);
+        when(policy.getBackOffParams()).thenReturn(BackOffStrategy.FIXED.getDefaultBackOffParams());
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-ldap");
+        when(resource.getPropagationPolicy()).thenReturn(policy);
+        when(resource.getProvisionByObjectClass(anyString())).thenReturn(Optional.of(new Provision()));
+
+        taskInfo = new PropagationTaskInfo(
+                resource, ResourceOperation.UPDATE, ObjectClass.ACCOUNT, AnyTypeKind.USER, "USER",
+                "1417acbe-cbf6-4277-9372-e75e04f97000", "rossini",
+                new PropagationData(Set.of(AttributeBuilder.build("email", "rossini@syncope.org"))));
+        taskInfo.setConnector(mock(Connector.class));
+    }
+
+    @Test
+    public void skipFetchBeforeAndDeferFetchAfter() {
+        TaskExec<PropagationTask> exec = executor.execute(taskInfo, mock(PropagationReporter.class), "admin");
+        assertEquals(ExecStatus.SUCCESS.name(), exec.getStatus());
+
+        // the remote object is neither read before the update, nor after while the propagation is executed
+        assertEquals(List.of(false), fetchBeforeOnUpdate);
+        assertTrue(fetches.isEmpty());
+
+        ArgumentCaptor<Runnable> fetch = ArgumentCaptor.forClass(Runnable.class);
+        verify(bulkhead).submit(eq("resource-ldap"), fetch.capture());
+        fetch.getValue().run();
+        assertEquals(List.of(true), fetches);
+
+        Map<String, Object> stats = executor.getStatistics();
+        assertEquals(0L, stats.get("fetchedBefore"));
+        assertEquals(1L, stats.get("skippedBefore"));
+        assertEquals(0L, stats.get("fetchedAfter"));
+        assertEquals(1L, stats.get("deferredAfter"));
+        assertEquals(1L, stats.get("deferredAfterMissing"));
+    }
+
+    @Test
+    public void deferredFetchRejected() {
+        doThrow(new RejectedExecutionException("Propagation to resource-ldap suspended")).
+                when(bulkhead).submit(anyString(), any(Runnable.class));
+
+        TaskExec<PropagationTask> exec = executor.execute(taskInfo, mock(PropagationReporter.class), "admin");
+        assertEquals(ExecStatus.SUCCESS.name(), exec.getStatus());
+
+        assertTrue(fetches.isEmpty());
+        assertEquals(1L, executor.getStatistics().get("deferredAfterFailed"));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.provisioning.java.PropagationTaskWriterProperties;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class PropagationTaskWriterTest extends AbstractTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PropagationTaskWriterTest.class);
+
+    private static final int TASKS = 200;
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    private TaskUtilsFactory taskUtilsFactory;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
+    private List<PropagationTask> newTasks(final String prefix) {
+        ExternalResource resource = domainTransactionTemplate.execute(
+                status -> resourceDAO.findById("ws-target-resource-1").orElseThrow());
+
+        List<PropagationTask> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            PropagationTask task = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTask();
+            task.setResource(resource);
+            task.setAnyTypeKind(AnyTypeKind.USER);
+            task.setAnyType(AnyTypeKind.USER.name());
+            task.setOperation(ResourceOperation.UPDATE);
+            task.setConnObjectKey(prefix + i);
+            task.setPropagationData(new PropagationData(Set.of(AttributeBuilder.build("surname", prefix + i))));
+
+            TaskExec<PropagationTask> exec = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTaskExec();
+            exec.setStart(OffsetDateTime.now());
+            exec.setEnd(OffsetDateTime.now());
+            exec.setStatus(ExecStatus.SUCCESS.name());
+            exec.setExecutor("admin");
+            exec.setTask(task);
+            task.add(exec);
+
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private void verifyAndDelete(final List<PropagationTask> tasks) {
+        domainTransactionTemplate.executeWithoutResult(status -> tasks.forEach(task -> {
+            PropagationTask actual = taskDAO.<PropagationTask>findById(TaskType.PROPAGATION, task.getKey()).
+                    orElseThrow();
+            assertEquals(1, actual.getExecs().size());
+
+            taskDAO.delete(TaskType.PROPAGATION, task.getKey());
+        }));
+    }
+
+    private PropagationTaskWriter newWriter(
+            final AsyncTaskExecutor taskExecutor, final PropagationTaskWriterProperties props) {
+
+        // no transactional proxies are available here
+        PropagationTaskWriter writer = new PropagationTaskWriter(taskDAO, taskExecutor, props) {
+
+            @Override
+            protected void flush(final List<QueuedTask> batch) {
+                domainTransactionTemplate.executeWithoutResult(status -> super.flush(batch));
+            }
+        };
+        writer.afterPropertiesSet();
+        return writer;
+    }
+
+    private static PropagationTaskWriterProperties props(final Duration flushInterval) {
+        PropagationTaskWriterProperties props = new PropagationTaskWriterProperties();
+        props.setEnabled(true);
+        props.setFlushInterval(flushInterval);
+        props.setAwaitTerminationSeconds(60);
+        return props;
+    }
+
+    @Test
+    public void batches() {
+        // the flush interval is long enough for batches to be only flushed when full, or upon shutdown
+        PropagationTaskWriterProperties props = props(Duration.ofSeconds(30));
+
+        VirtualThreadPoolTaskExecutor taskExecutor = new VirtualThreadPoolTaskExecutor();
+        taskExecutor.initialize();
+        PropagationTaskWriter writer = newWriter(taskExecutor, props);
+
+        List<PropagationTask> tasks = newTasks("batched");
+        tasks.forEach(task -> assertTrue(writer.enqueue(task)));
+        writer.destroy();
+        taskExecutor.shutdown();
+
+        Map<String, Object> stats = writer.getStatistics();
+        assertEquals((long) TASKS, stats.get("enqueued"));
+        assertEquals((long) TASKS, stats.get("written"));
+        assertEquals(0L, stats.get("failed"));
+
+        // the last batch may have been flushed early by shutdown, splitting it in two
+        long flushes = (long) stats.get("flushes");
+        long fullBatches = TASKS / props.getBatchSize();
+        assertTrue(flushes >= fullBatches && flushes <= fullBatches + 1, "Unexpected flushes: " + flushes);
+        assertTrue((long) stats.get("avgBatchSize") >= TASKS / (fullBatches + 1));
+
+        verifyAndDelete(tasks);
+    }
+
+    /**
+     * Compares the time taken to store propagation tasks one by one with the time taken by
+     * {@link PropagationTaskWriter}; being sensitive to the environment, only run with {@code -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    public void throughput() {
+        List<PropagationTask> single = newTasks("single");
+        long start = System.nanoTime();
+        single.forEach(task -> domainTransactionTemplate.executeWithoutResult(status -> taskDAO.save(task)));
+        long singleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        PropagationTaskWriterProperties props = props(Duration.ofMillis(100));
+
+        VirtualThreadPoolTaskExecutor taskExecutor = new VirtualThreadPoolTaskExecutor();
+        taskExecutor.initialize();
+        PropagationTaskWriter writer = newWriter(taskExecutor, props);
+
+        List<PropagationTask> batched = newTasks("batched");
+        start = System.nanoTime();
+        batched.forEach(task -> assertTrue(writer.enqueue(task)));
+        writer.destroy();
+        long batchedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        taskExecutor.shutdown();
+
+        assertEquals((long) TASKS, writer.getStatistics().get("written"));
+
+        LOG.info("{} propagation tasks stored one by one in {} ms, in batches of {} in {} ms: {}",
+                TASKS, singleMillis, props.getBatchSize(), batchedMillis, writer.getStatistics());
+        assertTrue(batchedMillis < singleMillis);
+
+        verifyAndDelete(single);
+        verifyAndDelete(batched);
+    }
+}
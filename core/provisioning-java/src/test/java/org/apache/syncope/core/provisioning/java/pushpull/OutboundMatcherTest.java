@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.ResultsHandler;
+import org.identityconnectors.framework.common.objects.filter.OrFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class OutboundMatcherTest extends AbstractTest {
+
+    private static ConnectorObject connObj(final String id) {
+        return new ConnectorObjectBuilder().
+                setObjectClass(ObjectClass.ACCOUNT).
+                setUid(id).
+                setName(id).
+                addAttribute(AttributeBuilder.build("ID", id)).
+                build();
+    }
+
+    @Autowired
+    private OutboundMatcher outboundMatcher;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Test
+    public void prefetch() {
+        ExternalResource resource = resourceDAO.findById("resource-testdb").orElseThrow();
+        Provision provision = resource.getProvisionByAnyType("USER").orElseThrow();
+
+        List<? extends User> users = Stream.of("rossini", "verdi", "bellini").
+                map(username -> userDAO.findByUsername(username).orElseThrow()).toList();
+
+        Connector connector = mock(Connector.class);
+        doAnswer(ic -> {
+            assertTrue(ic.getArgument(1) instanceof OrFilter);
+
+            ResultsHandler handler = ic.getArgument(2);
+            handler.handle(connObj("rossini"));
+            handler.handle(connObj("verdi"));
+            return null;
+        }).when(connector).search(any(), any(), any(), any());
+
+        Map<String, List<ConnectorObject>> matches =
+                outboundMatcher.prefetch(connector, users, resource, provision, Optional.empty());
+
+        verify(connector, times(1)).search(any(), any(), any(), any());
+        assertEquals(2, matches.size());
+        assertEquals("rossini", matches.get(users.get(0).getKey()).get(0).getUid().getUidValue());
+        assertEquals("verdi", matches.get(users.get(1).getKey()).get(0).getUid().getUidValue());
+        assertFalse(matches.containsKey(users.get(2).getKey()));
+    }
+}
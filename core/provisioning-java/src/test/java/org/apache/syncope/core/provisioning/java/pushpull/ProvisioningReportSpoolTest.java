@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ProvisioningReportSpoolTest {
+
+    private static ProvisioningReport report(final String key, final ResourceOperation operation) {
+        ProvisioningReport report = new ProvisioningReport();
+        report.setKey(key);
+        report.setAnyType("USER");
+        report.setOperation(operation);
+        report.setStatus(ProvisioningReport.Status.SUCCESS);
+        return report;
+    }
+
+    @Test
+    public void spill(final @TempDir Path directory) throws IOException {
+        List<ProvisioningReport> results = new CopyOnWriteArrayList<>();
+        try (ProvisioningReportSpool spool = new ProvisioningReportSpool(results, 10, directory)) {
+            // one handling remains in-flight, its report is not yet complete
+            long inFlight = spool.begin();
+            ProvisioningReport pending = new ProvisioningReport();
+            pending.setKey("pending");
+            pending.setAnyType("GROUP");
+            results.add(pending);
+
+            for (int i = 0; i < 25; i++) {
+                long mark = spool.begin();
+                results.add(report("key" + i, ResourceOperation.CREATE));
+                spool.end(mark);
+            }
+
+            // nothing can be spilled before the in-flight handling
+            assertFalse(spool.isSpilled());
+            assertEquals(26, results.size());
+
+            pending.setOperation(ResourceOperation.UPDATE);
+            pending.setStatus(ProvisioningReport.Status.FAILURE);
+            spool.end(inFlight);
+
+            assertTrue(spool.isSpilled());
+            assertTrue(results.isEmpty());
+            assertEquals(26, spool.size());
+
+            for (int i = 25; i < 30; i++) {
+                long mark = spool.begin();
+                results.add(report("key" + i, ResourceOperation.DELETE));
+                spool.end(mark);
+            }
+            assertEquals(5, results.size());
+
+            spool.finish();
+            assertTrue(results.isEmpty());
+            assertEquals(31, spool.size());
+
+            assertArrayEquals(new long[] { 25, 0, 0, 0, 5, 0, 0, 0 }, spool.getCounters().get("Users"));
+            assertArrayEquals(new long[] { 0, 0, 0, 1, 0, 0, 0, 0 }, spool.getCounters().get("Groups"));
+
+            List<String> keys = new ArrayList<>();
+            spool.forEach(report -> keys.add(report.getKey()));
+            assertEquals(31, keys.size());
+            assertEquals("pending", keys.get(0));
+            assertEquals("key29", keys.get(30));
+
+            Path exported = spool.export("test", report -> report.getStatus() == ProvisioningReport.Status.FAILURE
+                    ? report.getKey() + '\n'
+                    : null);
+            assertEquals(List.of("pending"), Files.readAllLines(exported));
+        }
+
+        // only the exported file is left
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void spillWhileAdding(final @TempDir Path directory) throws IOException {
+        AtomicInteger added = new AtomicInteger();
+        // simulates other handlers adding their reports while completed reports are being spilled
+        List<ProvisioningReport> results = new CopyOnWriteArrayList<>() {
+
+            private static final long serialVersionUID = -3406187540233408113L;
+
+            @Override
+            public List<ProvisioningReport> subList(final int fromIndex, final int toIndex) {
+                List<ProvisioningReport> subList = super.subList(fromIndex, toIndex);
+                add(report("concurrent" + added.getAndIncrement(), ResourceOperation.CREATE));
+                return subList;
+            }
+        };
+        try (ProvisioningReportSpool spool = new ProvisioningReportSpool(results, 10, directory) {
+
+            @Override
+            protected void count(final ProvisioningReport report) {
+                super.count(report);
+                results.add(report("concurrent" + added.getAndIncrement(), ResourceOperation.CREATE));
+            }
+        }) {
+            for (int i = 0; i < 25; i++) {
+                long mark = spool.begin();
+                results.add(report("key" + i, ResourceOperation.CREATE));
+                spool.end(mark);
+            }
+            spool.finish();
+
+            assertTrue(spool.isSpilled());
+            assertEquals(25 + added.get(), spool.size());
+
+            Set<String> keys = new HashSet<>();
+            spool.forEach(report -> keys.add(report.getKey()));
+            assertEquals(25 + added.get(), keys.size());
+        }
+    }
+
+    @Test
+    public void retainedExports(final @TempDir Path directory) throws IOException {
+        List<ProvisioningReport> results = new CopyOnWriteArrayList<>();
+        try (ProvisioningReportSpool spool = new ProvisioningReportSpool(results, 10, directory, 2)) {
+            results.add(report("key", ResourceOperation.CREATE));
+
+            Path first = spool.export("test", report -> report.getKey() + '\n');
+            Path second = spool.export("test", report -> report.getKey() + '\n');
+            Path other = spool.export("other", report -> report.getKey() + '\n');
+            Path third = spool.export("test", report -> report.getKey() + '\n');
+
+            assertTrue(Files.exists(third));
+            assertTrue(Files.exists(other));
+            assertEquals(1, Stream.of(first, second).filter(Files::exists).count());
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void noSpillBelowThreshold(final @TempDir Path directory) throws IOException {
+        List<ProvisioningReport> results = new CopyOnWriteArrayList<>();
+        try (ProvisioningReportSpool spool = new ProvisioningReportSpool(results, 10, directory)) {
+            for (int i = 0; i < 9; i++) {
+                long mark = spool.begin();
+                results.add(report("key" + i, ResourceOperation.CREATE));
+                spool.end(mark);
+            }
+            spool.finish();
+
+            assertFalse(spool.isSpilled());
+            assertEquals(9, results.size());
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.junit.jupiter.api.Test;
+
+public class PullResultHandlerDispatcherTest {
+
+    @Test
+    public void syncTokenWatermark() {
+        PullResultHandlerDispatcher.SyncTokenWatermark watermark = new PullResultHandlerDispatcher.SyncTokenWatermark();
+        List<Object> advances = new ArrayList<>();
+
+        long first = watermark.dispatched(new SyncToken(1));
+        long second = watermark.dispatched(new SyncToken(2));
+        long third = watermark.dispatched(new SyncToken(3));
+
+        // later deltas completed first: the token cannot move forward
+        watermark.completed(third, token -> advances.add(token.getValue()));
+        watermark.completed(second, token -> advances.add(token.getValue()));
+        assertEquals(List.of(), advances);
+
+        // all deltas up to the third are now completed
+        watermark.completed(first, token -> advances.add(token.getValue()));
+        assertEquals(List.of(3), advances);
+
+        long fourth = watermark.dispatched(new SyncToken(4));
+        watermark.completed(fourth, token -> advances.add(token.getValue()));
+        assertEquals(List.of(3, 4), advances);
+    }
+}
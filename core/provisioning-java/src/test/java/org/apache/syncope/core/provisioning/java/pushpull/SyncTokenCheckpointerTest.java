@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class SyncTokenCheckpointerTest extends AbstractTest {
+
+    @Autowired
+    private SyncTokenCheckpointer checkpointer;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Test
+    public void checkpoint() {
+        assertNull(resourceDAO.findById("resource-ldap").orElseThrow().
+                getProvisionByObjectClass("__ACCOUNT__").orElseThrow().getSyncToken());
+
+        Map<String, String> syncTokens = new HashMap<>();
+        syncTokens.put("__ACCOUNT__", "{\"value\":42}");
+        syncTokens.put("__NOT_MAPPED__", "{\"value\":1}");
+        checkpointer.checkpoint("resource-ldap", syncTokens);
+        entityManager.flush();
+
+        assertEquals("{\"value\":42}", resourceDAO.findById("resource-ldap").orElseThrow().
+                getProvisionByObjectClass("__ACCOUNT__").orElseThrow().getSyncToken());
+        assertNull(resourceDAO.findById("resource-ldap").orElseThrow().
+                getProvisionByObjectClass("__GROUP__").orElseThrow().getSyncToken());
+    }
+}
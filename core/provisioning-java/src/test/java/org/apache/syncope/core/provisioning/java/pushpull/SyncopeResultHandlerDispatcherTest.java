@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
+import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
+import org.junit.jupiter.api.Test;
+
+public class SyncopeResultHandlerDispatcherTest {
+
+    private static SyncopeResultHandlerDispatcher<PushTask, PushActions, SyncopePushResultHandler> dispatcher(
+            final ThreadPoolSettings settings) {
+
+        PushTask task = mock(PushTask.class);
+        when(task.getKey()).thenReturn("test");
+        when(task.getConcurrentSettings()).thenReturn(settings);
+
+        ProvisioningProfile<PushTask, PushActions> profile = new ProvisioningProfile<>(mock(Connector.class), task);
+        profile.setExecutor("admin");
+
+        return new SyncopeResultHandlerDispatcher<>(profile, null) {
+        };
+    }
+
+    @Test
+    public void orderedLanesWithBoundedInFlight() {
+        ThreadPoolSettings settings = new ThreadPoolSettings();
+        settings.setPoolSize(4);
+        settings.setOrderedByKey(true);
+        settings.setMaxInFlight(3);
+
+        SyncopeResultHandlerDispatcher<PushTask, PushActions, SyncopePushResultHandler> dispatcher =
+                dispatcher(settings);
+
+        Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        IntStream.range(0, 200).forEach(i -> {
+            String key = "key" + (i % 10);
+            dispatcher.submit(key, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(i);
+                running.decrementAndGet();
+            });
+        });
+        dispatcher.shutdown();
+
+        assertEquals(200, dispatcher.getSubmitted());
+        assertEquals(200, dispatcher.getCompleted());
+        assertEquals(0, dispatcher.getFailed());
+        assertTrue(maxRunning.get() <= 3);
+
+        assertEquals(10, handled.size());
+        handled.values().forEach(sequence -> {
+            assertEquals(20, sequence.size());
+            assertEquals(sequence.stream().sorted().toList(), sequence);
+        });
+        assertTrue(dispatcher.lanes.isEmpty());
+    }
+
+    @Test
+    public void failuresAreCounted() {
+        SyncopeResultHandlerDispatcher<PushTask, PushActions, SyncopePushResultHandler> dispatcher =
+                dispatcher(new ThreadPoolSettings());
+
+        IntStream.range(0, 10).forEach(i -> dispatcher.submit("key" + i, () -> {
+            if (i % 2 == 0) {
+                throw new IllegalStateException("failure " + i);
+            }
+        }));
+        dispatcher.shutdown();
+
+        assertEquals(10, dispatcher.getCompleted());
+        assertEquals(5, dispatcher.getFailed());
+    }
+}
@@ -23,13 +23,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.util.Map;
 import java.util.TreeMap;
+import org.apache.syncope.common.keymaster.client.api.ConfParamChangeEvent;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.keymaster.ConfParamDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.keymaster.ConfParam;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class InternalConfParamHelper {
 
@@ -41,9 +45,37 @@ public class InternalConfParamHelper {
 
     protected final EntityFactory entityFactory;
 
-    public InternalConfParamHelper(final ConfParamDAO confParamDAO, final EntityFactory entityFactory) {
+    protected final ApplicationEventPublisher publisher;
+
+    public InternalConfParamHelper(
+            final ConfParamDAO confParamDAO,
+            final EntityFactory entityFactory,
+            final ApplicationEventPublisher publisher) {
+
         this.confParamDAO = confParamDAO;
         this.entityFactory = entityFactory;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Publishes {@link ConfParamChangeEvent} once the current transaction has committed, so that caches are not
+     * reloaded with the value being replaced.
+     *
+     * @param key changed configuration parameter
+     */
+    protected void publishChange(final String key) {
+        ConfParamChangeEvent event = new ConfParamChangeEvent(this, null, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    publisher.publishEvent(event);
+                }
+            });
+        } else {
+            publisher.publishEvent(event);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -77,10 +109,14 @@ public class InternalConfParamHelper {
         }
         param.setValue(value);
         confParamDAO.save(param);
+
+        publishChange(key);
     }
 
     @Transactional
     public void remove(final String key) {
         confParamDAO.deleteById(key);
+
+        publishChange(key);
     }
 }
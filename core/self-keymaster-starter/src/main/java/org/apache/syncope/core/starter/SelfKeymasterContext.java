@@ -42,6 +42,7 @@ import org.apache.cxf.jaxrs.utils.JAXRSUtils;
 import org.apache.cxf.jaxrs.validation.JAXRSBeanValidationInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPOutInterceptor;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.DomainWatcher;
@@ -83,6 +84,7 @@ import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
@@ -236,14 +238,18 @@ public class SelfKeymasterContext {
     @Bean
     public InternalConfParamHelper internalConfParamHelper(
             final ConfParamDAO confParamDAO,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final ApplicationEventPublisher publisher) {
 
-        return new InternalConfParamHelper(confParamDAO, entityFactory);
+        return new InternalConfParamHelper(confParamDAO, entityFactory, publisher);
     }
 
     @Bean
-    public ConfParamOps internalConfParamOps(final InternalConfParamHelper helper) {
-        return new SelfKeymasterInternalConfParamOps(helper);
+    public ConfParamOps internalConfParamOps(final InternalConfParamHelper helper, final KeymasterProperties props) {
+        ConfParamOps confParamOps = new SelfKeymasterInternalConfParamOps(helper);
+        return props.getConfParamCacheTtl().isPositive()
+                ? new CachingConfParamOps(confParamOps, props.getConfParamCacheTtl())
+                : confParamOps;
     }
 
     @Bean
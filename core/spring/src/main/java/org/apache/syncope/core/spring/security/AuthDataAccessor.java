@@ -116,6 +116,8 @@ public class AuthDataAccessor {
 
     private final List<JWTSSOProvider> jwtSSOProviders;
 
+    protected final JWTAuthenticationCache jwtAuthenticationCache;
+
     public AuthDataAccessor(
             final SecurityProperties securityProperties,
             final RealmSearchDAO realmSearchDAO,
@@ -130,7 +132,8 @@ public class AuthDataAccessor {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
-            final List<JWTSSOProvider> jwtSSOProviders) {
+            final List<JWTSSOProvider> jwtSSOProviders,
+            final JWTAuthenticationCache jwtAuthenticationCache) {
 
         this.securityProperties = securityProperties;
         this.realmSearchDAO = realmSearchDAO;
@@ -146,6 +149,7 @@ public class AuthDataAccessor {
         this.auditManager = auditManager;
         this.mappingManager = mappingManager;
         this.jwtSSOProviders = jwtSSOProviders;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
     }
 
     public JWTSSOProvider getJWTSSOProvider(final String issuer) {
@@ -422,6 +426,37 @@ public class AuthDataAccessor {
         return authorities;
     }
 
+    protected boolean isStatusAllowed(final String domain, final String status) {
+        return List.of(confParamOps.get(domain, "authentication.statuses", new String[] {}, String[].class)).
+                contains(status);
+    }
+
+    /**
+     * Looks for a still valid authentication outcome for the given JWT, previously computed by
+     * {@link #authenticate(JWTAuthentication)}; no access to the persistence storage is performed.
+     *
+     * @param authentication JWT authentication
+     * @return cached username and authorities, if available
+     */
+    public Optional<Pair<String, Set<SyncopeGrantedAuthority>>> getCached(final JWTAuthentication authentication) {
+        return jwtAuthenticationCache.get(authentication).flatMap(entry -> {
+            if (entry.status() != null
+                    && !isStatusAllowed(authentication.getDetails().getDomain(), entry.status())) {
+
+                jwtAuthenticationCache.evict(authentication);
+                return Optional.empty();
+            }
+
+            LOG.debug("Cached authentication found for JWT {}: {}",
+                    authentication.getClaims().getJWTID(), entry.username());
+            return Optional.of(Pair.of(
+                    entry.username(),
+                    securityProperties.getAdminUser().equals(entry.username())
+                    ? getAdminAuthorities()
+                    : entry.authorities()));
+        });
+    }
+
     @Transactional
     public Pair<String, Set<SyncopeGrantedAuthority>> authenticate(final JWTAuthentication authentication) {
         String username;
@@ -434,6 +469,8 @@ public class AuthDataAccessor {
 
             username = securityProperties.getAdminUser();
             authorities = getAdminAuthorities();
+
+            jwtAuthenticationCache.put(authentication, username, null, null, null, Set.of());
         } else {
             JWTSSOProvider jwtSSOProvider = getJWTSSOProvider(authentication.getClaims().getIssuer());
             Pair<User, Set<SyncopeGrantedAuthority>> resolved = jwtSSOProvider.resolve(authentication.getClaims());
@@ -462,9 +499,7 @@ public class AuthDataAccessor {
                 throw new DisabledException("User " + username + " is suspended");
             }
 
-            List<String> authStatuses = List.of(confParamOps.get(authentication.getDetails().getDomain(),
-                    "authentication.statuses", new String[] {}, String[].class));
-            if (!authStatuses.contains(user.getStatus())) {
+            if (!isStatusAllowed(authentication.getDetails().getDomain(), user.getStatus())) {
                 throw new DisabledException("User " + username + " not allowed to authenticate");
             }
 
@@ -472,6 +507,9 @@ public class AuthDataAccessor {
                 LOG.debug("User {} must change password, resetting authorities", username);
                 authorities = MUST_CHANGE_PASSWORD_AUTHORITIES;
             }
+
+            jwtAuthenticationCache.put(
+                    authentication, username, user.getKey(), user.getStatus(), delegationKey, authorities);
         }
 
         return Pair.of(username, authorities);
@@ -479,6 +517,7 @@ public class AuthDataAccessor {
 
     @Transactional
     public void removeExpired(final String tokenKey) {
+        jwtAuthenticationCache.evictToken(null, tokenKey);
         accessTokenDAO.deleteById(tokenKey);
     }
 
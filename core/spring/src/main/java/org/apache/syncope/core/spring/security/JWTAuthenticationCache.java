@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.apache.syncope.core.persistence.api.entity.AccessToken;
+import org.apache.syncope.core.persistence.api.entity.Delegation;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Short-lived cache for the outcome of {@link AuthDataAccessor#authenticate(JWTAuthentication)}, keyed by domain,
+ * JWT ID and delegating user.
+ *
+ * Entries live at most for the configured TTL (and never beyond JWT expiration); they are evicted earlier when the
+ * related access token, user or delegation - or any role - are changed, or when a group owned by the related user is
+ * changed.
+ */
+public class JWTAuthenticationCache {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(JWTAuthenticationCache.class);
+
+    protected static final int PRUNE_THRESHOLD = 1000;
+
+    protected record Key(String domain, String jwtId, String delegatedBy) {
+
+    }
+
+    /**
+     * Cached authentication outcome.
+     *
+     * @param username authenticated username
+     * @param userKey authenticated user key, {@code null} for admin
+     * @param status authenticated user status, {@code null} for admin
+     * @param delegationKey delegation key, if any
+     * @param authorities authorities granted
+     * @param expiresAt expiration time (millis)
+     */
+    public record Entry(
+            String username,
+            String userKey,
+            String status,
+            String delegationKey,
+            Set<SyncopeGrantedAuthority> authorities,
+            long expiresAt) {
+
+        boolean isExpired(final long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    protected final Duration ttl;
+
+    protected final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public JWTAuthenticationCache(final Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public boolean isEnabled() {
+        return ttl != null && ttl.isPositive();
+    }
+
+    protected static Key key(final JWTAuthentication authentication) {
+        return new Key(
+                authentication.getDetails().getDomain(),
+                authentication.getClaims().getJWTID(),
+                authentication.getDetails().getDelegatedBy());
+    }
+
+    public Optional<Entry> get(final JWTAuthentication authentication) {
+        if (!isEnabled() || authentication.getClaims().getJWTID() == null) {
+            return Optional.empty();
+        }
+
+        Key key = key(authentication);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    public void put(
+            final JWTAuthentication authentication,
+            final String username,
+            final String userKey,
+            final String status,
+            final String delegationKey,
+            final Set<SyncopeGrantedAuthority> authorities) {
+
+        if (!isEnabled() || authentication.getClaims().getJWTID() == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttl.toMillis();
+        Date expirationTime = authentication.getClaims().getExpirationTime();
+        if (expirationTime != null) {
+            expiresAt = Math.min(expiresAt, expirationTime.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= PRUNE_THRESHOLD) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+
+        entries.put(
+                key(authentication),
+                new Entry(username, userKey, status, delegationKey, Set.copyOf(authorities), expiresAt));
+    }
+
+    protected void evict(final String domain, final Predicate<Map.Entry<Key, Entry>> filter) {
+        entries.entrySet().removeIf(e -> (domain == null || domain.equals(e.getKey().domain())) && filter.test(e));
+    }
+
+    public void evict(final JWTAuthentication authentication) {
+        entries.remove(key(authentication));
+    }
+
+    public void evictToken(final String domain, final String jwtId) {
+        evict(domain, e -> Objects.equals(jwtId, e.getKey().jwtId()));
+    }
+
+    public void evictUser(final String domain, final String userKey) {
+        evict(domain, e -> Objects.equals(userKey, e.getValue().userKey()));
+    }
+
+    public void evictDelegation(final String domain, final String delegationKey) {
+        evict(domain, e -> Objects.equals(delegationKey, e.getValue().delegationKey()));
+    }
+
+    /**
+     * Evicts the entries which were granted or might be granted group owner entitlements on the given group: those
+     * of its user owner, and those already holding entitlements for the group, such as former owners.
+     * As members of a group owner cannot be told from here, all entries are evicted in that case.
+     *
+     * @param domain domain
+     * @param group group
+     */
+    public void evictGroupOwners(final String domain, final Group group) {
+        if (group.getGroupOwner() != null) {
+            evictDomain(domain);
+            return;
+        }
+
+        String userOwner = Optional.ofNullable(group.getUserOwner()).map(User::getKey).orElse(null);
+        String ownerRealmSuffix = "@" + group.getKey();
+        evict(domain, e -> (userOwner != null && userOwner.equals(e.getValue().userKey()))
+                || e.getValue().authorities().stream().
+                        anyMatch(authority -> authority.getRealms().stream().
+                                anyMatch(realm -> realm.endsWith(ownerRealmSuffix))));
+    }
+
+    public void evictDomain(final String domain) {
+        evict(domain, e -> true);
+    }
+
+    public void evictAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        Entity entity = event.getEntity();
+        if (!isEnabled() || entity == null) {
+            return;
+        }
+
+        if (entity instanceof AccessToken) {
+            LOG.debug("Evicting cached authentication for JWT {}", entity.getKey());
+            evictToken(event.getDomain(), entity.getKey());
+        } else if (entity instanceof User) {
+            LOG.debug("Evicting cached authentications for User {}", entity.getKey());
+            evictUser(event.getDomain(), entity.getKey());
+        } else if (entity instanceof Delegation) {
+            LOG.debug("Evicting cached authentications under Delegation {}", entity.getKey());
+            evictDelegation(event.getDomain(), entity.getKey());
+        } else if (entity instanceof Group group) {
+            LOG.debug("Evicting cached authentications owning Group {}", group.getKey());
+            evictGroupOwners(event.getDomain(), group);
+        } else if (entity instanceof Role) {
+            LOG.debug("Role {} changed, evicting all cached authentications", entity.getKey());
+            evictDomain(event.getDomain());
+        }
+    }
+}
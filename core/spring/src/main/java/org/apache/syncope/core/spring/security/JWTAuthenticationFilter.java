@@ -122,7 +122,8 @@ public class JWTAuthenticationFilter extends BasicAuthenticationFilter {
                     new JWTAuthentication(claims, authenticationDetailsSource.buildDetails(request));
             jwtAuthentication.setAuthenticated(true);
             AuthContextUtils.runAsAdmin(jwtAuthentication.getDetails().getDomain(), () -> {
-                Pair<String, Set<SyncopeGrantedAuthority>> authenticated = dataAccessor.authenticate(jwtAuthentication);
+                Pair<String, Set<SyncopeGrantedAuthority>> authenticated = dataAccessor.getCached(jwtAuthentication).
+                        orElseGet(() -> dataAccessor.authenticate(jwtAuthentication));
                 jwtAuthentication.setUsername(authenticated.getLeft());
                 jwtAuthentication.getAuthorities().addAll(authenticated.getRight());
             });
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.spring.security;
 
 import com.nimbusds.jose.JWSAlgorithm;
+import java.time.Duration;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -100,6 +101,12 @@ public class SecurityProperties {
 
     private String secretKey;
 
+    /**
+     * How long the authentication outcome for a given JWT can be reused without going back to the persistence
+     * storage; zero or negative values disable caching.
+     */
+    private Duration jwtAuthenticationCacheTtl = Duration.ofSeconds(30);
+
     private final DigesterProperties digester = new DigesterProperties();
 
     public String getAdminUser() {
@@ -174,6 +181,14 @@ public class SecurityProperties {
         this.secretKey = secretKey;
     }
 
+    public Duration getJwtAuthenticationCacheTtl() {
+        return jwtAuthenticationCacheTtl;
+    }
+
+    public void setJwtAuthenticationCacheTtl(final Duration jwtAuthenticationCacheTtl) {
+        this.jwtAuthenticationCacheTtl = jwtAuthenticationCacheTtl;
+    }
+
     public DigesterProperties getDigester() {
         return digester;
     }
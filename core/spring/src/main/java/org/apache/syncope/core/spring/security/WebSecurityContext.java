@@ -139,6 +139,12 @@ public class WebSecurityContext {
         return new SyncopeAccessDeniedHandler();
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public JWTAuthenticationCache jwtAuthenticationCache(final SecurityProperties securityProperties) {
+        return new JWTAuthenticationCache(securityProperties.getJwtAuthenticationCacheTtl());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public AuthDataAccessor authDataAccessor(
@@ -155,7 +161,8 @@ public class WebSecurityContext {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
-            final List<JWTSSOProvider> jwtSSOProviders) {
+            final List<JWTSSOProvider> jwtSSOProviders,
+            final JWTAuthenticationCache jwtAuthenticationCache) {
 
         return new AuthDataAccessor(
                 securityProperties,
@@ -171,6 +178,7 @@ public class WebSecurityContext {
                 connectorManager,
                 auditManager,
                 mappingManager,
-                jwtSSOProviders);
+                jwtSSOProviders,
+                jwtAuthenticationCache);
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.entity.AccessToken;
+import org.apache.syncope.core.persistence.api.entity.Delegation;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.Test;
+
+public class JWTAuthenticationCacheTest {
+
+    private static JWTAuthentication authentication(final String jwtId, final String delegatedBy) {
+        return new JWTAuthentication(
+                new JWTClaimsSet.Builder().jwtID(jwtId).subject("user").
+                        expirationTime(new Date(System.currentTimeMillis() + 60_000)).build(),
+                new SyncopeAuthenticationDetails(SyncopeConstants.MASTER_DOMAIN, delegatedBy));
+    }
+
+    private static <E extends Entity> EntityLifecycleEvent<Entity> event(final Class<E> reference, final String key) {
+        E entity = mock(reference);
+        when(entity.getKey()).thenReturn(key);
+        return new EntityLifecycleEvent<>(
+                JWTAuthenticationCacheTest.class, SyncDeltaType.UPDATE, entity, SyncopeConstants.MASTER_DOMAIN);
+    }
+
+    @Test
+    public void disabled() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(Duration.ZERO);
+        JWTAuthentication auth = authentication("jwt1", null);
+
+        cache.put(auth, "user", "userKey", "active", null, Set.of());
+        assertTrue(cache.get(auth).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void putAndGet() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(Duration.ofMinutes(1));
+        JWTAuthentication auth = authentication("jwt1", null);
+
+        Set<SyncopeGrantedAuthority> authorities = Set.of(new SyncopeGrantedAuthority("USER_READ", "/"));
+        cache.put(auth, "user", "userKey", "active", null, authorities);
+
+        JWTAuthenticationCache.Entry entry = cache.get(authentication("jwt1", null)).orElseThrow();
+        assertEquals("user", entry.username());
+        assertEquals(authorities, entry.authorities());
+
+        // different delegating user or JWT ID: miss
+        assertTrue(cache.get(authentication("jwt1", "delegating")).isEmpty());
+        assertTrue(cache.get(authentication("jwt2", null)).isEmpty());
+    }
+
+    @Test
+    public void neverBeyondJWTExpiration() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(Duration.ofMinutes(1));
+        JWTAuthentication auth = new JWTAuthentication(
+                new JWTClaimsSet.Builder().jwtID("jwt1").subject("user").
+                        expirationTime(new Date(System.currentTimeMillis() - 1)).build(),
+                new SyncopeAuthenticationDetails(SyncopeConstants.MASTER_DOMAIN, null));
+
+        cache.put(auth, "user", "userKey", "active", null, Set.of());
+        assertTrue(cache.get(auth).isEmpty());
+    }
+
+    @Test
+    public void evictions() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(Duration.ofMinutes(1));
+        cache.put(authentication("jwt1", null), "user1", "userKey1", "active", null, Set.of());
+        cache.put(authentication("jwt2", null), "user2", "userKey2", "active", null, Set.of());
+        cache.put(authentication("jwt3", "user1"), "user3", "userKey3", "active", "delegationKey", Set.of());
+        assertEquals(3, cache.size());
+
+        cache.entity(event(AccessToken.class, "jwt1"));
+        assertTrue(cache.get(authentication("jwt1", null)).isEmpty());
+        assertFalse(cache.get(authentication("jwt2", null)).isEmpty());
+
+        cache.entity(event(User.class, "userKey2"));
+        assertTrue(cache.get(authentication("jwt2", null)).isEmpty());
+        assertFalse(cache.get(authentication("jwt3", "user1")).isEmpty());
+
+        cache.entity(event(Delegation.class, "delegationKey"));
+        assertTrue(cache.get(authentication("jwt3", "user1")).isEmpty());
+
+        cache.put(authentication("jwt1", null), "user1", "userKey1", "active", null, Set.of());
+        cache.put(authentication("jwt2", null), "user2", "userKey2", "active", null, Set.of());
+        cache.entity(event(Role.class, "role"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void groupOwnerEvictions() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(Duration.ofMinutes(1));
+        cache.put(authentication("jwt1", null), "user1", "userKey1", "active", null, Set.of());
+        cache.put(authentication("jwt2", null), "user2", "userKey2", "active", null,
+                Set.of(new SyncopeGrantedAuthority("USER_READ", "/@groupKey")));
+        cache.put(authentication("jwt3", null), "user3", "userKey3", "active", null,
+                Set.of(new SyncopeGrantedAuthority("USER_READ", "/")));
+
+        // userKey1 becomes owner, userKey2 is no longer owner
+        User owner = mock(User.class);
+        when(owner.getKey()).thenReturn("userKey1");
+        Group group = mock(Group.class);
+        when(group.getKey()).thenReturn("groupKey");
+        when(group.getUserOwner()).thenReturn(owner);
+        cache.entity(new EntityLifecycleEvent<>(
+                JWTAuthenticationCacheTest.class, SyncDeltaType.UPDATE, group, SyncopeConstants.MASTER_DOMAIN));
+
+        assertTrue(cache.get(authentication("jwt1", null)).isEmpty());
+        assertTrue(cache.get(authentication("jwt2", null)).isEmpty());
+        assertFalse(cache.get(authentication("jwt3", null)).isEmpty());
+
+        // members of a group owner cannot be told
+        Group groupOwner = mock(Group.class);
+        when(group.getUserOwner()).thenReturn(null);
+        when(group.getGroupOwner()).thenReturn(groupOwner);
+        cache.entity(new EntityLifecycleEvent<>(
+                JWTAuthenticationCacheTest.class, SyncDeltaType.UPDATE, group, SyncopeConstants.MASTER_DOMAIN));
+        assertEquals(0, cache.size());
+    }
+}
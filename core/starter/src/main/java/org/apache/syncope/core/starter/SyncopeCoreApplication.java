@@ -39,14 +39,21 @@ import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
+import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.starter.actuate.AuditManagerEndpoint;
+import org.apache.syncope.core.starter.actuate.ConfParamCacheEndpoint;
 import org.apache.syncope.core.starter.actuate.DefaultSyncopeCoreInfoContributor;
 import org.apache.syncope.core.starter.actuate.DomainsHealthIndicator;
 import org.apache.syncope.core.starter.actuate.EntityCacheEndpoint;
 import org.apache.syncope.core.starter.actuate.ExternalResourcesHealthIndicator;
+import org.apache.syncope.core.starter.actuate.NotificationEndpoint;
+import org.apache.syncope.core.starter.actuate.PropagationEndpoint;
 import org.apache.syncope.core.starter.actuate.SyncopeCoreInfoContributor;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -200,6 +207,30 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
         return new EntityCacheEndpoint(entityCacheDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public ConfParamCacheEndpoint confParamCacheEndpoint(final ConfParamOps confParamOps) {
+        return new ConfParamCacheEndpoint(confParamOps);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AuditManagerEndpoint auditManagerEndpoint(final AuditManager auditManager) {
+        return new AuditManagerEndpoint(auditManager);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PropagationEndpoint propagationEndpoint(final PropagationTaskExecutor propagationTaskExecutor) {
+        return new PropagationEndpoint(propagationTaskExecutor);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public NotificationEndpoint notificationEndpoint(final NotificationJobDelegate notificationJobDelegate) {
+        return new NotificationEndpoint(notificationJobDelegate);
+    }
+
     @Bean
     public SyncopeStarterEventListener syncopeCoreEventListener(
             @Qualifier("syncopeCoreInfoContributor")
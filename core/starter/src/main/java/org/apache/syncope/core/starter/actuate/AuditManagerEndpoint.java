@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.util.Map;
+import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.java.DefaultAuditManager;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Endpoint(id = "auditManager")
+public class AuditManagerEndpoint {
+
+    protected final AuditManager auditManager;
+
+    public AuditManagerEndpoint(final AuditManager auditManager) {
+        this.auditManager = auditManager;
+    }
+
+    protected DefaultAuditManager defaultAuditManager() {
+        if (auditManager instanceof DefaultAuditManager defaultAuditManager) {
+            return defaultAuditManager;
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No statistics available from " + auditManager);
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return defaultAuditManager().getStatistics();
+    }
+
+    @WriteOperation
+    public void statistics(final @Selector String operation) {
+        switch (operation) {
+            case "reset":
+            case "RESET":
+                defaultAuditManager().resetStatistics();
+                break;
+
+            default:
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unsupported Operation: " + operation);
+        }
+    }
+}
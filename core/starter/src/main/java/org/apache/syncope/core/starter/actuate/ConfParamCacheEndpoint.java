@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.util.Map;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Endpoint(id = "confParamCache")
+public class ConfParamCacheEndpoint {
+
+    protected final ConfParamOps confParamOps;
+
+    public ConfParamCacheEndpoint(final ConfParamOps confParamOps) {
+        this.confParamOps = confParamOps;
+    }
+
+    protected CachingConfParamOps cachingConfParamOps() {
+        if (confParamOps instanceof CachingConfParamOps caching) {
+            return caching;
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Configuration parameters are not cached");
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return cachingConfParamOps().getStatistics();
+    }
+
+    @WriteOperation
+    public void statistics(final @Selector String operation) {
+        switch (operation) {
+            case "reset":
+            case "RESET":
+                cachingConfParamOps().resetStatistics();
+                break;
+
+            default:
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unsupported Operation: " + operation);
+        }
+    }
+
+    @DeleteOperation
+    public void clearCache() {
+        cachingConfParamOps().invalidateAll();
+    }
+}
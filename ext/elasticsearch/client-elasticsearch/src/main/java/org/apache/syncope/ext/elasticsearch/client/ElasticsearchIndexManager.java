@@ -28,10 +28,13 @@ import co.elastic.clients.elasticsearch._types.mapping.KeywordProperty;
 import co.elastic.clients.elasticsearch._types.mapping.Property;
 import co.elastic.clients.elasticsearch._types.mapping.TextProperty;
 import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.DeleteRequest;
 import co.elastic.clients.elasticsearch.core.DeleteResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.CreateIndexResponse;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
@@ -40,8 +43,11 @@ import co.elastic.clients.elasticsearch.indices.ExistsRequest;
 import co.elastic.clients.elasticsearch.indices.IndexSettings;
 import co.elastic.clients.elasticsearch.indices.IndexSettingsAnalysis;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
@@ -350,4 +356,25 @@ public class ElasticsearchIndexManager {
 
         LOG.debug("Audit successfully created: {}", response);
     }
+
+    public void audit(final String domain, final Collection<AuditEvent> auditEvents) throws IOException {
+        LOG.debug("About to audit {} events", auditEvents.size());
+
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        for (AuditEvent auditEvent : auditEvents) {
+            Map<String, Object> document = elasticsearchUtils.document(auditEvent);
+            request.operations(op -> op.index(idx -> idx.
+                    index(ElasticsearchUtils.getAuditIndex(domain)).
+                    id(SecureRandomUtils.generateRandomUUID().toString()).
+                    document(document)));
+        }
+        BulkResponse response = client.bulk(request.build());
+        if (response.errors()) {
+            throw new IOException("Errors found while auditing: " + response.items().stream().
+                    map(BulkResponseItem::error).filter(Objects::nonNull).map(Object::toString).
+                    collect(Collectors.joining(", ")));
+        }
+
+        LOG.debug("Audit successfully created: {}", response);
+    }
 }
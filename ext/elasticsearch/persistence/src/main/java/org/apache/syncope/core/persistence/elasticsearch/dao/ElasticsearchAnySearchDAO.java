@@ -278,7 +278,7 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 index(ElasticsearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind)).
                 searchType(SearchType.QueryThenFetch).
                 query(getQuery(base, recursive, adminRealms, cond, kind)).
-                from(pageable.isUnpaged() ? 0 : pageable.getPageSize() * pageable.getPageNumber()).
+                from(pageable.isUnpaged() ? 0 : (int) pageable.getOffset()).
                 size(pageable.isUnpaged() ? indexMaxResultWindow : pageable.getPageSize()).
                 sort(sortBuilders(kind, pageable.getSort().get())).
                 build();
@@ -35,6 +35,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -82,6 +83,16 @@ public class ElasticsearchAuditEventDAO implements AuditEventDAO {
         return auditEvent;
     }
 
+    @Override
+    public List<AuditEvent> saveAll(final Collection<AuditEvent> auditEvents) {
+        try {
+            indexManager.audit(AuthContextUtils.getDomain(), auditEvents);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not index audit events", e);
+        }
+        return List.copyOf(auditEvents);
+    }
+
     protected Query getQuery(
             final String entityKey,
             final OpEvent.CategoryType type,
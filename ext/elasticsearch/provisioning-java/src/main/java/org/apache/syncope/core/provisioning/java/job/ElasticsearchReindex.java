@@ -197,14 +197,18 @@ public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate<SchedTask
                 try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
                         maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
 
-                    for (int page = 0; page <= (users / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                        Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                        for (User user : userDAO.findAll(pageable)) {
+                    List<User> userChunk = userDAO.findAllAfter(null, AnyDAO.DEFAULT_PAGE_SIZE);
+                    while (!userChunk.isEmpty()) {
+                        for (User user : userChunk) {
                             ingester.add(op -> op.index(idx -> idx.
                                     index(uindex).
                                     id(user.getKey()).
                                     document(utils.document(user))));
                         }
+
+                        userChunk = userChunk.size() < AnyDAO.DEFAULT_PAGE_SIZE
+                                ? List.of()
+                                : userDAO.findAllAfter(userChunk.getLast().getKey(), AnyDAO.DEFAULT_PAGE_SIZE);
                     }
                 } catch (Exception e) {
                     LOG.error("Errors while ingesting index {}", uindex, e);
@@ -220,14 +224,18 @@ public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate<SchedTask
                 try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
                         maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
 
-                    for (int page = 0; page <= (groups / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                        Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                        for (Group group : groupDAO.findAll(pageable)) {
+                    List<Group> groupChunk = groupDAO.findAllAfter(null, AnyDAO.DEFAULT_PAGE_SIZE);
+                    while (!groupChunk.isEmpty()) {
+                        for (Group group : groupChunk) {
                             ingester.add(op -> op.index(idx -> idx.
                                     index(gindex).
                                     id(group.getKey()).
                                     document(utils.document(group))));
                         }
+
+                        groupChunk = groupChunk.size() < AnyDAO.DEFAULT_PAGE_SIZE
+                                ? List.of()
+                                : groupDAO.findAllAfter(groupChunk.getLast().getKey(), AnyDAO.DEFAULT_PAGE_SIZE);
                     }
                 } catch (Exception e) {
                     LOG.error("Errors while ingesting index {}", gindex, e);
@@ -243,14 +251,19 @@ public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate<SchedTask
                 try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
                         maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
 
-                    for (int page = 0; page <= (anyObjects / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                        Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                        for (AnyObject anyObject : anyObjectDAO.findAll(pageable)) {
+                    List<AnyObject> anyObjectChunk = anyObjectDAO.findAllAfter(null, AnyDAO.DEFAULT_PAGE_SIZE);
+                    while (!anyObjectChunk.isEmpty()) {
+                        for (AnyObject anyObject : anyObjectChunk) {
                             ingester.add(op -> op.index(idx -> idx.
                                     index(aindex).
                                     id(anyObject.getKey()).
                                     document(utils.document(anyObject))));
                         }
+
+                        anyObjectChunk = anyObjectChunk.size() < AnyDAO.DEFAULT_PAGE_SIZE
+                                ? List.of()
+                                : anyObjectDAO.findAllAfter(
+                                        anyObjectChunk.getLast().getKey(), AnyDAO.DEFAULT_PAGE_SIZE);
                     }
                 } catch (Exception e) {
                     LOG.error("Errors while ingesting index {}", aindex, e);
@@ -19,8 +19,11 @@
 package org.apache.syncope.ext.opensearch.client;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
@@ -39,10 +42,13 @@ import org.opensearch.client.opensearch._types.mapping.KeywordProperty;
 import org.opensearch.client.opensearch._types.mapping.Property;
 import org.opensearch.client.opensearch._types.mapping.TextProperty;
 import org.opensearch.client.opensearch._types.mapping.TypeMapping;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.DeleteRequest;
 import org.opensearch.client.opensearch.core.DeleteResponse;
 import org.opensearch.client.opensearch.core.IndexRequest;
 import org.opensearch.client.opensearch.core.IndexResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 import org.opensearch.client.opensearch.indices.CreateIndexRequest;
 import org.opensearch.client.opensearch.indices.CreateIndexResponse;
 import org.opensearch.client.opensearch.indices.DeleteIndexRequest;
@@ -350,4 +356,25 @@ public class OpenSearchIndexManager {
 
         LOG.debug("Audit successfully created: {}", response);
     }
+
+    public void audit(final String domain, final Collection<AuditEvent> auditEvents) throws IOException {
+        LOG.debug("About to audit {} events", auditEvents.size());
+
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        for (AuditEvent auditEvent : auditEvents) {
+            Map<String, Object> document = openSearchUtils.document(auditEvent);
+            request.operations(op -> op.index(idx -> idx.
+                    index(OpenSearchUtils.getAuditIndex(domain)).
+                    id(SecureRandomUtils.generateRandomUUID().toString()).
+                    document(document)));
+        }
+        BulkResponse response = client.bulk(request.build());
+        if (response.errors()) {
+            throw new IOException("Errors found while auditing: " + response.items().stream().
+                    map(BulkResponseItem::error).filter(Objects::nonNull).map(Object::toString).
+                    collect(Collectors.joining(", ")));
+        }
+
+        LOG.debug("Audit successfully created: {}", response);
+    }
 }
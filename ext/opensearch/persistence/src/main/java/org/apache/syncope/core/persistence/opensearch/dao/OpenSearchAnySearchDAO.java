@@ -276,7 +276,7 @@ public class OpenSearchAnySearchDAO extends AbstractAnySearchDAO {
                 index(OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), kind)).
                 searchType(SearchType.QueryThenFetch).
                 query(getQuery(base, recursive, adminRealms, cond, kind)).
-                from(pageable.isUnpaged() ? 0 : pageable.getPageSize() * pageable.getPageNumber()).
+                from(pageable.isUnpaged() ? 0 : (int) pageable.getOffset()).
                 size(pageable.isUnpaged() ? indexMaxResultWindow : pageable.getPageSize()).
                 sort(sortBuilders(kind, pageable.getSort().get())).
                 build();
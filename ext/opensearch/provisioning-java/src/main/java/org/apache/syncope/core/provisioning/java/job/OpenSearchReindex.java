@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.java.job;
 
 import java.io.IOException;
+import java.util.List;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -152,11 +153,11 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                 long users = userDAO.count();
                 String uindex = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER);
                 setStatus("Indexing " + users + " users under " + uindex + "...");
-                for (int page = 0; page <= (users / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
+                List<User> userChunk = userDAO.findAllAfter(null, AnyDAO.DEFAULT_PAGE_SIZE);
+                for (int page = 0; !userChunk.isEmpty(); page++) {
                     BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
 
-                    Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                    for (User user : userDAO.findAll(pageable)) {
+                    for (User user : userChunk) {
                         bulkRequest.operations(op -> op.index(idx -> idx.
                                 index(uindex).
                                 id(user.getKey()).
@@ -171,6 +172,10 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                         LOG.error("Could not create index for {} [{}/{}]: {}",
                                 uindex, page, AnyDAO.DEFAULT_PAGE_SIZE, e);
                     }
+
+                    userChunk = userChunk.size() < AnyDAO.DEFAULT_PAGE_SIZE
+                            ? List.of()
+                            : userDAO.findAllAfter(userChunk.getLast().getKey(), AnyDAO.DEFAULT_PAGE_SIZE);
                 }
 
                 indexManager.createAnyIndex(
@@ -179,11 +184,11 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                 long groups = groupDAO.count();
                 String gindex = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP);
                 setStatus("Indexing " + groups + " groups under " + gindex + "...");
-                for (int page = 0; page <= (groups / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
+                List<Group> groupChunk = groupDAO.findAllAfter(null, AnyDAO.DEFAULT_PAGE_SIZE);
+                for (int page = 0; !groupChunk.isEmpty(); page++) {
                     BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
 
-                    Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                    for (Group group : groupDAO.findAll(pageable)) {
+                    for (Group group : groupChunk) {
                         bulkRequest.operations(op -> op.index(idx -> idx.
                                 index(gindex).
                                 id(group.getKey()).
@@ -198,6 +203,10 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                         LOG.error("Could not create index for {} [{}/{}]: {}",
                                 gindex, page, AnyDAO.DEFAULT_PAGE_SIZE, e);
                     }
+
+                    groupChunk = groupChunk.size() < AnyDAO.DEFAULT_PAGE_SIZE
+                            ? List.of()
+                            : groupDAO.findAllAfter(groupChunk.getLast().getKey(), AnyDAO.DEFAULT_PAGE_SIZE);
                 }
 
                 indexManager.createAnyIndex(
@@ -206,11 +215,11 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                 long anyObjects = anyObjectDAO.count();
                 String aindex = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT);
                 setStatus("Indexing " + anyObjects + " any objects under " + aindex + "...");
-                for (int page = 0; page <= (anyObjects / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
+                List<AnyObject> anyObjectChunk = anyObjectDAO.findAllAfter(null, AnyDAO.DEFAULT_PAGE_SIZE);
+                for (int page = 0; !anyObjectChunk.isEmpty(); page++) {
                     BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
 
-                    Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                    for (AnyObject anyObject : anyObjectDAO.findAll(pageable)) {
+                    for (AnyObject anyObject : anyObjectChunk) {
                         bulkRequest.operations(op -> op.index(idx -> idx.
                                 index(aindex).
                                 id(anyObject.getKey()).
@@ -225,6 +234,10 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                         LOG.error("Could not create index for {} [{}/{}]: {}",
                                 aindex, page, AnyDAO.DEFAULT_PAGE_SIZE, e);
                     }
+
+                    anyObjectChunk = anyObjectChunk.size() < AnyDAO.DEFAULT_PAGE_SIZE
+                            ? List.of()
+                            : anyObjectDAO.findAllAfter(anyObjectChunk.getLast().getKey(), AnyDAO.DEFAULT_PAGE_SIZE);
                 }
 
                 indexManager.createAuditIndex(AuthContextUtils.getDomain(), auditSettings(), auditMapping());
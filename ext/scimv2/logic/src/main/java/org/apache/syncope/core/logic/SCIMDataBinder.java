@@ -54,6 +54,7 @@ import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.StatusRType;
 import org.apache.syncope.core.logic.scim.SCIMConfManager;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.DAO;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
@@ -78,6 +79,7 @@ import org.apache.syncope.ext.scimv2.api.type.PatchOp;
 import org.apache.syncope.ext.scimv2.api.type.Resource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.util.CollectionUtils;
 
@@ -1016,22 +1018,21 @@ public class SCIMDataBinder {
         SearchCond searchCond = SearchCond.getLeaf(membCond);
 
         if (output(attributes, excludedAttributes, "members")) {
-            long count = userLogic.search(
-                    searchCond, PageRequest.of(0, 1), SyncopeConstants.ROOT_REALM, true, false).getTotalElements();
-
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                List<UserTO> users = userLogic.search(
+            Page<UserTO> users;
+            int page = 0;
+            do {
+                users = userLogic.search(
                         searchCond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
+                        PageRequest.of(page++, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT),
                         SyncopeConstants.ROOT_REALM,
                         true,
-                        false).
-                        getContent();
+                        false,
+                        false);
                 users.forEach(userTO -> group.getMembers().add(new Member(
                         userTO.getKey(),
                         StringUtils.substringBefore(location, "/Groups") + "/Users/" + userTO.getKey(),
                         userTO.getUsername())));
-            }
+            } while (users.hasNext());
         }
 
         return group;
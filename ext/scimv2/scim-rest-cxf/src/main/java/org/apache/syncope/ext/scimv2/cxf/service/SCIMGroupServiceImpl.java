@@ -59,6 +59,7 @@ import org.apache.syncope.ext.scimv2.api.type.ErrorType;
 import org.apache.syncope.ext.scimv2.api.type.PatchOp;
 import org.apache.syncope.ext.scimv2.api.type.Resource;
 import org.apache.syncope.ext.scimv2.api.type.SortOrder;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.util.CollectionUtils;
 
@@ -124,17 +125,18 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
         MembershipCond membCond = new MembershipCond();
         membCond.setGroup(group);
         SearchCond searchCond = SearchCond.getLeaf(membCond);
-        long count = userLogic.search(
-                searchCond, PageRequest.of(0, 1), SyncopeConstants.ROOT_REALM, true, false).getTotalElements();
-        for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-            members.addAll(userLogic.search(
+        Page<UserTO> users;
+        int page = 0;
+        do {
+            users = userLogic.search(
                     searchCond,
-                    PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT),
+                    PageRequest.of(page++, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT),
                     SyncopeConstants.ROOT_REALM,
                     true,
-                    false).
-                    get().map(UserTO::getKey).collect(Collectors.toSet()));
-        }
+                    false,
+                    false);
+            members.addAll(users.get().map(UserTO::getKey).collect(Collectors.toSet()));
+        } while (users.hasNext());
 
         return members;
     }
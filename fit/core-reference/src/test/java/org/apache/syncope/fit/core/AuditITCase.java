@@ -447,6 +447,37 @@ public class AuditITCase extends AbstractITCase {
         assertEquals(1, events.getSize());
     }
 
+    @Test
+    public void bulkSaveAuthEvents() {
+        String who = "syncope-user " + UUID.randomUUID().toString();
+        OffsetDateTime when = OffsetDateTime.now().minusHours(1).withNano(0);
+
+        List<AuditEventTO> auditEvents = List.of("auth", "validate").stream().map(op -> {
+            AuditEventTO auditEvent = new AuditEventTO();
+            auditEvent.setOpEvent(new OpEvent(
+                    OpEvent.CategoryType.WA,
+                    null,
+                    "AuthenticationEvent",
+                    op,
+                    OpEvent.Outcome.SUCCESS));
+            auditEvent.setWho(who);
+            auditEvent.setWhen(when);
+            auditEvent.setOutput(UUID.randomUUID().toString());
+            return auditEvent;
+        }).toList();
+        assertDoesNotThrow(() -> AUDIT_SERVICE.bulkCreate(auditEvents));
+
+        // spooled events are stored with the time they occurred, not the time they were received
+        auditEvents.forEach(auditEvent -> await().atMost(MAX_WAIT_SECONDS, TimeUnit.SECONDS).until(
+                () -> AUDIT_SERVICE.search(new AuditQuery.Builder().
+                        type(auditEvent.getOpEvent().getType()).
+                        subcategory(auditEvent.getOpEvent().getSubcategory()).
+                        op(auditEvent.getOpEvent().getOp()).
+                        outcome(auditEvent.getOpEvent().getOutcome()).
+                        build()).getResult().stream().
+                        anyMatch(e -> who.equals(e.getWho()) && when.isEqual(e.getWhen()))));
+    }
+
     @Test
     public void auditEventProcessor() throws IOException, InterruptedException {
         try (InputStream propStream = getClass().getResourceAsStream("/test.properties")) {
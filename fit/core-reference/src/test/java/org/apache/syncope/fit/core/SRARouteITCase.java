@@ -20,14 +20,17 @@ package org.apache.syncope.fit.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.Response;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -60,6 +63,12 @@ public class SRARouteITCase extends AbstractITCase {
         List<SRARouteTO> routes = SRA_ROUTE_SERVICE.list();
         assertNotNull(routes);
         assertFalse(routes.isEmpty());
+
+        EntityTag etag = SyncopeClient.getLatestEntityTag(SRA_ROUTE_SERVICE);
+        assertNotNull(etag);
+
+        SRA_ROUTE_SERVICE.list();
+        assertEquals(etag, SyncopeClient.getLatestEntityTag(SRA_ROUTE_SERVICE));
     }
 
     @Test
@@ -73,6 +82,7 @@ public class SRARouteITCase extends AbstractITCase {
                 factory(SRARouteFilterFactory.ADD_REQUEST_HEADER).args("X-Request-Foo, Bar").build());
 
         int beforeCount = SRA_ROUTE_SERVICE.list().size();
+        EntityTag beforeETag = SyncopeClient.getLatestEntityTag(SRA_ROUTE_SERVICE);
 
         Response response = SRA_ROUTE_SERVICE.create(route);
         assertEquals(Response.Status.CREATED.getStatusCode(), response.getStatusInfo().getStatusCode());
@@ -82,6 +92,7 @@ public class SRARouteITCase extends AbstractITCase {
 
         int afterCount = SRA_ROUTE_SERVICE.list().size();
         assertEquals(afterCount, beforeCount + 1);
+        assertNotEquals(beforeETag, SyncopeClient.getLatestEntityTag(SRA_ROUTE_SERVICE));
 
         SRA_ROUTE_SERVICE.delete(route.getKey());
 
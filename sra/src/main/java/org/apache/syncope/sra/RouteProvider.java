@@ -18,11 +18,15 @@
  */
 package org.apache.syncope.sra;
 
+import jakarta.ws.rs.core.EntityTag;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.BooleanUtils;
@@ -98,6 +102,22 @@ public class RouteProvider {
 
     protected static final Logger LOG = LoggerFactory.getLogger(RouteProvider.class);
 
+    /**
+     * Immutable snapshot of the routes as last fetched from Core, with the corresponding gateway routes.
+     *
+     * @param etag ETag value returned by Core along with routes, if any
+     * @param routeTOs routes, as returned by Core
+     * @param routes gateway routes, by route key
+     */
+    protected record RouteTable(String etag, List<SRARouteTO> routeTOs, Map<String, Route> routes) {
+
+        protected static final RouteTable EMPTY = new RouteTable(null, List.of(), Map.of());
+
+        protected List<Route> toList() {
+            return routeTOs.stream().map(routeTO -> routes.get(routeTO.getKey())).filter(Objects::nonNull).toList();
+        }
+    }
+
     protected final ServiceOps serviceOps;
 
     protected final ConfigurableApplicationContext ctx;
@@ -110,7 +130,7 @@ public class RouteProvider {
 
     protected SyncopeClient client;
 
-    protected final List<SRARouteTO> routeTOs = new ArrayList<>();
+    protected final AtomicReference<RouteTable> routeTable = new AtomicReference<>(RouteTable.EMPTY);
 
     public RouteProvider(
             final ServiceOps serviceOps,
@@ -557,30 +577,68 @@ public class RouteProvider {
         return builder;
     }
 
-    public List<Route.AsyncBuilder> fetch() {
+    protected SyncopeClient client() {
         synchronized (this) {
             if (client == null) {
-                try {
-                    client = new SyncopeClientFactoryBean().
-                            setAddress(serviceOps.get(NetworkService.Type.CORE).getAddress()).
-                            setUseCompression(useGZIPCompression).
-                            create(new AnonymousAuthenticationHandler(anonymousUser, anonymousKey));
-                } catch (Exception e) {
-                    LOG.error("Could not init SyncopeClient", e);
-                    return List.of();
-                }
+                client = new SyncopeClientFactoryBean().
+                        setAddress(serviceOps.get(NetworkService.Type.CORE).getAddress()).
+                        setUseCompression(useGZIPCompression).
+                        create(new AnonymousAuthenticationHandler(anonymousUser, anonymousKey));
             }
+            return client;
         }
+    }
+
+    /**
+     * Fetches routes from Core, then rebuilds the gateway routes which were added or changed since the previous
+     * invocation, and finally swaps the route table; the previous route table keeps being served until then.
+     *
+     * @return gateway routes
+     */
+    public List<Route> fetch() {
+        SRARouteService service;
+        try {
+            service = client().getService(SRARouteService.class);
+        } catch (Exception e) {
+            LOG.error("Could not init SyncopeClient", e);
+            return routeTable.get().toList();
+        }
+
+        List<SRARouteTO> fetched = service.list();
+        String etag = Optional.ofNullable(SyncopeClient.getLatestEntityTag(service)).
+                map(EntityTag::getValue).orElse(null);
 
-        synchronized (routeTOs) {
-            routeTOs.clear();
-            routeTOs.addAll(client.getService(SRARouteService.class).list());
+        RouteTable current = routeTable.get();
+        if (etag != null && etag.equals(current.etag())) {
+            LOG.debug("Routes not changed since last fetch, ETag {}", etag);
+            return current.toList();
         }
 
-        return routeTOs.stream().map(this::toRoute).toList();
+        Map<String, SRARouteTO> previous = new HashMap<>();
+        current.routeTOs().forEach(routeTO -> previous.put(routeTO.getKey(), routeTO));
+
+        Map<String, Route> routes = new HashMap<>();
+        AtomicInteger rebuilt = new AtomicInteger();
+        fetched.forEach(routeTO -> {
+            Route route = routeTO.equals(previous.get(routeTO.getKey()))
+                    ? current.routes().get(routeTO.getKey())
+                    : null;
+            if (route == null) {
+                route = toRoute(routeTO).build();
+                rebuilt.incrementAndGet();
+            }
+            routes.put(routeTO.getKey(), route);
+        });
+
+        RouteTable updated = new RouteTable(etag, List.copyOf(fetched), Map.copyOf(routes));
+        routeTable.set(updated);
+        LOG.debug("Fetched {} routes: {} rebuilt, {} removed",
+                fetched.size(), rebuilt.get(), previous.keySet().stream().filter(k -> !routes.containsKey(k)).count());
+
+        return updated.toList();
     }
 
     public List<SRARouteTO> getRouteTOs() {
-        return routeTOs;
+        return routeTable.get().routeTOs();
     }
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.sra;
 
 import java.io.Serializable;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -366,6 +367,37 @@ public class SRAProperties extends SyncopeProperties {
         }
     }
 
+    public static class Session implements Serializable {
+
+        private static final long serialVersionUID = 7383540386213640093L;
+
+        /**
+         * Sessions not accessed for longer than this are evicted.
+         */
+        private Duration maxIdleTime = Duration.ofMinutes(30);
+
+        /**
+         * Maximum number of sessions held; when exceeded, the least recently accessed sessions are evicted.
+         */
+        private int maxEntries = 1000000;
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(final Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(final int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
     private final Global global = new Global();
 
     private AMType amType = AMType.OIDC;
@@ -378,6 +410,8 @@ public class SRAProperties extends SyncopeProperties {
 
     private final CAS cas = new CAS();
 
+    private final Session session = new Session();
+
     public Global getGlobal() {
         return global;
     }
@@ -405,4 +439,8 @@ public class SRAProperties extends SyncopeProperties {
     public CAS getCas() {
         return cas;
     }
+
+    public Session getSession() {
+        return session;
+    }
 }
@@ -19,11 +19,11 @@
 package org.apache.syncope.sra;
 
 import java.util.List;
-import org.apache.syncope.sra.session.CacheManagerReactiveSessionRepository;
+import org.apache.syncope.sra.session.SessionCache;
+import org.apache.syncope.sra.session.SessionCacheReactiveSessionRepository;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,15 +40,24 @@ public class SessionConfig {
 
     @ConditionalOnMissingBean
     @Bean
-    public ReactiveSessionRepository<MapSession> reactiveSessionRepository() {
-        return new CacheManagerReactiveSessionRepository();
+    public SessionCache sessionCache(final SRAProperties props) {
+        return new SessionCache(DEFAULT_CACHE, props.getSession().getMaxEntries());
     }
 
     @ConditionalOnMissingBean
     @Bean
-    public CacheManager cacheManager() {
+    public ReactiveSessionRepository<MapSession> reactiveSessionRepository(
+            final SessionCache sessionCache,
+            final SRAProperties props) {
+
+        return new SessionCacheReactiveSessionRepository(sessionCache, props.getSession().getMaxIdleTime());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public CacheManager cacheManager(final SessionCache sessionCache) {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(List.of(new ConcurrentMapCache(DEFAULT_CACHE)));
+        cacheManager.setCaches(List.of(sessionCache));
         return cacheManager;
     }
 }
@@ -35,7 +35,6 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
-import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -83,7 +82,7 @@ public class SyncopeSRAApplication {
     @ConditionalOnMissingBean
     @Bean
     public RouteLocator routes(@Qualifier("routeProvider") final RouteProvider routeProvider) {
-        return () -> Flux.fromIterable(routeProvider.fetch()).map(Route.AbstractBuilder::build);
+        return () -> Flux.fromIterable(routeProvider.fetch());
     }
 
     @ConditionalOnMissingBean
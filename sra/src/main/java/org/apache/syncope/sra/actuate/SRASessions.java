@@ -24,10 +24,12 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.AMSession;
 import org.apache.syncope.sra.SessionConfig;
 import org.apache.syncope.sra.security.cas.CASAuthenticationToken;
 import org.apache.syncope.sra.security.saml2.SAML2AuthenticationToken;
+import org.apache.syncope.sra.session.SessionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
@@ -89,9 +91,12 @@ public class SRASessions {
     @ReadOperation
     @SuppressWarnings("unchecked")
     public List<AMSession> list() {
-        return ((ConcurrentMap<Object, Object>) cacheManager.getCache(SessionConfig.DEFAULT_CACHE).getNativeCache()).
-                values().stream().map(MapSession.class::cast).map(SRASessions::map).
-                filter(Objects::nonNull).toList();
+        Cache cache = cacheManager.getCache(SessionConfig.DEFAULT_CACHE);
+        Stream<MapSession> sessions = cache instanceof SessionCache sessionCache
+                ? sessionCache.sessions()
+                : ((ConcurrentMap<Object, Object>) cache.getNativeCache()).values().stream().
+                        map(MapSession.class::cast);
+        return sessions.map(SRASessions::map).filter(Objects::nonNull).toList();
     }
 
     @ReadOperation
@@ -18,14 +18,8 @@
  */
 package org.apache.syncope.sra.filters;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
 
@@ -37,29 +31,11 @@ public class LinkRewriteGatewayFilterFactory extends ModifyResponseGatewayFilter
                 || !StringUtils.containsIgnoreCase(decorator.getHeaders().getContentType().toString(), "html");
     }
 
-    private Charset getCharset(final ServerHttpResponseDecorator decorator) {
-        return decorator.getHeaders().getContentType() != null
-                && decorator.getHeaders().getContentType().getCharset() != null
-                ? decorator.getHeaders().getContentType().getCharset()
-                : StandardCharsets.UTF_8;
-    }
-
-    private void replace(final Document doc, final String element, final String attr, final String prefix) {
-        doc.select(element).forEach(link -> {
-            String attrValue = link.attributes().get(attr);
-            if (attrValue.startsWith("/") && !attrValue.startsWith("//")) {
-                link.attr(attr, attrValue.replace(attrValue, prefix + attrValue));
-            }
-        });
-    }
-
     @Override
-    protected byte[] modifyResponse(
-            final InputStream responseBody,
+    protected BodyRewriter bodyRewriter(
             final Config config,
             final ServerHttpResponseDecorator decorator,
-            final ServerWebExchange exchange)
-            throws IOException {
+            final ServerWebExchange exchange) {
 
         String[] keyValue = config.getData().split(",");
 
@@ -72,17 +48,6 @@ public class LinkRewriteGatewayFilterFactory extends ModifyResponseGatewayFilter
             rewriterRootAttrs = BooleanUtils.toBoolean(keyValue[2]);
         }
 
-        Document doc = Jsoup.parse(
-                responseBody, getCharset(decorator).name(), exchange.getRequest().getURI().toASCIIString());
-
-        if (rewriterRootAttrs) {
-            replace(doc, "a", "href", newBaseAsPrefix);
-            replace(doc, "link", "href", newBaseAsPrefix);
-            replace(doc, "img", "src", newBaseAsPrefix);
-            replace(doc, "script", "src", newBaseAsPrefix);
-            replace(doc, "object", "data", newBaseAsPrefix);
-        }
-
-        return doc.toString().replace(oldBase, newBase).getBytes();
+        return new LinkRewriter(oldBase, newBase, newBaseAsPrefix, rewriterRootAttrs);
     }
 }
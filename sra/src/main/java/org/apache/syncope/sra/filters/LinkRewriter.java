@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.filters;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites links in HTML text, chunk by chunk: only the characters which might belong to a tag or to an occurrence of
+ * the old base URL still incomplete are held back, up to {@link #MAX_TAG_LENGTH}.
+ */
+public class LinkRewriter implements ModifyResponseGatewayFilterFactory.BodyRewriter {
+
+    /**
+     * Tags longer than this are not rewritten, but sent as they are.
+     */
+    public static final int MAX_TAG_LENGTH = 8192;
+
+    private static final Map<String, Pattern> ROOT_ATTRS = Map.of(
+            "a", rootAttr("href"),
+            "link", rootAttr("href"),
+            "img", rootAttr("src"),
+            "script", rootAttr("src"),
+            "object", rootAttr("data"));
+
+    private static Pattern rootAttr(final String name) {
+        // attribute values starting with / but not with //
+        return Pattern.compile("(\\s" + name + "\\s*=\\s*[\"']?)/(?!/)", Pattern.CASE_INSENSITIVE);
+    }
+
+    private final String oldBase;
+
+    private final String newBase;
+
+    private final String rootAttrReplacement;
+
+    private final boolean rewriteRootAttrs;
+
+    public LinkRewriter(
+            final String oldBase,
+            final String newBase,
+            final String newBaseAsPrefix,
+            final boolean rewriteRootAttrs) {
+
+        this.oldBase = oldBase;
+        this.newBase = newBase;
+        this.rootAttrReplacement = "$1" + Matcher.quoteReplacement(newBaseAsPrefix) + '/';
+        this.rewriteRootAttrs = rewriteRootAttrs;
+    }
+
+    private static String tagName(final String tag) {
+        int end = 1;
+        while (end < tag.length() && Character.isLetter(tag.charAt(end))) {
+            end++;
+        }
+        return tag.substring(1, end).toLowerCase(Locale.ROOT);
+    }
+
+    private String rewriteTag(final String tag) {
+        String rewritten = tag;
+        if (rewriteRootAttrs && tag.indexOf('/') != -1) {
+            Pattern rootAttr = ROOT_ATTRS.get(tagName(tag));
+            if (rootAttr != null) {
+                rewritten = rootAttr.matcher(tag).replaceAll(rootAttrReplacement);
+            }
+        }
+        return rewritten.replace(oldBase, newBase);
+    }
+
+    /**
+     * @return how many characters starting at the given position are matching the old base
+     */
+    private int oldBaseMatch(final StringBuilder pending, final int start) {
+        int matching = 0;
+        while (matching < oldBase.length() && start + matching < pending.length()
+                && pending.charAt(start + matching) == oldBase.charAt(matching)) {
+
+            matching++;
+        }
+        return matching;
+    }
+
+    @Override
+    public String rewrite(final StringBuilder pending, final boolean last) {
+        char first = oldBase.charAt(0);
+        int length = pending.length();
+
+        StringBuilder output = new StringBuilder(length + 64);
+        int i = 0;
+        boolean complete = true;
+        while (i < length && complete) {
+            char c = pending.charAt(i);
+            if (c == '<') {
+                int end = pending.indexOf(">", i);
+                if (end == -1 && !last && length - i < MAX_TAG_LENGTH) {
+                    // wait for the rest of the tag
+                    complete = false;
+                } else if (end == -1 || end - i >= MAX_TAG_LENGTH) {
+                    output.append(c);
+                    i++;
+                } else {
+                    output.append(rewriteTag(pending.substring(i, end + 1)));
+                    i = end + 1;
+                }
+            } else if (c == first) {
+                int matching = oldBaseMatch(pending, i);
+                if (matching == oldBase.length()) {
+                    output.append(newBase);
+                    i += matching;
+                } else if (!last && i + matching == length) {
+                    // wait for the rest of the old base
+                    complete = false;
+                } else {
+                    output.append(c);
+                    i++;
+                }
+            } else {
+                int next = i + 1;
+                while (next < length && pending.charAt(next) != '<' && pending.charAt(next) != first) {
+                    next++;
+                }
+                output.append(pending, i, next);
+                i = next;
+            }
+        }
+
+        pending.delete(0, i);
+        return output.toString();
+    }
+}
@@ -18,22 +18,20 @@
  */
 package org.apache.syncope.sra.filters;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
-import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.PooledDataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
@@ -42,28 +40,51 @@ import reactor.core.publisher.Mono;
 
 /**
  * Inspired by {@link org.springframework.cloud.gateway.filter.factory.rewrite.ModifyResponseBodyGatewayFilterFactory}.
+ * The response body is modified while streaming, chunk by chunk, via {@link StreamingResponseRewriter}.
  */
 public abstract class ModifyResponseGatewayFilterFactory extends CustomGatewayFilterFactory {
 
     protected static final Logger LOG = LoggerFactory.getLogger(ModifyResponseGatewayFilterFactory.class);
 
+    /**
+     * Rewrites the response body text, chunk by chunk.
+     */
+    @FunctionalInterface
+    public interface BodyRewriter {
+
+        /**
+         * Consumes the given characters and returns their rewritten version; characters which might belong to some
+         * construct still incomplete can be left in {@code pending}, to be consumed with the next chunk.
+         *
+         * @param pending characters received and not consumed yet
+         * @param last whether no more characters are going to be received
+         * @return rewritten text, ready to be sent
+         */
+        String rewrite(StringBuilder pending, boolean last);
+    }
+
     @Override
     public GatewayFilter apply(final Config config) {
         return new InternalModifyResponseGatewayFilter(config);
     }
 
-    protected abstract byte[] modifyResponse(
-            InputStream responseBody,
+    protected abstract BodyRewriter bodyRewriter(
             Config config,
             ServerHttpResponseDecorator decorator,
-            ServerWebExchange exchange)
-            throws IOException;
+            ServerWebExchange exchange);
 
     protected boolean skipCond(final ServerHttpResponseDecorator decorator) {
         LOG.debug("Decorator: {}", decorator);
         return false;
     }
 
+    protected Charset getCharset(final ServerHttpResponseDecorator decorator) {
+        return decorator.getHeaders().getContentType() != null
+                && decorator.getHeaders().getContentType().getCharset() != null
+                ? decorator.getHeaders().getContentType().getCharset()
+                : StandardCharsets.UTF_8;
+    }
+
     protected class InternalModifyResponseGatewayFilter implements GatewayFilter, Ordered {
 
         private final Config config;
@@ -82,60 +103,30 @@ public abstract class ModifyResponseGatewayFilterFactory extends CustomGatewayFi
 
                 @Override
                 public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
-                    return skipCond(this)
-                            ? super.writeWith(body)
-                            : super.writeWith(Flux.from(body).
-                                    collectList().
-                                    filter(list -> !list.isEmpty()).
-                                    map(list -> list.get(0).factory().join(list)).
-                                    doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release).
-                                    map(dataBuffer -> {
-                                        if (dataBuffer.readableByteCount() > 0) {
-                                            LOG.trace("Retaining body in exchange attribute");
-                                            exchange.getAttributes().put(
-                                                    ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR, dataBuffer);
-                                        }
-
-                                        boolean inputCompressed = false;
-                                        if (dataBuffer.readableByteCount() >= 2) {
-                                            byte[] first2 = new byte[2];
-                                            dataBuffer.read(first2, 0, 2);
-                                            dataBuffer.readPosition(0);
-
-                                            inputCompressed = ((first2[0] == (byte) (GZIPInputStream.GZIP_MAGIC))
-                                                    && (first2[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8)));
-                                        }
-
-                                        boolean outputCompressed = false;
-                                        byte[] output;
-                                        try (InputStream is = inputCompressed
-                                                ? new GZIPInputStream(dataBuffer.asInputStream())
-                                                : dataBuffer.asInputStream()) {
-
-                                            outputCompressed = is instanceof GZIPInputStream;
-
-                                            output = modifyResponse(is, config, this, exchange);
-                                        } catch (IOException e) {
-                                            LOG.error("While modifying response", e);
-
-                                            output = new byte[dataBuffer.readableByteCount()];
-                                            dataBuffer.read(output);
-                                        }
-
-                                        if (outputCompressed) {
-                                            try (ByteArrayOutputStream baos = new ByteArrayOutputStream(output.length);
-                                                    GZIPOutputStream gzipos = new GZIPOutputStream(baos)) {
-
-                                                gzipos.write(output);
-                                                gzipos.finish();
-                                                output = baos.toByteArray();
-                                            } catch (IOException e) {
-                                                LOG.error("While GZIP-encoding output", e);
-                                            }
-                                        }
-
-                                        return exchange.getResponse().bufferFactory().wrap(output);
-                                    }));
+                    if (skipCond(this)) {
+                        return super.writeWith(body);
+                    }
+
+                    // body length is going to change
+                    getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+
+                    StreamingResponseRewriter rewriter = new StreamingResponseRewriter(
+                            bodyRewriter(config, this, exchange), getCharset(this));
+                    DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+
+                    return super.writeWith(Flux.from(body).
+                            map(dataBuffer -> {
+                                byte[] input = new byte[dataBuffer.readableByteCount()];
+                                dataBuffer.read(input);
+                                DataBufferUtils.release(dataBuffer);
+
+                                return rewriter.next(input);
+                            }).
+                            concatWith(Mono.fromSupplier(rewriter::last)).
+                            filter(output -> output.length > 0).
+                            map(bufferFactory::wrap).
+                            doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release).
+                            doFinally(signal -> rewriter.release()));
                 }
 
                 @Override
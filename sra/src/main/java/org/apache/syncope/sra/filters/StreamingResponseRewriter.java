@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.filters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies a {@link ModifyResponseGatewayFilterFactory.BodyRewriter} to a response body received as sequence of
+ * chunks, without ever holding the whole body in memory: GZIP-encoded bodies are decompressed and compressed again
+ * incrementally, and characters are decoded incrementally as well.
+ * Instances are stateful, hence meant to process a single response body.
+ */
+public class StreamingResponseRewriter {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(StreamingResponseRewriter.class);
+
+    private static final int GZIP_HEADER_LENGTH = 10;
+
+    private static final int FHCRC = 2;
+
+    private static final int FEXTRA = 4;
+
+    private static final int FNAME = 8;
+
+    private static final int FCOMMENT = 16;
+
+    private final ModifyResponseGatewayFilterFactory.BodyRewriter rewriter;
+
+    private final Charset charset;
+
+    private final CharsetDecoder decoder;
+
+    private final StringBuilder pending = new StringBuilder();
+
+    /**
+     * First bytes received, until it is known whether the body is GZIP-encoded.
+     */
+    private byte[] head = new byte[0];
+
+    private byte[] gzipHeader = new byte[0];
+
+    /**
+     * Trailing bytes of incomplete multi-byte characters.
+     */
+    private byte[] undecoded = new byte[0];
+
+    private Boolean compressed;
+
+    private boolean headerRead;
+
+    private Inflater inflater;
+
+    private ByteArrayOutputStream compressedOutput;
+
+    private GZIPOutputStream gzipOutput;
+
+    private boolean passThrough;
+
+    public StreamingResponseRewriter(
+            final ModifyResponseGatewayFilterFactory.BodyRewriter rewriter,
+            final Charset charset) {
+
+        this.rewriter = rewriter;
+        this.charset = charset;
+        this.decoder = charset.newDecoder().
+                onMalformedInput(CodingErrorAction.REPLACE).
+                onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    private static byte[] concat(final byte[] first, final byte[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * @return length of the GZIP header at the beginning of the given bytes, or -1 if more bytes are needed
+     */
+    private static int gzipHeaderLength(final byte[] bytes) {
+        if (bytes.length < GZIP_HEADER_LENGTH) {
+            return -1;
+        }
+
+        int flags = bytes[3] & 0xff;
+        int length = GZIP_HEADER_LENGTH;
+        if ((flags & FEXTRA) != 0) {
+            if (bytes.length < length + 2) {
+                return -1;
+            }
+            length += 2 + ((bytes[length] & 0xff) | ((bytes[length + 1] & 0xff) << 8));
+        }
+        for (int flag : new int[] { FNAME, FCOMMENT }) {
+            if ((flags & flag) != 0) {
+                while (length < bytes.length && bytes[length] != 0) {
+                    length++;
+                }
+                if (length >= bytes.length) {
+                    return -1;
+                }
+                length++;
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            length += 2;
+        }
+
+        return length <= bytes.length ? length : -1;
+    }
+
+    private byte[] inflate(final byte[] input) throws IOException {
+        byte[] deflated = input;
+        if (!headerRead) {
+            gzipHeader = concat(gzipHeader, input);
+            int headerLength = gzipHeaderLength(gzipHeader);
+            if (headerLength == -1) {
+                return new byte[0];
+            }
+
+            deflated = new byte[gzipHeader.length - headerLength];
+            System.arraycopy(gzipHeader, headerLength, deflated, 0, deflated.length);
+            gzipHeader = new byte[0];
+            headerRead = true;
+        }
+
+        if (inflater.finished()) {
+            // GZIP trailer
+            return new byte[0];
+        }
+
+        ByteArrayOutputStream inflated = new ByteArrayOutputStream(deflated.length * 4);
+        inflater.setInput(deflated);
+        byte[] buffer = new byte[8192];
+        try {
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated.write(buffer, 0, count);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Invalid GZIP data", e);
+        }
+        return inflated.toByteArray();
+    }
+
+    private String decode(final byte[] input, final boolean last) {
+        ByteBuffer in = ByteBuffer.wrap(concat(undecoded, input));
+        CharBuffer out = CharBuffer.allocate((int) (in.remaining() * decoder.maxCharsPerByte()) + 1);
+        decoder.decode(in, out, last);
+        if (last) {
+            decoder.flush(out);
+        }
+
+        undecoded = new byte[in.remaining()];
+        in.get(undecoded);
+
+        return out.flip().toString();
+    }
+
+    private byte[] encode(final String text, final boolean last) throws IOException {
+        byte[] output = text.getBytes(charset);
+        if (gzipOutput == null) {
+            return output;
+        }
+
+        gzipOutput.write(output);
+        if (last) {
+            gzipOutput.finish();
+        } else {
+            gzipOutput.flush();
+        }
+        output = compressedOutput.toByteArray();
+        compressedOutput.reset();
+        return output;
+    }
+
+    private byte[] process(final byte[] input, final boolean last) throws IOException {
+        byte[] bytes = input;
+        if (compressed == null) {
+            head = concat(head, input);
+            if (head.length < 2 && !last) {
+                return new byte[0];
+            }
+
+            compressed = head.length >= 2
+                    && head[0] == (byte) GZIPInputStream.GZIP_MAGIC
+                    && head[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+            if (compressed) {
+                inflater = new Inflater(true);
+                compressedOutput = new ByteArrayOutputStream();
+                gzipOutput = new GZIPOutputStream(compressedOutput, true);
+            }
+
+            bytes = head;
+            head = new byte[0];
+        }
+
+        pending.append(decode(compressed ? inflate(bytes) : bytes, last));
+        return encode(rewriter.rewrite(pending, last), last);
+    }
+
+    private byte[] next(final byte[] input, final boolean last) {
+        if (passThrough) {
+            return input;
+        }
+
+        try {
+            return process(input, last);
+        } catch (IOException e) {
+            if (Boolean.TRUE.equals(compressed)) {
+                // GZIP-encoded bytes were already sent: neither the raw remainder nor the decoded text can follow
+                // them as a valid body
+                LOG.error("While modifying GZIP-encoded response, failing", e);
+                throw new UncheckedIOException(e);
+            }
+
+            LOG.error("While modifying response, sending the rest as-is", e);
+
+            passThrough = true;
+            byte[] rest = concat(pending.toString().getBytes(charset), concat(undecoded, input));
+            pending.setLength(0);
+            undecoded = new byte[0];
+            return rest;
+        }
+    }
+
+    /**
+     * Processes the given chunk of the response body.
+     *
+     * @param input chunk of the response body, as received
+     * @return rewritten bytes, ready to be sent; possibly empty
+     * @throws UncheckedIOException if the response body is GZIP-encoded and found to be corrupted
+     */
+    public byte[] next(final byte[] input) {
+        return next(input, false);
+    }
+
+    /**
+     * Processes whatever was held back, as the response body is complete.
+     *
+     * @return rewritten bytes, ready to be sent; possibly empty
+     * @throws UncheckedIOException if the response body is GZIP-encoded and found to be corrupted
+     */
+    public byte[] last() {
+        try {
+            return next(new byte[0], true);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Releases any resource held; to be invoked also when the response body is not processed until its end.
+     */
+    public void release() {
+        if (inflater != null) {
+            inflater.end();
+        }
+        if (gzipOutput != null) {
+            try {
+                gzipOutput.close();
+            } catch (IOException e) {
+                LOG.debug("While closing GZIP output", e);
+            }
+        }
+    }
+}
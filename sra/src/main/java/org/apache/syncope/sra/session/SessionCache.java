@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+/**
+ * {@link org.springframework.cache.Cache} implementation holding sessions in their {@link SessionCodec} encoded form,
+ * on heap: as sessions are replaced upon each save, holding them in direct buffers would require a new allocation per
+ * save, which is far more expensive than on heap and only reclaimed once the buffer is garbage collected.
+ * Sessions are evicted when expired, according to their own max inactive interval, and when the configured maximum
+ * number of entries is exceeded, starting from the least recently accessed.
+ */
+public class SessionCache extends AbstractValueAdaptingCache implements MeterBinder {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(SessionCache.class);
+
+    /**
+     * How often expired sessions are purged, at most.
+     */
+    protected static final long PURGE_INTERVAL_MILLIS = 60000L;
+
+    /**
+     * Encoded session, with the information needed to evict it without decoding.
+     *
+     * @param data encoded session
+     * @param lastAccessedTime epoch millis of last access to the session
+     * @param expiryTime epoch millis after which the session is expired
+     */
+    protected record Entry(byte[] data, long lastAccessedTime, long expiryTime) {
+
+        protected int size() {
+            return data.length;
+        }
+
+        protected boolean isExpired(final long now) {
+            return expiryTime <= now;
+        }
+    }
+
+    protected final String name;
+
+    protected final int maxEntries;
+
+    protected final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    protected final AtomicLong bytes = new AtomicLong();
+
+    protected final AtomicLong expired = new AtomicLong();
+
+    protected final AtomicLong evicted = new AtomicLong();
+
+    protected final AtomicBoolean purging = new AtomicBoolean();
+
+    protected volatile long lastPurge = System.currentTimeMillis();
+
+    public SessionCache(final String name, final int maxEntries) {
+        super(false);
+        this.name = name;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    protected Entry encode(final MapSession session) {
+        byte[] encoded = SessionCodec.encode(session);
+
+        Duration maxInactiveInterval = session.getMaxInactiveInterval();
+        long expiryTime = maxInactiveInterval.isNegative()
+                ? Long.MAX_VALUE
+                : session.getLastAccessedTime().plus(maxInactiveInterval).toEpochMilli();
+
+        return new Entry(encoded, session.getLastAccessedTime().toEpochMilli(), expiryTime);
+    }
+
+    protected MapSession decode(final Entry entry) {
+        return SessionCodec.decode(entry.data());
+    }
+
+    protected void removed(final Entry entry) {
+        if (entry != null) {
+            bytes.addAndGet(-entry.size());
+        }
+    }
+
+    protected boolean remove(final String key, final Entry entry) {
+        boolean removed = entries.remove(key, entry);
+        if (removed) {
+            removed(entry);
+        }
+        return removed;
+    }
+
+    @Override
+    protected Object lookup(final Object key) {
+        Entry entry = entries.get(key.toString());
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            if (remove(key.toString(), entry)) {
+                expired.incrementAndGet();
+            }
+            return null;
+        }
+
+        try {
+            return decode(entry);
+        } catch (IllegalStateException e) {
+            LOG.error("While decoding session {}, evicting", key, e);
+            remove(key.toString(), entry);
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value == null) {
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            put(key, value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        if (!(value instanceof Session session)) {
+            throw new IllegalArgumentException("Only sessions can be stored, found " + value);
+        }
+
+        Entry entry = encode(session instanceof MapSession mapSession ? mapSession : new MapSession(session));
+        bytes.addAndGet(entry.size());
+        removed(entries.put(key.toString(), entry));
+
+        purge();
+    }
+
+    @Override
+    public void evict(final Object key) {
+        removed(entries.remove(key.toString()));
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        Entry entry = entries.remove(key.toString());
+        removed(entry);
+        return entry != null;
+    }
+
+    @Override
+    public void clear() {
+        entries.keySet().forEach(this::evict);
+    }
+
+    /**
+     * Removes expired sessions, at most once per {@link #PURGE_INTERVAL_MILLIS}, then the least recently accessed
+     * sessions while the maximum number of entries is exceeded.
+     */
+    protected void purge() {
+        long now = System.currentTimeMillis();
+        boolean purgeExpired = now - lastPurge >= PURGE_INTERVAL_MILLIS;
+        if ((!purgeExpired && entries.size() <= maxEntries) || !purging.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            if (purgeExpired) {
+                lastPurge = now;
+                entries.forEach((key, entry) -> {
+                    if (entry.isExpired(now) && remove(key, entry)) {
+                        expired.incrementAndGet();
+                    }
+                });
+            }
+
+            int exceeding = entries.size() - maxEntries;
+            if (exceeding > 0) {
+                // evict some more than needed, not to sort entries again on next put
+                long toEvict = exceeding + maxEntries / 100;
+                entries.entrySet().stream().
+                        sorted(Comparator.comparingLong(e -> e.getValue().lastAccessedTime())).
+                        limit(toEvict).
+                        filter(e -> remove(e.getKey(), e.getValue())).
+                        forEach(e -> evicted.incrementAndGet());
+                LOG.debug("Evicted least recently accessed sessions, {} left", entries.size());
+            }
+        } finally {
+            purging.set(false);
+        }
+    }
+
+    /**
+     * @return all stored, non expired, sessions
+     */
+    public Stream<MapSession> sessions() {
+        return entries.keySet().stream().
+                map(this::lookup).
+                filter(MapSession.class::isInstance).
+                map(MapSession.class::cast);
+    }
+
+    /**
+     * @return number of non expired sessions; expired sessions are still held until purged
+     */
+    public int getCount() {
+        long now = System.currentTimeMillis();
+        return (int) entries.values().stream().filter(entry -> !entry.isExpired(now)).count();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("sra.sessions.count", this, SessionCache::getCount).
+                description("Number of sessions held").
+                register(registry);
+        Gauge.builder("sra.sessions.bytes", this, SessionCache::getBytes).
+                description("Size of encoded sessions held").
+                baseUnit("bytes").
+                register(registry);
+        FunctionCounter.builder("sra.sessions.evictions", expired, AtomicLong::get).
+                description("Number of sessions evicted").
+                tag("cause", "expired").
+                register(registry);
+        FunctionCounter.builder("sra.sessions.evictions", evicted, AtomicLong::get).
+                description("Number of sessions evicted").
+                tag("cause", "size").
+                register(registry);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[name=" + name + ", count=" + getCount() + ", bytes=" + getBytes() + ']';
+    }
+}
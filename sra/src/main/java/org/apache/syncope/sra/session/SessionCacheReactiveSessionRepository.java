@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import java.time.Duration;
+import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveSessionRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Session repository backed by {@link SessionCache}: as sessions are stored encoded, each lookup returns a fresh
+ * instance, which can be modified without affecting the stored one until saved.
+ */
+public class SessionCacheReactiveSessionRepository implements ReactiveSessionRepository<MapSession> {
+
+    protected final SessionCache sessionCache;
+
+    protected final Duration maxIdleTime;
+
+    public SessionCacheReactiveSessionRepository(final SessionCache sessionCache, final Duration maxIdleTime) {
+        this.sessionCache = sessionCache;
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    @Override
+    public Mono<MapSession> createSession() {
+        return Mono.fromSupplier(() -> {
+            MapSession session = new MapSession();
+            session.setMaxInactiveInterval(maxIdleTime);
+            return session;
+        });
+    }
+
+    @Override
+    public Mono<Void> save(final MapSession session) {
+        return Mono.fromRunnable(() -> {
+            if (!session.getId().equals(session.getOriginalId())) {
+                sessionCache.evictIfPresent(session.getOriginalId());
+            }
+            sessionCache.put(session.getId(), session);
+        });
+    }
+
+    @Override
+    public Mono<MapSession> findById(final String id) {
+        return Mono.fromSupplier(() -> sessionCache.get(id, MapSession.class));
+    }
+
+    @Override
+    public Mono<Void> deleteById(final String id) {
+        return Mono.fromRunnable(() -> sessionCache.evictIfPresent(id));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.session.MapSession;
+
+/**
+ * Compact binary encoding of {@link MapSession}: identifier, timestamps and attribute names are written as plain
+ * values, while Java serialization is only used for attribute values.
+ * As for stored sessions, the original identifier of decoded sessions is the same as their identifier.
+ */
+public final class SessionCodec {
+
+    private static final int VERSION = 1;
+
+    public static byte[] encode(final MapSession session) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeByte(VERSION);
+            oos.writeUTF(session.getId());
+            oos.writeLong(session.getCreationTime().toEpochMilli());
+            oos.writeLong(session.getLastAccessedTime().toEpochMilli());
+            oos.writeLong(session.getMaxInactiveInterval().toSeconds());
+
+            oos.writeInt(session.getAttributeNames().size());
+            for (String name : session.getAttributeNames()) {
+                oos.writeUTF(name);
+                oos.writeObject(session.getAttribute(name));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode session " + session.getId(), e);
+        }
+        return baos.toByteArray();
+    }
+
+    public static MapSession decode(final byte[] encoded) {
+        try (ObjectInputStream ois = new ConfigurableObjectInputStream(
+                new ByteArrayInputStream(encoded), SessionCodec.class.getClassLoader())) {
+
+            int version = ois.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported encoding version: " + version);
+            }
+
+            MapSession session = new MapSession(ois.readUTF());
+            session.setCreationTime(Instant.ofEpochMilli(ois.readLong()));
+            session.setLastAccessedTime(Instant.ofEpochMilli(ois.readLong()));
+            session.setMaxInactiveInterval(Duration.ofSeconds(ois.readLong()));
+
+            int attributes = ois.readInt();
+            for (int i = 0; i < attributes; i++) {
+                session.setAttribute(ois.readUTF(), ois.readObject());
+            }
+
+            return session;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Could not decode session", e);
+        }
+    }
+
+    private SessionCodec() {
+        // private constructor for static utility class
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class StreamingResponseRewriterTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingResponseRewriterTest.class);
+
+    private static final String OLD_BASE = "http://localhost:8080/";
+
+    private static final String NEW_BASE = "https://sra.syncope.apache.org/app/";
+
+    private static final String PAGE = "<html><head><link rel=\"stylesheet\" href=\"/main.css\">"
+            + "<script src='/main.js'></script></head><body>"
+            + "<a href=\"/absolute\">absolute link</a> <a href=\"//other.org/x\">protocol-relative link</a> "
+            + "<a href=\"relative\">relative link</a> <IMG SRC=/logo.png alt=\"àèìòù €\"> "
+            + "<a href=\"" + OLD_BASE + "full\">full link</a> see " + OLD_BASE + "text"
+            + "<object data=\"/object.svg\"></object></body></html>";
+
+    private static final String EXPECTED = "<html><head><link rel=\"stylesheet\" href=\""
+            + "https://sra.syncope.apache.org/app/main.css\">"
+            + "<script src='https://sra.syncope.apache.org/app/main.js'></script></head><body>"
+            + "<a href=\"https://sra.syncope.apache.org/app/absolute\">absolute link</a> "
+            + "<a href=\"//other.org/x\">protocol-relative link</a> "
+            + "<a href=\"relative\">relative link</a> "
+            + "<IMG SRC=https://sra.syncope.apache.org/app/logo.png alt=\"àèìòù €\"> "
+            + "<a href=\"" + NEW_BASE + "full\">full link</a> see " + NEW_BASE + "text"
+            + "<object data=\"https://sra.syncope.apache.org/app/object.svg\"></object></body></html>";
+
+    private static LinkRewriter linkRewriter() {
+        return new LinkRewriter(OLD_BASE, NEW_BASE, "https://sra.syncope.apache.org/app", true);
+    }
+
+    private static byte[] rewrite(final byte[] body, final int chunkSize, final Charset charset) {
+        StreamingResponseRewriter rewriter = new StreamingResponseRewriter(linkRewriter(), charset);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int i = 0; i < body.length; i += chunkSize) {
+            byte[] chunk = new byte[Math.min(chunkSize, body.length - i)];
+            System.arraycopy(body, i, chunk, 0, chunk.length);
+            output.writeBytes(rewriter.next(chunk));
+        }
+        output.writeBytes(rewriter.last());
+        return output.toByteArray();
+    }
+
+    private static byte[] gzip(final byte[] bytes) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipos = new GZIPOutputStream(baos)) {
+            gzipos.write(bytes);
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] gunzip(final byte[] bytes) throws IOException {
+        try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return is.readAllBytes();
+        }
+    }
+
+    @Test
+    public void rewriteByChunks() {
+        byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+        for (int chunkSize = 1; chunkSize <= body.length; chunkSize++) {
+            assertEquals(
+                    EXPECTED,
+                    new String(rewrite(body, chunkSize, StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+                    "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void rewriteWithCharset() {
+        Charset charset = Charset.forName("ISO-8859-15");
+        byte[] body = PAGE.getBytes(charset);
+        for (int chunkSize = 1; chunkSize <= 16; chunkSize++) {
+            assertEquals(EXPECTED, new String(rewrite(body, chunkSize, charset), charset));
+        }
+    }
+
+    @Test
+    public void rewriteGzipped() throws IOException {
+        byte[] body = gzip(PAGE.getBytes(StandardCharsets.UTF_8));
+        for (int chunkSize = 1; chunkSize <= body.length; chunkSize += 7) {
+            byte[] output = rewrite(body, chunkSize, StandardCharsets.UTF_8);
+            assertEquals(EXPECTED, new String(gunzip(output), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void unterminatedTag() {
+        String page = "<html><body><a href=\"/absolute\">absolute</a><" + "x".repeat(LinkRewriter.MAX_TAG_LENGTH);
+        String output = new String(
+                rewrite(page.getBytes(StandardCharsets.UTF_8), 1024, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        assertEquals(page.replace("\"/absolute\"", "\"" + NEW_BASE + "absolute\""), output);
+    }
+
+    @Test
+    public void corruptGzipTail() throws IOException {
+        byte[] page = PAGE.getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipos = new GZIPOutputStream(baos, true)) {
+            gzipos.write(page, 0, page.length / 2);
+            gzipos.flush();
+            // final block with reserved type, followed by garbage
+            baos.write(new byte[] { 0x07, 0x13, 0x37, 0x00, (byte) 0xff });
+        }
+        byte[] body = baos.toByteArray();
+
+        StreamingResponseRewriter rewriter = new StreamingResponseRewriter(linkRewriter(), StandardCharsets.UTF_8);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThrows(UncheckedIOException.class, () -> {
+            for (int i = 0; i < body.length; i += 16) {
+                byte[] chunk = new byte[Math.min(16, body.length - i)];
+                System.arraycopy(body, i, chunk, 0, chunk.length);
+                output.writeBytes(rewriter.next(chunk));
+            }
+            output.writeBytes(rewriter.last());
+        });
+        rewriter.release();
+
+        // whatever was sent before failing is GZIP-encoded rewritten text, with no raw bytes mixed in
+        byte[] sent = output.toByteArray();
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(sent, 10, sent.length - 10);
+            byte[] buffer = new byte[8192];
+            int count = inflater.inflate(buffer);
+            String text = new String(buffer, 0, count, StandardCharsets.UTF_8);
+            assertFalse(text.isEmpty());
+            assertTrue(EXPECTED.startsWith(text));
+        } catch (DataFormatException e) {
+            fail(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void replace(final Document doc, final String element, final String attr, final String prefix) {
+        doc.select(element).forEach(link -> {
+            String attrValue = link.attributes().get(attr);
+            if (attrValue.startsWith("/") && !attrValue.startsWith("//")) {
+                link.attr(attr, attrValue.replace(attrValue, prefix + attrValue));
+            }
+        });
+    }
+
+    /**
+     * Former implementation: whole body parsed as DOM, rewritten and serialized again.
+     */
+    private static byte[] rewriteWithDOM(final byte[] body) throws IOException {
+        try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            Document doc = Jsoup.parse(is, StandardCharsets.UTF_8.name(), OLD_BASE);
+            String prefix = "https://sra.syncope.apache.org/app";
+            replace(doc, "a", "href", prefix);
+            replace(doc, "link", "href", prefix);
+            replace(doc, "img", "src", prefix);
+            replace(doc, "script", "src", prefix);
+            replace(doc, "object", "data", prefix);
+
+            return gzip(doc.toString().replace(OLD_BASE, NEW_BASE).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void throughput() throws IOException {
+        StringBuilder page = new StringBuilder("<html><head></head><body>");
+        String row = "<div><a href=\"/absolute\">absolute link</a> <img src=\"/logo.png\"> "
+                + "<a href=\"" + OLD_BASE + "full\">full link</a> <p>Lorem ipsum dolor sit amet</p></div>\n";
+        while (page.length() < 5 * 1024 * 1024) {
+            page.append(row);
+        }
+        page.append("</body></html>");
+        byte[] body = gzip(page.toString().getBytes(StandardCharsets.UTF_8));
+
+        long start = System.nanoTime();
+        byte[] dom = rewriteWithDOM(body);
+        long domMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        byte[] streaming = rewrite(body, 8192, StandardCharsets.UTF_8);
+        long streamingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        String domOutput = new String(gunzip(dom), StandardCharsets.UTF_8);
+        String streamingOutput = new String(gunzip(streaming), StandardCharsets.UTF_8);
+        assertTrue(domOutput.contains("<a href=\"" + NEW_BASE + "absolute\">"));
+        assertTrue(streamingOutput.contains("<a href=\"" + NEW_BASE + "absolute\">"));
+        assertEquals(
+                domOutput.split(NEW_BASE, -1).length,
+                streamingOutput.split(NEW_BASE, -1).length);
+
+        LOG.info("Rewriting {} bytes (GZIP-encoded): DOM {} ms, streaming {} ms",
+                body.length, domMillis, streamingMillis);
+    }
+}
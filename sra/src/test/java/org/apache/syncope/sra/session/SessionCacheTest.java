@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.MapSession;
+
+public class SessionCacheTest {
+
+    private static MapSession session(final Instant lastAccessedTime) {
+        MapSession session = new MapSession();
+        session.setCreationTime(lastAccessedTime.truncatedTo(ChronoUnit.MILLIS));
+        session.setLastAccessedTime(lastAccessedTime.truncatedTo(ChronoUnit.MILLIS));
+        session.setMaxInactiveInterval(Duration.ofMinutes(30));
+        session.setAttribute(SessionUtils.INITIAL_REQUEST_URI, URI.create("http://localhost:8080/protected"));
+        session.setAttribute("list", List.of("one", "two"));
+        return session;
+    }
+
+    @Test
+    public void codec() {
+        MapSession session = session(Instant.now());
+
+        MapSession decoded = SessionCodec.decode(SessionCodec.encode(session));
+        assertEquals(session.getId(), decoded.getId());
+        assertEquals(session.getId(), decoded.getOriginalId());
+        assertEquals(session.getCreationTime(), decoded.getCreationTime());
+        assertEquals(session.getLastAccessedTime(), decoded.getLastAccessedTime());
+        assertEquals(session.getMaxInactiveInterval(), decoded.getMaxInactiveInterval());
+        assertEquals(session.getAttributeNames(), decoded.getAttributeNames());
+        assertEquals(
+                session.<URI>getAttribute(SessionUtils.INITIAL_REQUEST_URI),
+                decoded.getAttribute(SessionUtils.INITIAL_REQUEST_URI));
+        assertEquals(session.<List<String>>getAttribute("list"), decoded.getAttribute("list"));
+    }
+
+    @Test
+    public void repository() {
+        SessionCache cache = new SessionCache("test", 100);
+        SessionCacheReactiveSessionRepository repository =
+                new SessionCacheReactiveSessionRepository(cache, Duration.ofMinutes(10));
+
+        MapSession session = repository.createSession().block();
+        assertEquals(Duration.ofMinutes(10), session.getMaxInactiveInterval());
+        session.setAttribute("key", "value");
+        repository.save(session).block();
+        assertEquals(1, cache.getCount());
+        assertTrue(cache.getBytes() > 0);
+
+        // found sessions are copies, not affecting the stored one until saved
+        MapSession found = repository.findById(session.getId()).block();
+        assertEquals("value", found.getAttribute("key"));
+        found.setAttribute("key", "other");
+        assertEquals("value", repository.findById(session.getId()).block().getAttribute("key"));
+
+        // changing id replaces the stored session
+        String originalId = found.getId();
+        found.changeSessionId();
+        repository.save(found).block();
+        assertNull(repository.findById(originalId).block());
+        assertEquals("other", repository.findById(found.getId()).block().getAttribute("key"));
+        assertEquals(1, cache.getCount());
+
+        repository.deleteById(found.getId()).block();
+        assertNull(repository.findById(found.getId()).block());
+        assertEquals(0, cache.getCount());
+        assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    public void evictExpired() {
+        SessionCache cache = new SessionCache("test", 100);
+
+        MapSession expired = session(Instant.now().minus(Duration.ofHours(1)));
+        cache.put(expired.getId(), expired);
+        MapSession valid = session(Instant.now());
+        cache.put(valid.getId(), valid);
+
+        // expired sessions are not counted, although still held until purged or looked up
+        assertEquals(1, cache.getCount());
+        assertEquals(SessionCodec.encode(expired).length + SessionCodec.encode(valid).length, cache.getBytes());
+
+        assertNull(cache.get(expired.getId(), MapSession.class));
+        assertNotNull(cache.get(valid.getId(), MapSession.class));
+        assertEquals(1, cache.getCount());
+        assertEquals(SessionCodec.encode(valid).length, cache.getBytes());
+    }
+
+    @Test
+    public void evictLeastRecentlyAccessed() {
+        SessionCache cache = new SessionCache("test", 10);
+
+        Instant now = Instant.now();
+        List<MapSession> sessions = IntStream.range(0, 20).
+                mapToObj(i -> session(now.minusSeconds(100 - i))).toList();
+        sessions.forEach(session -> cache.put(session.getId(), session));
+        assertEquals(10, cache.getCount());
+
+        sessions.subList(0, 10).forEach(session -> assertNull(cache.get(session.getId(), MapSession.class)));
+        sessions.subList(10, 20).forEach(session -> assertNotNull(cache.get(session.getId(), MapSession.class)));
+        assertEquals(10, cache.sessions().count());
+    }
+
+    @Test
+    public void metrics() {
+        SessionCache cache = new SessionCache("test", 100);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        MapSession session = session(Instant.now());
+        cache.put(session.getId(), session);
+
+        assertEquals(1, registry.get("sra.sessions.count").gauge().value());
+        assertEquals(cache.getBytes(), registry.get("sra.sessions.bytes").gauge().value());
+
+        cache.evict(session.getId());
+        assertEquals(0, registry.get("sra.sessions.count").gauge().value());
+        assertEquals(0, registry.get("sra.sessions.bytes").gauge().value());
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.wa.bootstrap;
 
+import java.io.Serializable;
+import java.time.Duration;
 import org.apache.syncope.common.lib.SyncopeProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -26,8 +28,93 @@ public class WAProperties extends SyncopeProperties {
 
     private static final long serialVersionUID = 7925827623055998239L;
 
+    public static class Events implements Serializable {
+
+        private static final long serialVersionUID = -3412836520739318541L;
+
+        /**
+         * Maximum number of authentication events waiting to be shipped to Core; when exceeded, events are dropped.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Maximum number of authentication events shipped to Core with a single request.
+         */
+        private int batchSize = 200;
+
+        /**
+         * How long to wait for more authentication events before shipping an incomplete batch.
+         */
+        private Duration flushInterval = Duration.ofSeconds(2);
+
+        /**
+         * How long to wait before contacting Core again, after a failure.
+         */
+        private Duration retryInterval = Duration.ofSeconds(30);
+
+        /**
+         * Directory where authentication events are spooled while Core is unreachable.
+         */
+        private String spoolDir = System.getProperty("java.io.tmpdir");
+
+        /**
+         * Maximum size of the spool file, in bytes; when exceeded, events are dropped.
+         */
+        private long maxSpoolSize = 100L * 1024 * 1024;
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(final int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(final Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public Duration getRetryInterval() {
+            return retryInterval;
+        }
+
+        public void setRetryInterval(final Duration retryInterval) {
+            this.retryInterval = retryInterval;
+        }
+
+        public String getSpoolDir() {
+            return spoolDir;
+        }
+
+        public void setSpoolDir(final String spoolDir) {
+            this.spoolDir = spoolDir;
+        }
+
+        public long getMaxSpoolSize() {
+            return maxSpoolSize;
+        }
+
+        public void setMaxSpoolSize(final long maxSpoolSize) {
+            this.maxSpoolSize = maxSpoolSize;
+        }
+    }
+
     private int contextRefreshDelay = 15;
 
+    private final Events events = new Events();
+
     public int getContextRefreshDelay() {
         return contextRefreshDelay;
     }
@@ -35,4 +122,8 @@ public class WAProperties extends SyncopeProperties {
     public void setContextRefreshDelay(final int contextRefreshDelay) {
         this.contextRefreshDelay = contextRefreshDelay;
     }
+
+    public Events getEvents() {
+        return events;
+    }
 }
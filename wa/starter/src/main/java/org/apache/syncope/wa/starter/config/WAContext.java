@@ -40,6 +40,7 @@ import org.apache.syncope.wa.starter.actuate.SyncopeCoreHealthIndicator;
 import org.apache.syncope.wa.starter.actuate.SyncopeWAInfoContributor;
 import org.apache.syncope.wa.starter.audit.WAAuditTrailManager;
 import org.apache.syncope.wa.starter.events.WAEventRepository;
+import org.apache.syncope.wa.starter.events.WAEventShipper;
 import org.apache.syncope.wa.starter.gauth.WAGoogleMfaAuthCredentialRepository;
 import org.apache.syncope.wa.starter.gauth.WAGoogleMfaAuthTokenRepository;
 import org.apache.syncope.wa.starter.mapping.AccessMapper;
@@ -273,13 +274,19 @@ public class WAContext {
         return CasEventRepositoryFilter.noOp();
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public WAEventShipper waEventShipper(final WARestClient waRestClient, final WAProperties waProperties) {
+        return new WAEventShipper(waRestClient, waProperties.getEvents());
+    }
+
     @Bean
     public CasEventRepository casEventRepository(
-            final WARestClient waRestClient,
+            final WAEventShipper waEventShipper,
             @Qualifier("syncopeWAEventRepositoryFilter")
             final CasEventRepositoryFilter syncopeWAEventRepositoryFilter) {
 
-        return new WAEventRepository(syncopeWAEventRepositoryFilter, waRestClient);
+        return new WAEventRepository(syncopeWAEventRepositoryFilter, waEventShipper);
     }
 
     @Bean
@@ -29,8 +29,6 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.AuditEventTO;
 import org.apache.syncope.common.lib.types.OpEvent;
-import org.apache.syncope.common.rest.api.service.AuditService;
-import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
@@ -43,14 +41,14 @@ public class WAEventRepository extends AbstractCasEventRepository {
 
     private static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
 
-    private final WARestClient waRestClient;
+    private final WAEventShipper shipper;
 
     public WAEventRepository(
             final CasEventRepositoryFilter eventRepositoryFilter,
-            final WARestClient restClient) {
+            final WAEventShipper shipper) {
 
         super(eventRepositoryFilter);
-        this.waRestClient = restClient;
+        this.shipper = shipper;
     }
 
     public void put(final Map<String, String> properties, final String key, final String value) {
@@ -61,11 +59,6 @@ public class WAEventRepository extends AbstractCasEventRepository {
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to store audit record");
-            return null;
-        }
-
         LOG.debug("Saving WA events");
         try {
             Map<String, String> properties = new HashMap<>();
@@ -94,7 +87,7 @@ public class WAEventRepository extends AbstractCasEventRepository {
                     String.valueOf(event.getId()),
                     OpEvent.Outcome.SUCCESS);
             auditEvent.setOpEvent(opEvent);
-            waRestClient.getService(AuditService.class).create(auditEvent);
+            shipper.offer(auditEvent);
         } catch (JsonProcessingException e) {
             LOG.error("During serialization", e);
         }
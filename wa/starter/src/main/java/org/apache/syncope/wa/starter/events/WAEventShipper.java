@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.wa.starter.events;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.apache.syncope.common.lib.SyncopeClientCompositeException;
+import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.to.AuditEventTO;
+import org.apache.syncope.common.rest.api.service.AuditService;
+import org.apache.syncope.wa.bootstrap.WAProperties;
+import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Ships authentication events to Core asynchronously: events are queued into a bounded buffer and sent by a single
+ * shipper, in batches of up to {@link WAProperties.Events#getBatchSize()} events; when the buffer is full, events are
+ * dropped.
+ * While Core is unreachable, batches are appended to a local spool file, which is replayed as soon as Core is back;
+ * batches rejected by Core with a client error (as missing entitlements or invalid events) are not retried but
+ * dropped, so that they cannot block the spool.
+ */
+public class WAEventShipper implements MeterBinder, InitializingBean, DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(WAEventShipper.class);
+
+    protected static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    protected static final String SPOOL_FILE = "syncope-wa-events.spool";
+
+    protected final WARestClient waRestClient;
+
+    protected final WAProperties.Events props;
+
+    protected final BlockingQueue<AuditEventTO> queue;
+
+    protected final Path spool;
+
+    protected final AtomicLong enqueued = new AtomicLong();
+
+    protected final AtomicLong dropped = new AtomicLong();
+
+    protected final AtomicLong shipped = new AtomicLong();
+
+    protected final AtomicLong spooled = new AtomicLong();
+
+    protected final AtomicLong spoolDropped = new AtomicLong();
+
+    protected final AtomicLong rejected = new AtomicLong();
+
+    protected volatile boolean running;
+
+    protected Thread shipper;
+
+    /**
+     * Epoch millis before which Core is not contacted, after a failure; only accessed by the shipper.
+     */
+    protected long retryAt;
+
+    public WAEventShipper(final WARestClient waRestClient, final WAProperties.Events props) {
+        this.waRestClient = waRestClient;
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+        this.spool = Path.of(props.getSpoolDir(), SPOOL_FILE);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // account for the events spooled before last shutdown
+        if (Files.exists(spool)) {
+            try (Stream<String> lines = Files.lines(spool, StandardCharsets.UTF_8)) {
+                spooled.set(lines.filter(line -> !line.isBlank()).count());
+            } catch (IOException e) {
+                LOG.error("While reading {}", spool, e);
+            }
+        }
+
+        running = true;
+        shipper = Thread.ofVirtual().name("wa-event-shipper").start(this::ship);
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (shipper != null) {
+            try {
+                shipper.join(props.getFlushInterval().multipliedBy(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (shipper.isAlive()) {
+                LOG.warn("Event shipper did not terminate in time");
+                shipper.interrupt();
+                return;
+            }
+        }
+
+        // spool whatever could not be handled by the shipper, to be sent at next startup
+        List<AuditEventTO> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spool(remaining);
+        }
+    }
+
+    /**
+     * Queues the given event for shipping, without blocking the caller.
+     *
+     * @param event event to ship
+     * @return whether the event was queued, or rather dropped because the queue is full
+     */
+    public boolean offer(final AuditEventTO event) {
+        if (queue.offer(event)) {
+            enqueued.incrementAndGet();
+            return true;
+        }
+
+        dropped.incrementAndGet();
+        LOG.warn("Event queue is full, dropping event {}", event.getOpEvent());
+        return false;
+    }
+
+    protected void ship() {
+        List<AuditEventTO> batch = new ArrayList<>(props.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEventTO first = queue.poll(props.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (isCoreAvailable()) {
+                        replay();
+                    }
+                } else {
+                    batch.add(first);
+                    queue.drainTo(batch, props.getBatchSize() - 1);
+                    send(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOG.error("Unexpected error while shipping events", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected boolean isCoreAvailable() {
+        return waRestClient.isReady() && System.currentTimeMillis() >= retryAt;
+    }
+
+    /**
+     * Tells whether the given failure means that Core rejected the request, which would fail the same way if retried;
+     * authentication failures, request timeouts and throttling are instead considered transient.
+     *
+     * @param e failure
+     * @return whether the given failure is a client error
+     */
+    protected static boolean isRejected(final Exception e) {
+        if (e instanceof SyncopeClientCompositeException scce) {
+            return !scce.getExceptions().isEmpty()
+                    && scce.getExceptions().stream().allMatch(WAEventShipper::isRejected);
+        }
+
+        Response.StatusType status;
+        if (e instanceof SyncopeClientException sce) {
+            status = sce.getType().getResponseStatus();
+        } else if (e instanceof WebApplicationException wae && wae.getResponse() != null) {
+            status = wae.getResponse().getStatusInfo();
+        } else {
+            return false;
+        }
+
+        return status.getFamily() == Response.Status.Family.CLIENT_ERROR
+                && status.getStatusCode() != Response.Status.UNAUTHORIZED.getStatusCode()
+                && status.getStatusCode() != Response.Status.REQUEST_TIMEOUT.getStatusCode()
+                && status.getStatusCode() != Response.Status.TOO_MANY_REQUESTS.getStatusCode();
+    }
+
+    /**
+     * Sends the given batch to Core.
+     *
+     * @param batch events to send
+     * @return whether the batch was handled, e.g. either shipped or rejected by Core
+     */
+    protected boolean post(final List<AuditEventTO> batch) {
+        try {
+            waRestClient.getService(AuditService.class).bulkCreate(batch);
+            shipped.addAndGet(batch.size());
+            return true;
+        } catch (Exception e) {
+            if (isRejected(e)) {
+                rejected.addAndGet(batch.size());
+                LOG.error("Core rejected {} events, dropping them: {}", batch.size(), batch, e);
+                return true;
+            }
+
+            LOG.warn("Could not ship {} events to Core, will retry in {}",
+                    batch.size(), props.getRetryInterval(), e);
+            retryAt = System.currentTimeMillis() + props.getRetryInterval().toMillis();
+            return false;
+        }
+    }
+
+    protected void send(final List<AuditEventTO> batch) {
+        // spooled events are sent first, to preserve ordering as much as possible
+        if (isCoreAvailable() && replay() && post(batch)) {
+            return;
+        }
+
+        spool(batch);
+    }
+
+    protected void spool(final List<AuditEventTO> batch) {
+        try {
+            if (Files.exists(spool) && Files.size(spool) >= props.getMaxSpoolSize()) {
+                spoolDropped.addAndGet(batch.size());
+                LOG.warn("Event spool {} is full, dropping {} events", spool, batch.size());
+                return;
+            }
+
+            Files.createDirectories(spool.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    spool, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+                write(writer, batch);
+            }
+            spooled.addAndGet(batch.size());
+        } catch (IOException e) {
+            spoolDropped.addAndGet(batch.size());
+            LOG.error("While spooling {} events to {}", batch.size(), spool, e);
+        }
+    }
+
+    protected void write(final BufferedWriter writer, final List<AuditEventTO> batch) throws IOException {
+        for (AuditEventTO event : batch) {
+            writer.write(MAPPER.writeValueAsString(event));
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Reads the next batch of spooled events, skipping the ones which cannot be parsed.
+     */
+    protected List<AuditEventTO> read(final BufferedReader reader) throws IOException {
+        List<AuditEventTO> batch = new ArrayList<>(props.getBatchSize());
+        String line;
+        while (batch.size() < props.getBatchSize() && (line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                try {
+                    batch.add(MAPPER.readValue(line, AuditEventTO.class));
+                } catch (IOException e) {
+                    spooled.decrementAndGet();
+                    LOG.error("Discarding unreadable event spooled in {}: {}", spool, line, e);
+                }
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Sends spooled events to Core, batch by batch; events which could not be sent are kept in the spool.
+     *
+     * @return whether the spool was fully replayed
+     */
+    protected boolean replay() {
+        if (!Files.exists(spool)) {
+            return true;
+        }
+
+        Path remaining = spool.resolveSibling(SPOOL_FILE + ".tmp");
+        boolean complete = true;
+        try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+            List<AuditEventTO> batch = read(reader);
+            while (complete && !batch.isEmpty()) {
+                if (post(batch)) {
+                    spooled.addAndGet(-batch.size());
+                    batch = read(reader);
+                } else {
+                    complete = false;
+
+                    try (BufferedWriter writer = Files.newBufferedWriter(remaining, StandardCharsets.UTF_8)) {
+                        write(writer, batch);
+                        reader.transferTo(writer);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("While replaying events spooled in {}", spool, e);
+            return false;
+        }
+
+        try {
+            if (complete) {
+                Files.delete(spool);
+            } else {
+                Files.move(remaining, spool, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            LOG.error("While updating {}", spool, e);
+        }
+        return complete;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getSpoolSize() {
+        try {
+            return Files.exists(spool) ? Files.size(spool) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("wa.events.queue.depth", this, WAEventShipper::getQueueDepth).
+                description("Number of events waiting to be shipped").
+                register(registry);
+        Gauge.builder("wa.events.spool.size", this, WAEventShipper::getSpoolSize).
+                description("Size of the spool holding events while Core is unreachable").
+                baseUnit("bytes").
+                register(registry);
+        Gauge.builder("wa.events.spooled", spooled, AtomicLong::get).
+                description("Number of spooled events").
+                register(registry);
+        FunctionCounter.builder("wa.events.enqueued", enqueued, AtomicLong::get).
+                description("Number of events queued for shipping").
+                register(registry);
+        FunctionCounter.builder("wa.events.shipped", shipped, AtomicLong::get).
+                description("Number of events shipped to Core").
+                register(registry);
+        FunctionCounter.builder("wa.events.dropped", dropped, AtomicLong::get).
+                description("Number of events dropped").
+                tag("cause", "queue").
+                register(registry);
+        FunctionCounter.builder("wa.events.dropped", spoolDropped, AtomicLong::get).
+                description("Number of events dropped").
+                tag("cause", "spool").
+                register(registry);
+        FunctionCounter.builder("wa.events.dropped", rejected, AtomicLong::get).
+                description("Number of events dropped").
+                tag("cause", "rejected").
+                register(registry);
+    }
+}
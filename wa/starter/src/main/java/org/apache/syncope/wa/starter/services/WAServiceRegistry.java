@@ -18,10 +18,18 @@
  */
 package org.apache.syncope.wa.starter.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.apache.syncope.common.lib.types.ClientAppType;
+import org.apache.syncope.common.lib.wa.WAClientApp;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
@@ -34,14 +42,61 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 
+/**
+ * Registered services are indexed locally by id and name, when loaded: lookups are served from such index, and only
+ * reach Core for services not loaded yet.
+ * Client applications are loaded again from Core whenever pushed, but only those which changed since the previous
+ * load are mapped again to registered services.
+ */
 public class WAServiceRegistry extends AbstractServiceRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(WAServiceRegistry.class);
 
+    private static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    /**
+     * Immutable snapshot of the registered services.
+     *
+     * @param fingerprints serialized client applications, by client app id
+     * @param byId registered services, by id
+     * @param byName registered services, by name
+     * @param services registered services, sorted by evaluation order
+     */
+    protected record Index(
+            Map<Long, String> fingerprints,
+            Map<Long, RegisteredService> byId,
+            Map<String, RegisteredService> byName,
+            List<RegisteredService> services) {
+
+        protected static final Index EMPTY = new Index(Map.of(), Map.of(), Map.of(), List.of());
+
+        protected static Index build(final Map<Long, String> fingerprints, final Map<Long, RegisteredService> byId) {
+            Map<String, RegisteredService> byName = new HashMap<>();
+            byId.values().forEach(service -> byName.putIfAbsent(service.getName(), service));
+
+            return new Index(
+                    Map.copyOf(fingerprints),
+                    Map.copyOf(byId),
+                    Map.copyOf(byName),
+                    byId.values().stream().sorted().toList());
+        }
+    }
+
+    protected static String fingerprint(final WAClientApp clientApp) {
+        try {
+            return MAPPER.writeValueAsString(clientApp);
+        } catch (JsonProcessingException e) {
+            LOG.error("Could not serialize {}, will be mapped again on next load", clientApp.getClientAppTO(), e);
+            return null;
+        }
+    }
+
     protected final WARestClient waRestClient;
 
     protected final RegisteredServiceMapper registeredServiceMapper;
 
+    protected final AtomicReference<Index> index = new AtomicReference<>(Index.EMPTY);
+
     public WAServiceRegistry(
             final WARestClient restClient,
             final RegisteredServiceMapper registeredServiceMapper,
@@ -76,75 +131,129 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
         }
 
         LOG.info("Loading application definitions");
-        return waRestClient.getService(WAClientAppService.class).list().stream().
-                map(registeredServiceMapper::toRegisteredService).
-                filter(Objects::nonNull).
-                toList();
+        List<WAClientApp> clientApps = waRestClient.getService(WAClientAppService.class).list();
+
+        Index current = index.get();
+        Map<Long, String> fingerprints = new HashMap<>();
+        Map<Long, RegisteredService> byId = new HashMap<>();
+        clientApps.forEach(clientApp -> {
+            Long id = clientApp.getClientAppTO().getClientAppId();
+            String fingerprint = fingerprint(clientApp);
+
+            RegisteredService service = fingerprint != null && fingerprint.equals(current.fingerprints().get(id))
+                    ? current.byId().get(id)
+                    : registeredServiceMapper.toRegisteredService(clientApp);
+            if (service != null) {
+                Optional.ofNullable(fingerprint).ifPresent(f -> fingerprints.put(id, f));
+                byId.put(service.getId(), service);
+            }
+        });
+
+        Index updated = Index.build(fingerprints, byId);
+        index.set(updated);
+        LOG.debug("Loaded {} application definitions, {} of which changed",
+                updated.services().size(),
+                fingerprints.entrySet().stream().
+                        filter(e -> !e.getValue().equals(current.fingerprints().get(e.getKey()))).count());
+
+        return updated.services();
     }
 
-    @Override
-    public RegisteredService findServiceById(final long id) {
+    /**
+     * Reads the given client application from Core, then adds the mapped registered service to the index.
+     *
+     * @param reader how to read the client application from Core
+     * @return registered service, or {@code null} if not found
+     */
+    protected RegisteredService fetch(final Supplier<WAClientApp> reader) {
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
         }
 
-        LOG.info("Searching for application definition by id {}", id);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, null));
+        WAClientApp clientApp = reader.get();
+        RegisteredService service = registeredServiceMapper.toRegisteredService(clientApp);
+        if (service != null) {
+            String fingerprint = fingerprint(clientApp);
+            index.updateAndGet(current -> {
+                Map<Long, String> fingerprints = new HashMap<>(current.fingerprints());
+                Optional.ofNullable(fingerprint).
+                        ifPresent(f -> fingerprints.put(clientApp.getClientAppTO().getClientAppId(), f));
+                Map<Long, RegisteredService> byId = new HashMap<>(current.byId());
+                byId.put(service.getId(), service);
+                return Index.build(fingerprints, byId);
+            });
+        }
+        return service;
+    }
+
+    protected static ClientAppType clientAppType(final Class<? extends RegisteredService> clazz) {
+        if (OidcRegisteredService.class.isAssignableFrom(clazz)) {
+            return ClientAppType.OIDCRP;
+        }
+        if (SamlRegisteredService.class.isAssignableFrom(clazz)) {
+            return ClientAppType.SAML2SP;
+        }
+        return ClientAppType.CASSP;
+    }
+
+    @Override
+    public RegisteredService findServiceById(final long id) {
+        return Optional.ofNullable(index.get().byId().get(id)).orElseGet(() -> {
+            LOG.info("Searching for application definition by id {}", id);
+            return fetch(() -> waRestClient.getService(WAClientAppService.class).read(id, null));
+        });
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends RegisteredService> T findServiceById(final long id, final Class<T> clazz) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
+        RegisteredService service = index.get().byId().get(id);
+        if (service == null) {
+            LOG.info("Searching for application definition by id {} and type {}", id, clazz);
+            service = fetch(() -> waRestClient.getService(WAClientAppService.class).read(id, clientAppType(clazz)));
         }
 
-        LOG.info("Searching for application definition by id {} and type {}", id, clazz);
-        if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.OIDCRP));
-        }
-        if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.SAML2SP));
-        }
-        return (T) registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.CASSP));
+        return clazz.isInstance(service) ? clazz.cast(service) : null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends RegisteredService> T findServiceByExactServiceName(final String name, final Class<T> clazz) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
+        RegisteredService service = index.get().byName().get(name);
+        if (service == null) {
+            LOG.info("Searching for application definition by name {} and type {}", name, clazz);
+            service = fetch(() -> waRestClient.getService(WAClientAppService.class).
+                    read(name, clientAppType(clazz)));
         }
 
-        LOG.info("Searching for application definition by name {} and type {}", name, clazz);
-        if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.OIDCRP));
-        }
-        if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.SAML2SP));
-        }
-        return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                getService(WAClientAppService.class).read(name, ClientAppType.CASSP));
+        return clazz.isInstance(service) ? clazz.cast(service) : null;
     }
 
     @Override
     public RegisteredService findServiceByExactServiceName(final String name) {
-        if (!waRestClient.isReady()) {
-            LOG.debug("Syncope client is not yet ready to fetch application definitions");
-            return null;
-        }
+        return Optional.ofNullable(index.get().byName().get(name)).orElseGet(() -> {
+            LOG.info("Searching for application definition by name {}", name);
+            return fetch(() -> waRestClient.getService(WAClientAppService.class).read(name, null));
+        });
+    }
+
+    @Override
+    public RegisteredService findServiceBy(final String id) {
+        return index.get().services().stream().
+                filter(service -> service.matches(id)).
+                findFirst().
+                orElse(null);
+    }
+
+    @Override
+    public RegisteredService findServiceByExactServiceId(final String id) {
+        return index.get().services().stream().
+                filter(service -> Objects.equals(service.getServiceId(), id)).
+                findFirst().
+                orElse(null);
+    }
 
-        LOG.info("Searching for application definition by name {}", name);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(name, null));
+    @Override
+    public long size() {
+        return index.get().services().size();
     }
 }
@@ -313,6 +313,11 @@ public class SyncopeCoreTestingServer implements ApplicationListener<ContextRefr
         public void create(final AuditEventTO auditEvent) {
             // nothing to do
         }
+
+        @Override
+        public void bulkCreate(final List<AuditEventTO> auditEvents) {
+            // nothing to do
+        }
     }
 
     @Autowired
@@ -20,6 +20,9 @@ package org.apache.syncope.wa.starter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collection;
@@ -47,6 +50,8 @@ import org.apache.syncope.common.lib.wa.WAClientApp;
 import org.apache.syncope.common.rest.api.service.AuthModuleService;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
+import org.apache.syncope.wa.starter.services.WAServiceRegistry;
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlan;
 import org.apereo.cas.services.AnyAuthenticationHandlerRegisteredServiceAuthenticationPolicyCriteria;
 import org.apereo.cas.services.ChainingAttributeReleasePolicy;
@@ -64,6 +69,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ConfigurableApplicationContext;
 
 public class WAServiceRegistryTest extends AbstractTest {
 
@@ -152,6 +158,12 @@ public class WAServiceRegistryTest extends AbstractTest {
     @Autowired
     private ContextRefresher contextRefresher;
 
+    @Autowired
+    private RegisteredServiceMapper registeredServiceMapper;
+
+    @Autowired
+    private ConfigurableApplicationContext ctx;
+
     @Test
     public void addClientApp() {
         // 1. start with no client apps defined on mocked Core
@@ -287,4 +299,45 @@ public class WAServiceRegistryTest extends AbstractTest {
 
         assertNotNull(service.getTicketGrantingTicketExpirationPolicy());
     }
+
+    @Test
+    public void localIndex() {
+        SyncopeCoreTestingServer.CLIENT_APPS.clear();
+
+        WAClientApp waClientApp = new WAClientApp();
+        waClientApp.setClientAppTO(buildOIDCRP());
+        addPolicies(waClientApp, false);
+        SyncopeCoreTestingServer.CLIENT_APPS.add(waClientApp);
+        long clientAppId = waClientApp.getClientAppTO().getClientAppId();
+        String name = waClientApp.getClientAppTO().getName();
+
+        WAServiceRegistry registry = new WAServiceRegistry(waRestClient, registeredServiceMapper, ctx, List.of());
+        Collection<RegisteredService> loaded = registry.load();
+        assertEquals(1, loaded.size());
+        RegisteredService service = loaded.iterator().next();
+
+        // 1. lookups are served locally, even if Core is no longer returning the client app
+        SyncopeCoreTestingServer.CLIENT_APPS.clear();
+        assertSame(service, registry.findServiceById(clientAppId));
+        assertSame(service, registry.findServiceById(clientAppId, OidcRegisteredService.class));
+        assertNull(registry.findServiceById(clientAppId, SamlRegisteredService.class));
+        assertSame(service, registry.findServiceByExactServiceName(name));
+        assertSame(service, registry.findServiceBy("uri2"));
+        assertEquals(1, registry.size());
+
+        // 2. unchanged client apps are not mapped again on load
+        SyncopeCoreTestingServer.CLIENT_APPS.add(waClientApp);
+        assertSame(service, registry.load().iterator().next());
+
+        // 3. changed client apps are mapped again on load
+        waClientApp.getClientAppTO().setDescription("Changed OIDC RP application");
+        RegisteredService changed = registry.load().iterator().next();
+        assertNotSame(service, changed);
+        assertEquals("Changed OIDC RP application", changed.getDescription());
+
+        // 4. client apps removed from Core are removed on load
+        SyncopeCoreTestingServer.CLIENT_APPS.clear();
+        assertTrue(registry.load().isEmpty());
+        assertEquals(0, registry.size());
+    }
 }
@@ -18,19 +18,37 @@
  */
 package org.apache.syncope.wa.starter.events;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.AuditEventTO;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.common.rest.api.service.AuditService;
+import org.apache.syncope.wa.bootstrap.WAProperties;
 import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apache.syncope.wa.starter.AbstractTest;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.dao.CasEvent;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class WAEventRepositoryTest extends AbstractTest {
 
@@ -46,12 +64,139 @@ public class WAEventRepositoryTest extends AbstractTest {
         return waRestClient;
     }
 
+    private static WAProperties.Events props(final Path spoolDir) {
+        WAProperties.Events props = new WAProperties.Events();
+        props.setFlushInterval(Duration.ofMillis(100));
+        props.setRetryInterval(Duration.ZERO);
+        props.setSpoolDir(spoolDir.toString());
+        return props;
+    }
+
+    private static AuditEventTO event(final String who) {
+        AuditEventTO event = new AuditEventTO();
+        event.setWho(who);
+        event.setOpEvent(new OpEvent(OpEvent.CategoryType.WA, null, "AUTH", "1", OpEvent.Outcome.SUCCESS));
+        return event;
+    }
+
+    @Test
+    public void saveInternal(final @TempDir Path spoolDir) {
+        WAEventShipper shipper = new WAEventShipper(getWaRestClient(), props(spoolDir));
+        shipper.afterPropertiesSet();
+        try {
+            CasEvent event = new CasEvent(1L, "Auth", "principalId", "creationTime", Map.of("timestamp", "1"));
+            WAEventRepository eventRepository = new WAEventRepository(CasEventRepositoryFilter.noOp(), shipper);
+            eventRepository.saveInternal(event);
+            verify(AUDIT_SERVICE, timeout(5000)).bulkCreate(anyList());
+        } finally {
+            shipper.destroy();
+        }
+    }
+
+    @Test
+    public void dropWhenQueueIsFull(final @TempDir Path spoolDir) {
+        WAProperties.Events props = props(spoolDir);
+        props.setQueueCapacity(1);
+        WAEventShipper shipper = new WAEventShipper(getWaRestClient(), props);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        shipper.bindTo(registry);
+
+        assertTrue(shipper.offer(event("first")));
+        assertFalse(shipper.offer(event("second")));
+
+        assertEquals(1, shipper.getQueueDepth());
+        assertEquals(1, registry.get("wa.events.dropped").tag("cause", "queue").functionCounter().count());
+    }
+
     @Test
-    public void saveInternal() {
-        CasEvent event = new CasEvent(1L, "Auth", "principalId", "creationTime", Map.of("timestamp", "1"));
-        WAEventRepository eventRepository =
-                new WAEventRepository(CasEventRepositoryFilter.noOp(), getWaRestClient());
-        eventRepository.saveInternal(event);
-        verify(AUDIT_SERVICE).create(any(AuditEventTO.class));
+    public void spoolWhileCoreIsUnreachable(final @TempDir Path spoolDir) {
+        WAEventShipper shipper = new WAEventShipper(getWaRestClient(), props(spoolDir));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        shipper.bindTo(registry);
+
+        doThrow(new ProcessingException("Core is down")).doNothing().when(AUDIT_SERVICE).bulkCreate(anyList());
+
+        shipper.afterPropertiesSet();
+        try {
+            shipper.offer(event("first"));
+            shipper.offer(event("second"));
+            shipper.offer(event("third"));
+
+            // first attempt fails, then spooled events are replayed
+            await().atMost(5, TimeUnit.SECONDS).until(
+                    () -> registry.get("wa.events.shipped").functionCounter().count() == 3);
+            assertEquals(0, shipper.getSpoolSize());
+            assertEquals(0, registry.get("wa.events.spooled").gauge().value());
+        } finally {
+            shipper.destroy();
+        }
+    }
+
+    @Test
+    public void isRejected() {
+        assertTrue(WAEventShipper.isRejected(
+                SyncopeClientException.build(ClientExceptionType.DelegatedAdministration)));
+        assertTrue(WAEventShipper.isRejected(
+                SyncopeClientException.build(ClientExceptionType.InvalidEntity)));
+        assertFalse(WAEventShipper.isRejected(new ProcessingException("Core is down")));
+        assertFalse(WAEventShipper.isRejected(new ServiceUnavailableException()));
+    }
+
+    @Test
+    public void dropRejectedFromSpool(final @TempDir Path spoolDir) {
+        WAEventShipper shipper = new WAEventShipper(getWaRestClient(), props(spoolDir));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        shipper.bindTo(registry);
+
+        // first attempt fails, then spooled events are rejected by Core, finally events are accepted
+        doThrow(new ProcessingException("Core is down")).
+                doThrow(SyncopeClientException.build(ClientExceptionType.DelegatedAdministration)).
+                doNothing().when(AUDIT_SERVICE).bulkCreate(anyList());
+
+        shipper.afterPropertiesSet();
+        try {
+            shipper.offer(event("first"));
+            await().atMost(5, TimeUnit.SECONDS).until(
+                    () -> registry.get("wa.events.dropped").tag("cause", "rejected").functionCounter().count() == 1);
+            assertEquals(0, shipper.getSpoolSize());
+
+            // rejected events do not block the ones coming next
+            shipper.offer(event("second"));
+            await().atMost(5, TimeUnit.SECONDS).until(
+                    () -> registry.get("wa.events.shipped").functionCounter().count() == 1);
+            assertEquals(0, shipper.getSpoolSize());
+            assertEquals(0, registry.get("wa.events.spooled").gauge().value());
+        } finally {
+            shipper.destroy();
+        }
+    }
+
+    @Test
+    public void replaySpoolAtStartup(final @TempDir Path spoolDir) {
+        WARestClient waRestClient = getWaRestClient();
+        when(waRestClient.isReady()).thenReturn(Boolean.FALSE);
+
+        // Core is not available, events are spooled at shutdown
+        WAEventShipper shipper = new WAEventShipper(waRestClient, props(spoolDir));
+        shipper.offer(event("first"));
+        shipper.offer(event("second"));
+        shipper.destroy();
+        assertTrue(shipper.getSpoolSize() > 0);
+
+        when(waRestClient.isReady()).thenReturn(Boolean.TRUE);
+        doNothing().when(AUDIT_SERVICE).bulkCreate(anyList());
+
+        shipper = new WAEventShipper(waRestClient, props(spoolDir));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        shipper.bindTo(registry);
+        shipper.afterPropertiesSet();
+        try {
+            await().atMost(5, TimeUnit.SECONDS).until(
+                    () -> registry.get("wa.events.shipped").functionCounter().count() == 2);
+            assertEquals(0, shipper.getSpoolSize());
+            assertEquals(0, registry.get("wa.events.spooled").gauge().value());
+        } finally {
+            shipper.destroy();
+        }
     }
 }